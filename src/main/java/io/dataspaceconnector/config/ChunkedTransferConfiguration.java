@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * This class handles the chunked transfer of artifact data. Consumers request the data of large
+ * artifacts in chunks and keep the received chunks on disk, so that an interrupted transfer
+ * continues where it stopped.
+ */
+@Data
+@Configuration
+public class ChunkedTransferConfiguration {
+    /**
+     * Whether the data of large artifacts is requested in chunks.
+     */
+    @Value("${ids.messages.chunk.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * The size of the requested chunks. Artifacts announced to be larger are requested in chunks.
+     */
+    @Value("${ids.messages.chunk.size:4MB}")
+    private DataSize size;
+
+    /**
+     * The maximum size of a chunk sent to other connectors.
+     */
+    @Value("${ids.messages.chunk.max-size:16MB}")
+    private DataSize maxSize;
+
+    /**
+     * The directory of the received chunks.
+     */
+    @Value("${ids.messages.chunk.directory:${java.io.tmpdir}/dsc-chunks}")
+    private Path directory;
+
+    /**
+     * How long the chunks of an unfinished transfer are kept.
+     */
+    @Value("${ids.messages.chunk.retention:P1D}")
+    private Duration retention;
+
+    /**
+     * How long a provider without support for chunks is not asked again.
+     */
+    @Value("${ids.messages.chunk.unsupported-retry:PT1H}")
+    private Duration unsupportedRetry;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class handles the connection profiles for outgoing ids messages: the number of concurrent
+ * requests and the circuit breaker of a peer. Peers without an own profile use the default
+ * profile. Profiles are keyed by the host or by host and port of the
+ * recipient, e.g. {@code ids.connections.peers[provider.example.com:8080].max-concurrent-requests}.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "ids.connections")
+public class ConnectionProfileConfiguration {
+    /**
+     * The profile of peers without an own profile.
+     */
+    private ConnectionProfile defaults = new ConnectionProfile();
+
+    /**
+     * The profiles by host or by host and port.
+     */
+    private Map<String, ConnectionProfile> peers = new HashMap<>();
+
+    /**
+     * The connection settings of a peer.
+     */
+    @Data
+    public static class ConnectionProfile {
+        /**
+         * The default maximum number of concurrent requests.
+         */
+        private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+
+        /**
+         * The default time a request waits for a free connection slot.
+         */
+        private static final long DEFAULT_ACQUIRE_TIMEOUT_SECONDS = 30;
+
+        /**
+         * The default failure rate in percent opening the circuit breaker.
+         */
+        private static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+        /**
+         * The default number of recent requests the failure rate is calculated of.
+         */
+        private static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+
+        /**
+         * The default number of requests needed before the circuit breaker may open.
+         */
+        private static final int DEFAULT_MINIMUM_REQUESTS = 10;
+
+        /**
+         * The default time the circuit breaker stays open.
+         */
+        private static final long DEFAULT_OPEN_DURATION_SECONDS = 30;
+
+        /**
+         * The default number of probe requests of a half-open circuit breaker.
+         */
+        private static final int DEFAULT_HALF_OPEN_REQUESTS = 2;
+
+        /**
+         * The maximum number of requests sent to the peer at the same time.
+         */
+        private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+        /**
+         * The maximum time a request waits for a free connection slot before it fails.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(DEFAULT_ACQUIRE_TIMEOUT_SECONDS);
+
+        /**
+         * Whether requests fail immediately once too many requests to the peer have failed.
+         */
+        private boolean circuitBreaker = true;
+
+        /**
+         * The failure rate in percent of the recent requests that opens the circuit breaker.
+         */
+        private int failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+        /**
+         * The number of recent requests the failure rate is calculated of.
+         */
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+        /**
+         * The number of recent requests needed before the circuit breaker may open.
+         */
+        private int minimumRequests = DEFAULT_MINIMUM_REQUESTS;
+
+        /**
+         * The time the circuit breaker stays open before probe requests are let through.
+         */
+        private Duration openDuration = Duration.ofSeconds(DEFAULT_OPEN_DURATION_SECONDS);
+
+        /**
+         * The number of probe requests that have to succeed to close the circuit breaker again.
+         */
+        private int halfOpenRequests = DEFAULT_HALF_OPEN_REQUESTS;
+    }
+}
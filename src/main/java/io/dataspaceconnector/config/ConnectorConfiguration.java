@@ -49,4 +49,10 @@ public class ConnectorConfiguration {
      */
     @Value("${policy.framework}")
     private UsageControlFramework ucFramework;
+
+    /**
+     * The public base uri of the connector. If empty, it is derived from the current request.
+     */
+    @Value("${connector.base-uri:}")
+    private URI baseUri;
 }
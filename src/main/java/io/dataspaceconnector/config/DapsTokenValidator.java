@@ -17,7 +17,7 @@ package io.dataspaceconnector.config;
 
 import java.io.Serializable;
 
-import de.fraunhofer.isst.ids.framework.daps.DapsTokenProvider;
+import io.dataspaceconnector.services.ids.DapsTokenCache;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import org.springframework.security.access.PermissionEvaluator;
@@ -31,9 +31,9 @@ import org.springframework.stereotype.Component;
 public final class DapsTokenValidator implements PermissionEvaluator {
 
     /**
-     * Service for providing current DAT.
+     * Cache providing the current DAT.
      */
-    private final @NonNull DapsTokenProvider tokenProvider;
+    private final @NonNull DapsTokenCache tokenCache;
 
     @Override
     public boolean hasPermission(
@@ -56,6 +56,6 @@ public final class DapsTokenValidator implements PermissionEvaluator {
     }
 
     private boolean hasPrivilege() {
-        return tokenProvider.getDAT() != null;
+        return tokenCache.getDat() != null;
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * This class handles the maximum sizes of the payloads of incoming ids messages. The limits are
+ * enforced while the payload is read, so that oversized payloads are rejected before they are
+ * held in memory. Also limits the responses to batch artifact requests, which are assembled in
+ * memory.
+ */
+@Data
+@Configuration
+public class MessagePayloadConfiguration {
+    /**
+     * The maximum size of the contract request in a contract request message.
+     */
+    @Value("${ids.messages.payload.max-size.contract-request:1MB}")
+    private DataSize contractRequest;
+
+    /**
+     * The maximum size of the contract agreement in a contract agreement message.
+     */
+    @Value("${ids.messages.payload.max-size.contract-agreement:1MB}")
+    private DataSize contractAgreement;
+
+    /**
+     * The maximum size of the resource in a resource update message.
+     */
+    @Value("${ids.messages.payload.max-size.resource-update:10MB}")
+    private DataSize resourceUpdate;
+
+    /**
+     * The maximum size of the query input in an artifact request message.
+     */
+    @Value("${ids.messages.payload.max-size.artifact-request:64KB}")
+    private DataSize artifactRequest;
+
+    /**
+     * The maximum number of artifacts answered by one response to a batch artifact request.
+     */
+    @Value("${ids.messages.payload.batch.max-artifacts:100}")
+    private int batchArtifacts;
+
+    /**
+     * The maximum size of the data, before encoding, in one response to a batch artifact
+     * request.
+     */
+    @Value("${ids.messages.payload.batch.max-size:16MB}")
+    private DataSize batchSize;
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the optional second-level cache. Deleting an entity removes it from the entity
+ * cache, but cached collections of other entities (e.g. the resources of a catalog) still
+ * reference it. Since entities are soft-deleted and the {@link org.hibernate.annotations.Where}
+ * clause is not applied when loading by id, these collections would keep returning the deleted
+ * entity. Therefore, all cached collections that may contain a deleted entity are evicted after
+ * the deletion has been committed. The JCache region factory is only configured here, so that
+ * no cache manager is started while the cache is disabled.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache",
+        havingValue = "true")
+@RequiredArgsConstructor
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * The region factory backing the cache.
+     */
+    private static final String REGION_FACTORY = "jcache";
+
+    /**
+     * The entity manager factory backed by hibernate.
+     */
+    private final @NonNull EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Set the region factory of the second-level cache. The bean is static, since the
+     * configuration itself depends on the entity manager factory being customized.
+     *
+     * @return The customizer of the hibernate properties.
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer regionFactoryCustomizer() {
+        return properties -> properties.put(AvailableSettings.CACHE_REGION_FACTORY,
+                REGION_FACTORY);
+    }
+
+    /**
+     * Register the listener evicting cached collections on deletion.
+     */
+    @PostConstruct
+    public void registerEvictionListener() {
+        final var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        final var registry =
+                sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE,
+                new CollectionEvictionListener(sessionFactory));
+
+        if (log.isInfoEnabled()) {
+            log.info("Second-level cache enabled.");
+        }
+    }
+
+    /**
+     * Evicts all cached collections whose elements are of the type of a deleted entity.
+     */
+    @RequiredArgsConstructor
+    static final class CollectionEvictionListener implements PostCommitDeleteEventListener {
+        /**
+         * Serial version uid.
+         **/
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The session factory holding the cache.
+         */
+        private final @NonNull SessionFactoryImplementor sessionFactory;
+
+        /**
+         * The cached collection roles per entity type.
+         */
+        private final Map<Class<?>, Set<String>> roles = new ConcurrentHashMap<>();
+
+        @Override
+        public void onPostDelete(final PostDeleteEvent event) {
+            final var cache = sessionFactory.getCache();
+            for (final var role : getRoles(event.getPersister())) {
+                cache.evictCollectionData(role);
+            }
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(final PostDeleteEvent event) {
+            // Nothing has been deleted, the cached collections are still valid.
+        }
+
+        @Override
+        public boolean requiresPostCommitHanding(final EntityPersister persister) {
+            return !getRoles(persister).isEmpty();
+        }
+
+        private Set<String> getRoles(final EntityPersister persister) {
+            return roles.computeIfAbsent(persister.getMappedClass(), entityClass ->
+                    sessionFactory.getMetamodel().collectionPersisters().values().stream()
+                            .filter(CollectionPersister::hasCache)
+                            .filter(x -> x.getElementType().getReturnedClass()
+                                    .isAssignableFrom(entityClass))
+                            .map(CollectionPersister::getRole)
+                            .collect(Collectors.toSet()));
+        }
+    }
+}
@@ -15,8 +15,19 @@
  */
 package io.dataspaceconnector.controller;
 
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
 import io.dataspaceconnector.controller.resources.ResourceControllers;
+import io.dataspaceconnector.services.EntityResolver;
+import io.dataspaceconnector.services.ids.CatalogStreamWriter;
 import io.dataspaceconnector.services.ids.ConnectorService;
+import io.dataspaceconnector.services.ids.ElementDescriptionCache;
+import io.dataspaceconnector.utils.ControllerUtils;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +38,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -46,6 +59,21 @@ public class MainController {
      */
     private final @NonNull ConnectorService connectorService;
 
+    /**
+     * Service for streaming ids catalogs.
+     */
+    private final @NonNull CatalogStreamWriter catalogWriter;
+
+    /**
+     * Service for resolving elements by their ids.
+     */
+    private final @NonNull EntityResolver entityResolver;
+
+    /**
+     * Cache for the ids descriptions of single elements.
+     */
+    private final @NonNull ElementDescriptionCache descriptionCache;
+
     /**
      * Gets connector self-description without catalogs and resources.
      *
@@ -72,7 +100,52 @@ public class MainController {
             @ApiResponse(responseCode = "500", description = "Internal server error")})
     @ResponseBody
     public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+        return ResponseEntity.ok(connectorService.getSelfDescription());
+    }
+
+    /**
+     * Streams an IDS catalog with all its offered resources. The resources are written page by
+     * page, so that large catalogs are never held in memory as a whole.
+     *
+     * @param catalogId The id of the catalog.
+     * @param response  The http response.
+     * @throws IOException if the catalog could not be written.
+     */
+    @GetMapping(value = "/api/connector/catalogs/{id}", produces = "application/ld+json")
+    @Operation(summary = "IDS catalog with all offered resources")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    public void getCatalog(@Valid @PathVariable(name = "id") final UUID catalogId,
+                           final HttpServletResponse response) throws IOException {
+        response.setContentType("application/ld+json");
+        catalogWriter.write(catalogId, response.getOutputStream());
+    }
+
+    /**
+     * Gets the ids description of a single element (e.g. a catalog or an offered resource). The
+     * response carries the content hash as ETag, so clients can revalidate with If-None-Match.
+     *
+     * @param elementId The id of the element.
+     * @return The description, http not modified, or error response.
+     */
+    @GetMapping(value = "/api/connector/description", produces = "application/ld+json")
+    @Operation(summary = "IDS description of a single element")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "304", description = "Not modified"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    @ResponseBody
+    public ResponseEntity<Object> getElementDescription(
+            @Parameter(description = "The id of the requested element.", required = true)
+            @RequestParam("elementId") final URI elementId) {
+        final var entity = entityResolver.getEntityById(elementId);
+        if (!ElementDescriptionCache.isSupported(entity)) {
+            return ControllerUtils.respondResourceNotFound(elementId);
+        }
+
+        final var description = descriptionCache.get(entity);
+        return ResponseEntity.ok().eTag(description.getHash()).body(description.getRdf());
     }
 
     /**
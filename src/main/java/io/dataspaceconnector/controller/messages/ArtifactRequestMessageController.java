@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.messages;
+
+import io.dataspaceconnector.services.ContractNegotiationService;
+import io.dataspaceconnector.utils.ControllerUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller for sending artifact request messages for artifacts with a negotiated contract.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ids")
+@Tag(name = "IDS Messages", description = "Endpoints for invoke sending IDS messages")
+public class ArtifactRequestMessageController {
+
+    /**
+     * Service for requesting and saving the data of artifacts.
+     */
+    private final @NonNull ContractNegotiationService negotiationService;
+
+    /**
+     * Downloads the data of several artifacts under one transfer contract. Providers supporting
+     * it receive a single artifact request message for all artifacts.
+     *
+     * @param recipient        The recipient.
+     * @param transferContract The transfer contract.
+     * @param artifacts        The ids artifacts to download.
+     * @return The downloaded and the failed artifacts.
+     */
+    @PostMapping("/artifacts")
+    @Operation(summary = "Send ids artifact request messages for several artifacts")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")})
+    @PreAuthorize("hasPermission(#recipient, 'rw')")
+    @ResponseBody
+    public ResponseEntity<Object> sendArtifactRequestMessages(
+            @Parameter(description = "The recipient url.", required = true)
+            @RequestParam("recipient") final URI recipient,
+            @Parameter(description = "The transfer contract.", required = true)
+            @RequestParam("transferContract") final URI transferContract,
+            @Parameter(description = "List of ids artifacts that should be requested.")
+            @RequestBody final List<URI> artifacts) {
+        if (artifacts == null || artifacts.isEmpty()) {
+            return ControllerUtils.respondInvalidInput(
+                    new IllegalArgumentException("No artifacts requested."));
+        }
+
+        try {
+            final var failed = negotiationService.downloadData(recipient, artifacts,
+                    transferContract);
+            final var downloaded = new ArrayList<>(artifacts);
+            downloaded.removeAll(failed);
+
+            return ResponseEntity.ok(Map.of("downloaded", downloaded, "failed", failed));
+        } catch (Exception exception) {
+            return ControllerUtils.respondGlobalException(exception);
+        }
+    }
+}
@@ -16,31 +16,28 @@
 package io.dataspaceconnector.controller.messages;
 
 import javax.persistence.PersistenceException;
-import java.io.IOException;
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.controller.resources.ResourceControllers;
 import io.dataspaceconnector.exceptions.ContractException;
 import io.dataspaceconnector.exceptions.InvalidInputException;
 import io.dataspaceconnector.exceptions.MessageException;
 import io.dataspaceconnector.exceptions.MessageResponseException;
 import io.dataspaceconnector.exceptions.ResourceNotFoundException;
-import io.dataspaceconnector.services.EntityPersistenceService;
-import io.dataspaceconnector.services.EntityUpdateService;
-import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
-import io.dataspaceconnector.services.messages.types.ContractAgreementService;
-import io.dataspaceconnector.services.messages.types.ContractRequestService;
-import io.dataspaceconnector.services.messages.types.DescriptionRequestService;
+import io.dataspaceconnector.exceptions.UnexpectedResponseException;
+import io.dataspaceconnector.services.ContractNegotiationJob;
+import io.dataspaceconnector.services.ContractNegotiationJobService;
+import io.dataspaceconnector.services.ContractNegotiationService;
 import io.dataspaceconnector.services.resources.AgreementService;
 import io.dataspaceconnector.services.usagecontrol.ContractManager;
 import io.dataspaceconnector.utils.ControllerUtils;
-import io.dataspaceconnector.utils.MessageUtils;
 import io.dataspaceconnector.utils.RuleUtils;
 import io.dataspaceconnector.view.AgreementViewAssembler;
+import io.dataspaceconnector.view.LinkFactory;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -49,10 +46,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.hateoas.EntityModel;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -60,6 +60,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
 /**
  * This controller provides the endpoint for sending a contract request message and starting the
  * metadata and data exchange.
@@ -72,29 +75,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class ContractRequestMessageController {
 
     /**
-     * Service for contract request message handling.
-     */
-    private final @NonNull ContractRequestService contractReqSvc;
-
-    /**
-     * Service for artifact request message handling.
-     */
-    private final @NonNull ArtifactRequestService artifactReqSvc;
-
-    /**
-     * Service for description request message handling.
-     */
-    private final @NonNull DescriptionRequestService descReqSvc;
-
-    /**
-     * Service for contract agreement message handling.
+     * Service for running the steps of a contract negotiation.
      */
-    private final @NonNull ContractAgreementService agreementSvc;
+    private final @NonNull ContractNegotiationService negotiationService;
 
     /**
-     * Service for updating database entities.
+     * Service for running contract negotiations in the background.
      */
-    private final @NonNull EntityUpdateService updateService;
+    private final @NonNull ContractNegotiationJobService jobService;
 
     /**
      * Assemblers DTOs for agreements.
@@ -111,11 +99,6 @@ public class ContractRequestMessageController {
      */
     private final @NonNull ContractManager contractManager;
 
-    /**
-     * Service for persisting entities.
-     */
-    private final @NonNull EntityPersistenceService persistenceSvc;
-
     /**
      * Starts a contract, metadata, and data exchange with an external connector.
      *
@@ -123,6 +106,7 @@ public class ContractRequestMessageController {
      * @param resources List of requested resources by IDs.
      * @param artifacts List of requested artifacts by IDs.
      * @param download     Download data directly after successful contract and description request.
+     * @param async        Run the exchange in the background and respond with a job.
      * @param ruleList     List of rules that should be used within a contract request.
      * @return The response entity.
      */
@@ -131,6 +115,7 @@ public class ContractRequestMessageController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ok"),
             @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "202", description = "Accepted"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "417", description = "Expectation failed"),
             @ApiResponse(responseCode = "500", description = "Internal server error")})
@@ -148,94 +133,47 @@ public class ContractRequestMessageController {
             @Parameter(description = "Indicates whether the connector should automatically "
                     + "download data of an artifact.")
             @RequestParam(value = "download") final boolean download,
+            @Parameter(description = "Indicates whether the exchange should run in the "
+                    + "background. The response then links a job that can be polled.")
+            @RequestParam(value = "async", required = false, defaultValue = "false")
+            final boolean async,
             @Parameter(description = "List of ids rules with an artifact id as target.")
             @RequestBody final List<Rule> ruleList) {
         UUID agreementId;
 
-        Map<String, String> response;
         try {
             // Validate input for contract request.
             RuleUtils.validateRuleTarget(ruleList);
             final var request = contractManager.buildContractRequest(ruleList);
 
-            // CONTRACT NEGOTIATION ----------------------------------------------------------------
-            // Send and validate contract request/response message.
-            response = contractReqSvc.sendMessage(recipient, request);
-            if (!contractReqSvc.validateResponse(response)) {
-                // If the response is not a contract agreement message, show the response.
-                final var content = contractReqSvc.getResponseContent(response);
-                return ControllerUtils.respondWithMessageContent(content);
-            }
+            if (async) {
+                final var job = jobService.submit(recipient, request, resources, artifacts,
+                        download);
+                final var model = toModel(job);
 
-            // Read and process the response message.
-            final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
-            final var agreement = contractManager.validateContractAgreement(payload, request);
+                final var headers = new HttpHeaders();
+                headers.setLocation(model.getRequiredLink("self").toUri());
 
-            // Send and validate contract agreement/response message.
-            response = agreementSvc.sendMessage(recipient, agreement);
-            if (!agreementSvc.validateResponse(response)) {
-                // If the response is not a notification message, show the response.
-                final var content = agreementSvc.getResponseContent(response);
-                return ControllerUtils.respondWithMessageContent(content);
+                return new ResponseEntity<>(model, headers, HttpStatus.ACCEPTED);
             }
 
-            // Save contract agreement to database.
-            agreementId = persistenceSvc.saveContractAgreement(agreement);
-            if (log.isDebugEnabled()) {
-                log.debug("Policy negotiation success. Saved agreement. [agreemendId=({})].",
-                        agreementId);
-            }
+            // CONTRACT NEGOTIATION ----------------------------------------------------------------
+            final var negotiation = negotiationService.negotiate(recipient, request);
+            agreementId = negotiation.getAgreementId();
 
             // DESCRIPTION REQUESTS ----------------------------------------------------------------
-            // Iterate over list of resource ids to send description request messages for each.
-            for (final var resource : resources) {
-                // Send and validate description request/response message.
-                response = descReqSvc.sendMessage(recipient, resource);
-                if (!descReqSvc.validateResponse(response)) {
-                    // If the response is not a description response message, show the response.
-                    final var content = descReqSvc.getResponseContent(response);
-                    return ControllerUtils.respondWithMessageContent(content);
-                }
-
-                // Read and process the response message. Save resource, recipient, and agreement
-                // id to database.
-                persistenceSvc.saveMetadata(response, artifacts, download, recipient);
-            }
-
-            updateService.linkArtifactToAgreement(artifacts, agreementId);
+            negotiationService.requestMetadata(recipient, resources, artifacts, download,
+                    agreementId);
 
             // ARTIFACT REQUESTS -------------------------------------------------------------------
             // Download data depending on user input.
             if (download) {
-                // Iterate over list of resource ids to send artifact request messages for each.
-                for (final var artifact : artifacts) {
-                    // Send and validate artifact request/response message.
-                    final var transferContract = agreement.getId();
-                    response = artifactReqSvc.sendMessage(recipient, artifact, transferContract);
-                    if (!artifactReqSvc.validateResponse(response)) {
-                        // If the response is not an artifact response message, show the response.
-                        // Ignore when data could not be downloaded, because the artifact request
-                        // can be triggered later again.
-                        final var content = artifactReqSvc.getResponseContent(response);
-                        if (log.isDebugEnabled()) {
-                            log.debug("Data could not be loaded. [content=({})]", content);
-                        }
-                    }
-
-                    // Read and process the response message.
-                    try {
-                        persistenceSvc.saveData(response, artifact);
-                    } catch (IOException | ResourceNotFoundException
-                             | MessageResponseException e) {
-                        // Ignore that the data saving failed. Another try can take place later.
-                        if (log.isWarnEnabled()) {
-                            log.warn("Could not save data for artifact."
-                                            + "[artifact=({}), exception=({})]",
-                                    artifact, e.getMessage());
-                        }
-                    }
-                }
+                negotiationService.downloadData(recipient, artifacts,
+                        negotiation.getTransferContract());
             }
+        } catch (UnexpectedResponseException exception) {
+            // If the response is not the expected message, show the response.
+            return ControllerUtils.respondWithMessageContent(exception.getContent());
         } catch (InvalidInputException exception) {
             return ControllerUtils.respondInvalidInput(exception);
         } catch (ConstraintViolationException exception) {
@@ -258,4 +196,39 @@ public class ContractRequestMessageController {
 
         return new ResponseEntity<>(entity, headers, HttpStatus.CREATED);
     }
+
+    /**
+     * Gets the state of a contract negotiation running in the background.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException if the job is unknown or has expired.
+     */
+    @GetMapping(value = "/contract/jobs/{id}")
+    @Operation(summary = "Get the state of a contract negotiation job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    @ResponseBody
+    public ResponseEntity<EntityModel<ContractNegotiationJob>> getContractJob(
+            @PathVariable(name = "id") final UUID jobId) {
+        final var job = jobService.get(jobId).orElseThrow(
+                () -> new ResourceNotFoundException("Could not find job " + jobId + "."));
+        return ResponseEntity.ok(toModel(job));
+    }
+
+    private EntityModel<ContractNegotiationJob> toModel(final ContractNegotiationJob job) {
+        final var model = EntityModel.of(job);
+        model.add(linkTo(methodOn(ContractRequestMessageController.class)
+                .getContractJob(job.getId())).withSelfRel());
+
+        final var agreementId = job.getAgreementId();
+        if (agreementId != null) {
+            model.add(LinkFactory.getSelfLink(agreementId,
+                    ResourceControllers.AgreementController.class).withRel("agreement"));
+        }
+
+        return model;
+    }
 }
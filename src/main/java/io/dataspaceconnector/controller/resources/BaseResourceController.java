@@ -15,18 +15,34 @@
  */
 package io.dataspaceconnector.controller.resources;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import javax.validation.Valid;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import io.dataspaceconnector.model.AbstractDescription;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.services.resources.BaseEntityService;
+import io.dataspaceconnector.utils.ErrorMessages;
+import io.dataspaceconnector.utils.SelfLinkHelper;
 import io.dataspaceconnector.utils.Utils;
+import io.dataspaceconnector.view.BatchView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.PagedModel;
@@ -34,7 +50,9 @@ import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -55,6 +73,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class BaseResourceController<T extends AbstractEntity, D extends AbstractDescription<T>, V
         extends RepresentationModel<V>, S
         extends BaseEntityService<T, D>> {
+    /**
+     * The failure reason for elements of a batch chunk that could not be persisted.
+     */
+    private static final String BATCH_FAILED = "Could not persist resource.";
+
+    /**
+     * The failure reason for elements of a batch chunk that were not persisted, because the rest
+     * of the request could not be read.
+     */
+    private static final String BATCH_ABORTED = "Not persisted, the request could not be read.";
+
     /**
      * The service for the resource logic.
      **/
@@ -73,11 +102,28 @@ public class BaseResourceController<T extends AbstractEntity, D extends Abstract
     @Autowired
     private PagedResourcesAssembler<T> pagedAssembler;
 
+    /**
+     * The mapper for reading descriptions from batch requests.
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * The number of elements of a batch request persisted in one transaction.
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
     /**
      * The type of the entity used for creating empty pages.
      */
     private final Class<T> resourceType;
 
+    /**
+     * The type of the description expected in batch requests.
+     */
+    private final Class<D> descType;
+
     /**
      * Default constructor.
      */
@@ -87,6 +133,7 @@ public class BaseResourceController<T extends AbstractEntity, D extends Abstract
                 GenericTypeResolver.resolveTypeArguments(getClass(), BaseResourceController.class);
         assert resolved != null;
         resourceType = (Class<T>) resolved[2];
+        descType = (Class<D>) resolved[1];
     }
 
     /**
@@ -108,6 +155,113 @@ public class BaseResourceController<T extends AbstractEntity, D extends Abstract
         return new ResponseEntity<>(entity, headers, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates a list of new resources. Endpoint for POST requests. The request body is a json
+     * list of resource descriptions. It is read as a stream and persisted in chunks, each chunk in
+     * one transaction.
+     *
+     * @param body The request body.
+     * @return Response with code 201 (Created) if all resources have been created, otherwise
+     * response with code 207 (Multi-Status). The body reports the outcome per list position. If
+     * the body breaks off after a chunk has been persisted, the elements read so far are reported
+     * and the reason is added as error.
+     * @throws IOException if the request body cannot be read or is not a json list, and no
+     * resource has been created.
+     */
+    @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create a list of base resources")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "207", description = "Multi-Status")})
+    public ResponseEntity<BatchView> createAll(final InputStream body) throws IOException {
+        final var view = new BatchView();
+        try (var parser = objectMapper.getFactory().createParser(body)) {
+            requireToken(parser, JsonToken.START_ARRAY);
+
+            final var chunk = new ArrayList<D>();
+            final var positions = new ArrayList<Integer>();
+            var index = 0;
+            try {
+                while (requireNext(parser) != JsonToken.END_ARRAY) {
+                    final var desc = readDescription(parser, String.valueOf(index), view);
+                    if (desc != null) {
+                        chunk.add(desc);
+                        positions.add(index);
+                    }
+                    index++;
+
+                    if (chunk.size() >= batchSize) {
+                        createChunk(chunk, positions, view);
+                    }
+                }
+            } catch (JsonProcessingException exception) {
+                abort(view, exception);
+                positions.forEach(x -> view.getFailed().put(String.valueOf(x), BATCH_ABORTED));
+                return new ResponseEntity<>(view, HttpStatus.MULTI_STATUS);
+            }
+
+            createChunk(chunk, positions, view);
+        }
+
+        return new ResponseEntity<>(view,
+                view.getFailed().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+    }
+
+    /**
+     * Updates a set of resources. Endpoint for PUT requests. The request body is a json object
+     * mapping resource ids to their new descriptions. It is read as a stream and persisted in
+     * chunks, each chunk in one transaction.
+     *
+     * @param body The request body.
+     * @return Response with code 200 (Ok) if all resources have been updated, otherwise response
+     * with code 207 (Multi-Status). The body reports the outcome per resource id. If the body
+     * breaks off after a chunk has been persisted, the elements read so far are reported and the
+     * reason is added as error.
+     * @throws IOException if the request body cannot be read or is not a json object, and no
+     * resource has been updated.
+     */
+    @PutMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update a set of base resources by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "207", description = "Multi-Status")})
+    public ResponseEntity<BatchView> updateAll(final InputStream body) throws IOException {
+        final var view = new BatchView();
+        try (var parser = objectMapper.getFactory().createParser(body)) {
+            requireToken(parser, JsonToken.START_OBJECT);
+
+            final var chunk = new LinkedHashMap<UUID, D>();
+            try {
+                while (requireNext(parser) != JsonToken.END_OBJECT) {
+                    final var key = parser.getCurrentName();
+                    requireNext(parser);
+
+                    final var desc = readDescription(parser, key, view);
+                    if (desc != null) {
+                        try {
+                            chunk.put(UUID.fromString(key), desc);
+                        } catch (IllegalArgumentException exception) {
+                            view.getFailed().put(key, "Invalid id.");
+                        }
+                    }
+
+                    if (chunk.size() >= batchSize) {
+                        updateChunk(chunk, view);
+                    }
+                }
+            } catch (JsonProcessingException exception) {
+                abort(view, exception);
+                chunk.keySet().forEach(x -> view.getFailed().put(x.toString(), BATCH_ABORTED));
+                return new ResponseEntity<>(view, HttpStatus.MULTI_STATUS);
+            }
+
+            updateChunk(chunk, view);
+        }
+
+        return new ResponseEntity<>(view,
+                view.getFailed().isEmpty() ? HttpStatus.OK : HttpStatus.MULTI_STATUS);
+    }
+
     /**
      * Get a list of all resources endpoints of this type.
      * Endpoint for GET requests.
@@ -200,6 +354,122 @@ public class BaseResourceController<T extends AbstractEntity, D extends Abstract
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * Read the next element of a batch request. If the element is no valid description, the
+     * failure is added to the batch view.
+     *
+     * @param parser The parser positioned at the start of the element.
+     * @param key    The key identifying the element in the batch view.
+     * @param view   The batch view.
+     * @return The description or null if the element is invalid.
+     * @throws IOException if the request body cannot be read.
+     */
+    private D readDescription(final JsonParser parser, final String key, final BatchView view)
+            throws IOException {
+        // Read the element as a tree first, so that invalid elements do not break the stream.
+        final var node = objectMapper.readTree(parser);
+        try {
+            final var desc = objectMapper.treeToValue(node, descType);
+            if (desc == null) {
+                view.getFailed().put(key, ErrorMessages.DESC_NULL.toString());
+            }
+
+            return desc;
+        } catch (JsonProcessingException exception) {
+            view.getFailed().put(key, exception.getOriginalMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Persist a chunk of descriptions and report the outcome. The chunk is cleared afterwards.
+     *
+     * @param descs     The descriptions.
+     * @param positions The positions of the descriptions in the request.
+     * @param view      The batch view.
+     */
+    private void createChunk(final List<D> descs, final List<Integer> positions,
+                             final BatchView view) {
+        if (descs.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var result = service.createAll(descs);
+            result.getSucceeded().forEach((i, entity) -> view.getSucceeded()
+                    .put(String.valueOf(positions.get(i)), SelfLinkHelper.getSelfLink(entity)));
+            result.getFailed().forEach((i, reason) -> view.getFailed()
+                    .put(String.valueOf(positions.get(i)), reason));
+        } catch (DataAccessException | TransactionException exception) {
+            // The whole chunk has been rolled back.
+            positions.forEach(x -> view.getFailed().put(String.valueOf(x), BATCH_FAILED));
+        }
+
+        descs.clear();
+        positions.clear();
+    }
+
+    /**
+     * Persist a chunk of updates and report the outcome. The chunk is cleared afterwards.
+     *
+     * @param descs The descriptions mapped by the id of their resource.
+     * @param view  The batch view.
+     */
+    private void updateChunk(final Map<UUID, D> descs, final BatchView view) {
+        if (descs.isEmpty()) {
+            return;
+        }
+
+        try {
+            final var result = service.updateAll(descs);
+            result.getSucceeded().forEach((id, entity) -> view.getSucceeded()
+                    .put(id.toString(), SelfLinkHelper.getSelfLink(entity)));
+            result.getFailed().forEach((id, reason) -> view.getFailed()
+                    .put(id.toString(), reason));
+        } catch (DataAccessException | TransactionException exception) {
+            // The whole chunk has been rolled back.
+            descs.keySet().forEach(x -> view.getFailed().put(x.toString(), BATCH_FAILED));
+        }
+
+        descs.clear();
+    }
+
+    /**
+     * Handle a batch request body that breaks off. Without any persisted element, the request is
+     * rejected as a whole. Otherwise, the reason is added to the batch view, since the persisted
+     * chunks cannot be rolled back anymore.
+     *
+     * @param view      The batch view.
+     * @param exception The reason the body could not be read.
+     * @throws JsonProcessingException if no element has been persisted yet.
+     */
+    private static void abort(final BatchView view, final JsonProcessingException exception)
+            throws JsonProcessingException {
+        if (view.getSucceeded().isEmpty()) {
+            throw exception;
+        }
+
+        view.setError(exception.getOriginalMessage());
+    }
+
+    private static JsonToken requireNext(final JsonParser parser) throws IOException {
+        final var token = parser.nextToken();
+        if (token == null) {
+            throw MismatchedInputException.from(parser, (Class<?>) null,
+                    "Unexpected end of input.");
+        }
+
+        return token;
+    }
+
+    private static void requireToken(final JsonParser parser, final JsonToken expected)
+            throws IOException {
+        if (requireNext(parser) != expected) {
+            throw MismatchedInputException.from(parser, (Class<?>) null,
+                    "Expected " + expected.asString() + ".");
+        }
+    }
+
     /**
      * Get the service responsible for the resource's logic handling.
      *
@@ -17,6 +17,7 @@ package io.dataspaceconnector.controller.resources;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
 import java.util.UUID;
@@ -53,6 +54,7 @@ import io.dataspaceconnector.services.usagecontrol.DataAccessVerifier;
 import io.dataspaceconnector.utils.ValidationUtils;
 import io.dataspaceconnector.view.AgreementView;
 import io.dataspaceconnector.view.ArtifactView;
+import io.dataspaceconnector.view.BatchView;
 import io.dataspaceconnector.view.CatalogView;
 import io.dataspaceconnector.view.ContractRuleView;
 import io.dataspaceconnector.view.ContractView;
@@ -154,6 +156,13 @@ public final class ResourceControllers {
                 final RequestedResourceDesc desc) {
             return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
         }
+
+        @Override
+        @Hidden
+        @ApiResponses(value = {@ApiResponse(responseCode = "405", description = "Not allowed")})
+        public final ResponseEntity<BatchView> createAll(final InputStream body) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
     }
 
     /**
@@ -171,6 +180,13 @@ public final class ResourceControllers {
             return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
         }
 
+        @Override
+        @Hidden
+        @ApiResponses(value = {@ApiResponse(responseCode = "405", description = "Not allowed")})
+        public final ResponseEntity<BatchView> createAll(final InputStream body) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+
         @Override
         @Hidden
         @ApiResponses(value = {@ApiResponse(responseCode = "405", description = "Not allowed")})
@@ -179,6 +195,13 @@ public final class ResourceControllers {
             return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
         }
 
+        @Override
+        @Hidden
+        @ApiResponses(value = {@ApiResponse(responseCode = "405", description = "Not allowed")})
+        public final ResponseEntity<BatchView> updateAll(final InputStream body) {
+            return new ResponseEntity<>(HttpStatus.METHOD_NOT_ALLOWED);
+        }
+
         @Override
         @Hidden
         @ApiResponses(value = {@ApiResponse(responseCode = "405", description = "Not allowed")})
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Thrown to indicate that a message payload exceeds the configured maximum size. Extends
+ * {@link IOException}, as it is thrown while the payload is read.
+ */
+public class PayloadTooLargeException extends IOException {
+    /**
+     * Default serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Construct a PayloadTooLargeException with the specified detail message.
+     *
+     * @param msg The detail message.
+     */
+    public PayloadTooLargeException(final String msg) {
+        super(msg);
+    }
+}
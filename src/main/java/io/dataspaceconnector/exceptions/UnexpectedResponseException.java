@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.exceptions;
+
+import java.util.Map;
+
+/**
+ * Thrown to indicate that another connector responded with an unexpected message (e.g. a
+ * rejection message instead of a contract agreement).
+ */
+public class UnexpectedResponseException extends RuntimeException {
+    /**
+     * Default serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The content of the response message.
+     */
+    private final transient Map<String, Object> content;
+
+    /**
+     * Construct an UnexpectedResponseException with the content of the response message.
+     *
+     * @param responseContent The content of the response message.
+     */
+    public UnexpectedResponseException(final Map<String, Object> responseContent) {
+        super("Received an unexpected response message.");
+        this.content = responseContent;
+    }
+
+    /**
+     * Get the content of the response message.
+     *
+     * @return The content of the response message.
+     */
+    public Map<String, Object> getContent() {
+        return content;
+    }
+}
@@ -20,6 +20,8 @@ import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinTable;
 import javax.persistence.Lob;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
@@ -40,8 +42,10 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  * and usage behaviours.
  */
 @Entity
-@Table(name = "agreement")
-@SQLDelete(sql = "UPDATE agreement SET deleted=true WHERE id=?")
+@Table(name = "agreement", indexes = @Index(name = "idx_agreement_remote_id",
+        columnList = "remote_id, deleted"))
+@SQLDelete(sql = "UPDATE agreement SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -81,5 +85,8 @@ public class Agreement extends AbstractEntity {
      * The artifacts this agreement refers to.
      */
     @ManyToMany
+    @JoinTable(indexes = {
+            @Index(name = "idx_agreement_artifacts_agreement", columnList = "agreements_id"),
+            @Index(name = "idx_agreement_artifacts_artifact", columnList = "artifacts_id")})
     private List<Artifact> artifacts;
 }
@@ -20,6 +20,7 @@ import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
@@ -40,8 +41,10 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  */
 @Inheritance
 @Entity
-@Table(name = "artifact")
-@SQLDelete(sql = "UPDATE artifact SET deleted=true WHERE id=?")
+@Table(name = "artifact", indexes = @Index(name = "idx_artifact_remote_id",
+        columnList = "remote_id, deleted"))
+@SQLDelete(sql = "UPDATE artifact SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
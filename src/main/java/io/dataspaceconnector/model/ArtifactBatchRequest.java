@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of an artifact request message requesting the data of several artifacts under the
+ * same transfer contract.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactBatchRequest {
+
+    /**
+     * The requested artifacts.
+     */
+    private List<URI> artifacts = new ArrayList<>();
+
+    /**
+     * The query input applied to every artifact. Optional.
+     */
+    private QueryInput queryInput;
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * Payload of an artifact response message answering an {@link ArtifactBatchRequest}.
+ */
+@Data
+public class ArtifactBatchResponse {
+
+    /**
+     * The Base64 encoded data by artifact.
+     */
+    private Map<URI, String> data = new LinkedHashMap<>();
+
+    /**
+     * The reasons by artifact for artifacts whose data is not provided.
+     */
+    private Map<URI, String> errors = new LinkedHashMap<>();
+
+    /**
+     * The artifacts left out because the batch limits of the provider were reached. They can
+     * be requested with another message.
+     */
+    private List<URI> skipped = new ArrayList<>();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of an artifact response message containing a byte range of the artifact's data.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArtifactChunkResponse {
+
+    /**
+     * The position of the first byte of the chunk.
+     */
+    private long offset;
+
+    /**
+     * The size of the whole data.
+     */
+    private long total;
+
+    /**
+     * The Base64 encoded bytes of the chunk.
+     */
+    private String data;
+}
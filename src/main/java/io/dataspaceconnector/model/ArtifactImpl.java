@@ -33,7 +33,8 @@ import org.hibernate.annotations.Where;
  * Contains the data kept in an artifact.
  */
 @Entity
-@SQLDelete(sql = "UPDATE artifact SET deleted=true WHERE id=?")
+@SQLDelete(sql = "UPDATE artifact SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -15,10 +15,13 @@
  */
 package io.dataspaceconnector.model;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Entity;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -35,7 +38,10 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "catalog")
-@SQLDelete(sql = "UPDATE catalog SET deleted=true WHERE id=?")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLDelete(sql = "UPDATE catalog SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -61,6 +67,7 @@ public class Catalog extends AbstractEntity {
      * The offered resources grouped by the catalog.
      **/
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<OfferedResource> offeredResources;
 
     /**
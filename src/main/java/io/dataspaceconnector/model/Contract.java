@@ -18,9 +18,12 @@ package io.dataspaceconnector.model;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 
@@ -30,6 +33,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -39,8 +44,12 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  * A contract documents access and usage behaviours.
  */
 @Entity
-@Table(name = "contract")
-@SQLDelete(sql = "UPDATE contract SET deleted=true WHERE id=?")
+@Table(name = "contract", indexes = @Index(name = "idx_contract_remote_id",
+        columnList = "remote_id, deleted"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLDelete(sql = "UPDATE contract SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -95,6 +104,10 @@ public class Contract extends AbstractEntity {
      * The rules used by this contract.
      **/
     @ManyToMany
+    @JoinTable(indexes = {
+            @Index(name = "idx_contract_rules_contract", columnList = "contracts_id"),
+            @Index(name = "idx_contract_rules_rule", columnList = "rules_id")})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<ContractRule> rules;
 
     /**
@@ -17,9 +17,11 @@ package io.dataspaceconnector.model;
 
 import java.net.URI;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Lob;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
@@ -30,6 +32,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -39,8 +43,12 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  * A ContractRule defines a rule that should be enforced.
  */
 @Entity
-@Table(name = "contractrule")
-@SQLDelete(sql = "UPDATE contractrule SET deleted=true WHERE id=?")
+@Table(name = "contractrule", indexes = @Index(name = "idx_contractrule_remote_id",
+        columnList = "remote_id, deleted"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLDelete(sql = "UPDATE contractrule SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
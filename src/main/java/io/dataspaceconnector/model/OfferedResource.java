@@ -28,7 +28,8 @@ import java.util.List;
 /**
  * Describes resources offered by this connector.
  */
-@SQLDelete(sql = "UPDATE resource SET deleted=true WHERE id=?")
+@SQLDelete(sql = "UPDATE resource SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Entity
 @EqualsAndHashCode(callSuper = true)
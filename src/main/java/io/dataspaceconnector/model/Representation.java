@@ -17,9 +17,12 @@ package io.dataspaceconnector.model;
 
 import java.net.URI;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 
@@ -29,6 +32,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -38,8 +43,12 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  * A representation describes how data is presented.
  */
 @Entity
-@Table(name = "representation")
-@SQLDelete(sql = "UPDATE representation SET deleted=true WHERE id=?")
+@Table(name = "representation", indexes = @Index(name = "idx_representation_remote_id",
+        columnList = "remote_id, deleted"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLDelete(sql = "UPDATE representation SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -84,6 +93,10 @@ public class Representation extends AbstractEntity {
      * The artifacts associated with this representation.
      */
     @ManyToMany
+    @JoinTable(indexes = {
+            @Index(name = "idx_representation_artifacts_representation",
+                    columnList = "representations_id"),
+            @Index(name = "idx_representation_artifacts_artifact", columnList = "artifacts_id")})
     private List<Artifact> artifacts;
 
     /**
@@ -36,7 +36,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  * Describes resource requested by this connector.
  */
 @Entity
-@SQLDelete(sql = "UPDATE resource SET deleted=true WHERE id=?")
+@SQLDelete(sql = "UPDATE resource SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
 @Setter(AccessLevel.PACKAGE)
@@ -17,11 +17,14 @@ package io.dataspaceconnector.model;
 
 import java.net.URI;
 import java.util.List;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
+import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 
@@ -32,6 +35,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.Version;
@@ -46,9 +51,13 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
 @Getter
 @Setter(AccessLevel.PACKAGE)
 @EqualsAndHashCode(callSuper = true)
-@SQLDelete(sql = "UPDATE resource SET deleted=true WHERE id=?")
+@SQLDelete(sql = "UPDATE resource SET deleted=true, modified_date=CURRENT_TIMESTAMP "
+        + "WHERE id=?")
 @Where(clause = "deleted = false")
-@Table(name = "resource")
+@Table(name = "resource", indexes = @Index(name = "idx_resource_remote_id",
+        columnList = "remote_id, deleted"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @RequiredArgsConstructor
 public class Resource extends AbstractEntity {
     /**
@@ -115,12 +124,21 @@ public class Resource extends AbstractEntity {
      * The representation available for the resource.
      */
     @ManyToMany
+    @JoinTable(indexes = {
+            @Index(name = "idx_resource_representations_resource", columnList = "resources_id"),
+            @Index(name = "idx_resource_representations_representation",
+                    columnList = "representations_id")})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Representation> representations;
 
     /**
      * The contracts available for the resource.
      */
     @ManyToMany
+    @JoinTable(indexes = {
+            @Index(name = "idx_resource_contracts_resource", columnList = "resources_id"),
+            @Index(name = "idx_resource_contracts_contract", columnList = "contracts_id")})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Contract> contracts;
 
     /**
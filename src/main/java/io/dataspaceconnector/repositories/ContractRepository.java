@@ -17,11 +17,15 @@ package io.dataspaceconnector.repositories;
 
 import java.util.List;
 import java.util.UUID;
+import javax.persistence.QueryHint;
 
 import io.dataspaceconnector.model.Contract;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * The repository containing all objects of type {@link
  * io.dataspaceconnector.model.Catalog}.
@@ -35,6 +39,7 @@ public interface ContractRepository extends BaseEntityRepository<Contract> {
      * @param artifactId ID of the artifact
      * @return list of contracts applicable for the artifact
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT c "
             + "FROM Contract c INNER JOIN OfferedResource o ON c MEMBER OF o.contracts "
             + "INNER JOIN Representation r ON r MEMBER OF o.representations "
@@ -15,7 +15,12 @@
  */
 package io.dataspaceconnector.repositories;
 
+import java.util.UUID;
+
 import io.dataspaceconnector.model.OfferedResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -23,4 +28,24 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface OfferedResourcesRepository extends BaseEntityRepository<OfferedResource> {
+
+    /**
+     * Finds the offered resources of a catalog, ordered by their creation date.
+     *
+     * @param catalogId ID of the catalog
+     * @param pageable  range selection of the resources
+     * @return page of the offered resources of the catalog
+     */
+    @Query(value = "SELECT r "
+            + "FROM OfferedResource r INNER JOIN Catalog c ON r MEMBER OF c.offeredResources "
+            + "WHERE c.id = :catalogId "
+            + "AND r.deleted = false "
+            + "AND c.deleted = false "
+            + "ORDER BY r.creationDate, r.id",
+            countQuery = "SELECT COUNT(r) "
+            + "FROM OfferedResource r INNER JOIN Catalog c ON r MEMBER OF c.offeredResources "
+            + "WHERE c.id = :catalogId "
+            + "AND r.deleted = false "
+            + "AND c.deleted = false")
+    Page<OfferedResource> findAllByCatalogId(UUID catalogId, Pageable pageable);
 }
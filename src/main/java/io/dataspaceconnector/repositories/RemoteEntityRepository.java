@@ -20,6 +20,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -46,4 +48,16 @@ public interface RemoteEntityRepository<T extends AbstractEntity> extends BaseEn
             + "WHERE a.remoteId = :remoteId "
             + "AND a.deleted = false")
     Optional<UUID> identifyByRemoteId(URI remoteId);
+
+    /**
+     * Find all entities with one of the given remote ids.
+     *
+     * @param remoteIds The remote ids.
+     * @return The entities.
+     */
+    @Query("SELECT a "
+            + "FROM #{#entityName} a "
+            + "WHERE a.remoteId IN :remoteIds "
+            + "AND a.deleted = false")
+    List<T> findAllByRemoteIds(Collection<URI> remoteIds);
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import de.fraunhofer.iais.eis.RejectionReason;
+import io.dataspaceconnector.exceptions.MessageResponseException;
+import io.dataspaceconnector.model.ArtifactBatchResponse;
+import io.dataspaceconnector.model.QueryInput;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
+import io.dataspaceconnector.utils.MessageUtils;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Base64Utils;
+
+/**
+ * Requests the data of several artifacts with a single artifact request message. Providers that
+ * do not support batch requests reject the payload as bad parameters, they are remembered for a
+ * while and the caller falls back to single requests.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ArtifactBatchReceiver {
+
+    /**
+     * Used for sending the artifact request message.
+     */
+    private final @NonNull ArtifactRequestService messageService;
+
+    /**
+     * Reads the batch response.
+     */
+    private final @NonNull JsonPayloadMapper payloadMapper;
+
+    /**
+     * Whether batch requests are sent at all.
+     */
+    @Value("${ids.messages.batch.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * How long a provider without batch support is not asked again.
+     */
+    @Value("${ids.messages.batch.unsupported-retry:PT1H}")
+    private Duration unsupportedRetry;
+
+    /**
+     * The providers without batch support and when they have been found to be.
+     */
+    private final Map<String, Instant> unsupported = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a batch request should be sent to the recipient.
+     *
+     * @param recipient The recipient.
+     * @param artifacts The requested artifacts.
+     * @return True if a batch request should be sent.
+     */
+    public boolean isApplicable(final URI recipient, final List<URI> artifacts) {
+        if (!enabled || artifacts.size() < 2) {
+            return false;
+        }
+
+        final var since = unsupported.get(getPeer(recipient));
+        if (since == null) {
+            return true;
+        }
+
+        if (Instant.now().isAfter(since.plus(unsupportedRetry))) {
+            unsupported.remove(getPeer(recipient));
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Requests the data of all artifacts with a single message. Artifacts the provider left out
+     * because of its batch limits are requested with further messages.
+     *
+     * @param recipient        The recipient.
+     * @param artifacts        The requested artifacts.
+     * @param transferContract The contract agreement.
+     * @param queryInput       The query input applied to every artifact.
+     * @return The data by artifact. Artifacts the provider could not provide are missing, all
+     * of them if the request has been rejected for another reason than its payload. Null if the
+     * recipient does not support batch requests.
+     * @throws io.dataspaceconnector.exceptions.MessageException if the message could not be sent.
+     */
+    public Map<URI, byte[]> retrieve(final URI recipient, final List<URI> artifacts,
+                                     final URI transferContract, final QueryInput queryInput) {
+        final var result = new LinkedHashMap<URI, byte[]>();
+        var pending = artifacts;
+        while (!pending.isEmpty()) {
+            final var batch = request(recipient, pending, transferContract, queryInput);
+            if (batch == null) {
+                return pending == artifacts ? null : result;
+            }
+
+            for (final var entry : batch.getData().entrySet()) {
+                if (pending.contains(entry.getKey())) {
+                    result.put(entry.getKey(), Base64Utils.decodeFromString(entry.getValue()));
+                }
+            }
+
+            final var skipped = batch.getSkipped().stream()
+                    .filter(pending::contains).distinct().collect(Collectors.toList());
+            if (skipped.size() == pending.size()) {
+                // The provider did not answer any artifact, asking again would not help.
+                break;
+            }
+
+            pending = skipped;
+        }
+
+        return result;
+    }
+
+    /**
+     * Sends a single batch request.
+     *
+     * @param recipient        The recipient.
+     * @param artifacts        The requested artifacts.
+     * @param transferContract The contract agreement.
+     * @param queryInput       The query input applied to every artifact.
+     * @return The batch response, empty if the request has been rejected for another reason
+     * than its payload. Null if the recipient does not support batch requests.
+     */
+    private ArtifactBatchResponse request(final URI recipient, final List<URI> artifacts,
+                                          final URI transferContract,
+                                          final QueryInput queryInput) {
+        final var response = messageService.sendBatchMessage(recipient, artifacts,
+                transferContract, queryInput);
+        if (!messageService.validateResponse(response)) {
+            final var reason = getRejectionReason(response);
+            if (RejectionReason.BAD_PARAMETERS.equals(reason)) {
+                // Providers without batch support reject the unknown payload.
+                if (log.isDebugEnabled()) {
+                    log.debug("Batch request payload rejected. [recipient=({})]", recipient);
+                }
+                markUnsupported(recipient);
+                return null;
+            }
+
+            // Any other rejection, e.g. a missing authorization, would hit single requests too.
+            if (log.isWarnEnabled()) {
+                log.warn("Batch request rejected. [recipient=({}), reason=({})]", recipient,
+                        reason);
+            }
+            return new ArtifactBatchResponse();
+        }
+
+        final ArtifactBatchResponse batch;
+        try {
+            final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
+            batch = payloadMapper.read(payload, ArtifactBatchResponse.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            // Providers without batch support answer with the data of the first artifact.
+            if (log.isDebugEnabled()) {
+                log.debug("Received no batch response. [recipient=({}), exception=({})]",
+                        recipient, e.getMessage());
+            }
+            markUnsupported(recipient);
+            return null;
+        }
+
+        if (log.isDebugEnabled() && !batch.getErrors().isEmpty()) {
+            log.debug("Some artifacts of the batch request could not be provided. "
+                    + "[errors=({})]", batch.getErrors());
+        }
+
+        return batch;
+    }
+
+    private RejectionReason getRejectionReason(final Map<String, String> response) {
+        try {
+            final var reason = messageService.getResponseContent(response).get("reason");
+            return reason instanceof RejectionReason ? (RejectionReason) reason : null;
+        } catch (MessageResponseException | IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not read the rejection. [exception=({})]", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private void markUnsupported(final URI recipient) {
+        unsupported.put(getPeer(recipient), Instant.now());
+        if (log.isInfoEnabled()) {
+            log.info("Provider does not support batch artifact requests. Falling back to "
+                    + "single requests. [recipient=({})]", recipient);
+        }
+    }
+
+    private static String getPeer(final URI recipient) {
+        final var authority = recipient.getAuthority();
+        return authority == null ? recipient.toString() : authority.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import io.dataspaceconnector.config.ChunkedTransferConfiguration;
+import io.dataspaceconnector.model.ArtifactChunkResponse;
+import io.dataspaceconnector.model.QueryInput;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Base64Utils;
+
+/**
+ * Provides byte ranges of artifact data for chunked transfers. The data is read once per
+ * transfer and kept in a file, every chunk reads only its range from that file. A transfer
+ * starts with the chunk at offset 0, which reads the data again, so that a new transfer always
+ * gets the current data. Files of transfers that have not been continued within the retention
+ * period are removed.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ArtifactDataSpool {
+
+    /**
+     * The subdirectory of the spooled data.
+     */
+    private static final String SPOOL_DIRECTORY = "spool";
+
+    /**
+     * Used for reading the data of the artifacts.
+     */
+    private final @NonNull EntityResolver entityResolver;
+
+    /**
+     * Identifies transfers with query inputs.
+     */
+    private final @NonNull JsonPayloadMapper payloadMapper;
+
+    /**
+     * The chunk settings.
+     */
+    private final @NonNull ChunkedTransferConfiguration config;
+
+    /**
+     * The spooled data by transfer.
+     */
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Remove files left over from a previous run.
+     */
+    @PostConstruct
+    public void init() {
+        deleteAll(getDirectory());
+    }
+
+    /**
+     * Remove the spooled data.
+     */
+    @PreDestroy
+    public void shutdown() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        deleteAll(getDirectory());
+    }
+
+    /**
+     * Read a byte range of the data of an artifact.
+     *
+     * @param artifact         The requested artifact.
+     * @param transferContract The transfer contract.
+     * @param issuer           The connector requesting the data.
+     * @param queryInput       The query input. May be null.
+     * @param offset           The position of the first byte.
+     * @param length           The maximum number of bytes.
+     * @return The chunk.
+     * @throws IOException if the data could not be read.
+     */
+    public ArtifactChunkResponse read(final URI artifact, final URI transferContract,
+                                      final URI issuer, final QueryInput queryInput,
+                                      final long offset, final int length) throws IOException {
+        final var key = getKey(artifact, transferContract, issuer, queryInput);
+
+        final Entry entry;
+        synchronized (entries) {
+            removeExpired();
+
+            final var existing = entries.get(key);
+            if (existing == null || offset == 0) {
+                if (existing != null) {
+                    delete(existing.getFile());
+                }
+                entry = new Entry(getDirectory().resolve(UUID.randomUUID() + ".data"));
+                entries.put(key, entry);
+            } else {
+                entry = existing;
+            }
+            entry.touch();
+        }
+
+        synchronized (entry) {
+            if (entry.getTotal() < 0) {
+                spool(entry, artifact, queryInput);
+            }
+
+            final var bytes = readRange(entry, offset, length);
+            if (offset + bytes.length >= entry.getTotal()) {
+                // The last chunk has been read. A retry of it reads the data again.
+                synchronized (entries) {
+                    entries.remove(key, entry);
+                }
+                delete(entry.getFile());
+            }
+
+            return new ArtifactChunkResponse(offset, entry.getTotal(),
+                    Base64Utils.encodeToString(bytes));
+        }
+    }
+
+    private void spool(final Entry entry, final URI artifact, final QueryInput queryInput)
+            throws IOException {
+        Files.createDirectories(getDirectory());
+        try (var data = entityResolver.getDataByArtifactId(artifact, queryInput)) {
+            Files.copy(data, entry.getFile(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        entry.setTotal(Files.size(entry.getFile()));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Spooled data for chunked transfer. [artifact=({}), size=({})]",
+                    artifact, entry.getTotal());
+        }
+    }
+
+    private static byte[] readRange(final Entry entry, final long offset, final int length)
+            throws IOException {
+        if (offset >= entry.getTotal()) {
+            return new byte[0];
+        }
+
+        final var size = (int) Math.min(length, entry.getTotal() - offset);
+        final var buffer = ByteBuffer.allocate(size);
+        try (var channel = FileChannel.open(entry.getFile(), StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    break;
+                }
+            }
+        }
+
+        final var bytes = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private void removeExpired() {
+        final var expired = Instant.now().minus(config.getRetention());
+        for (final var key : new ArrayList<>(entries.keySet())) {
+            final var entry = entries.get(key);
+            if (entry.getLastAccess().isBefore(expired)) {
+                entries.remove(key);
+                delete(entry.getFile());
+            }
+        }
+    }
+
+    private String getKey(final URI artifact, final URI transferContract, final URI issuer,
+                          final QueryInput queryInput) throws IOException {
+        final var key = artifact + "|" + transferContract + "|" + issuer + "|"
+                + (queryInput == null ? "" : payloadMapper.write(queryInput));
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private Path getDirectory() {
+        return config.getDirectory().resolve(SPOOL_DIRECTORY);
+    }
+
+    private void deleteAll(final Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (var files = Files.list(directory)) {
+            files.forEach(this::delete);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to clean up spooled data. [directory=({}), exception=({})]",
+                        directory, exception.getMessage());
+            }
+        }
+    }
+
+    private void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to delete file. [file=({}), exception=({})]", file,
+                        exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The spooled data of a transfer.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry {
+        /**
+         * The file holding the data.
+         */
+        private final Path file;
+
+        /**
+         * The size of the data. Negative until the data has been spooled.
+         */
+        @Setter
+        private volatile long total = -1;
+
+        /**
+         * The time of the last chunk request.
+         */
+        private volatile Instant lastAccess = Instant.now();
+
+        /**
+         * Record a chunk request.
+         */
+        private void touch() {
+            lastAccess = Instant.now();
+        }
+    }
+}
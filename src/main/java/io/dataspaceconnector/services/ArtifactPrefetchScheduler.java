@@ -0,0 +1,295 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.model.AgreementFactory;
+import io.dataspaceconnector.services.ids.DeserializationService;
+import io.dataspaceconnector.services.messages.ProviderRequestExecutor;
+import io.dataspaceconnector.services.resources.AgreementService;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.usagecontrol.PolicyPattern;
+import io.dataspaceconnector.utils.ContractUtils;
+import io.dataspaceconnector.utils.RuleUtils;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically refreshes the data of artifacts marked for automated download, so that local
+ * data requests read the stored data instead of requesting it from the provider. Only artifacts
+ * of confirmed agreements are refreshed, and only while the agreement permits using them. The
+ * requests share the connection slots of the providers with all other outgoing messages.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class ArtifactPrefetchScheduler {
+
+    /**
+     * Service for artifacts.
+     */
+    private final @NonNull ArtifactService artifactService;
+
+    /**
+     * Service for agreements.
+     */
+    private final @NonNull AgreementService agreementService;
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * Requests the data from the providers.
+     */
+    private final @NonNull BlockingArtifactReceiver artifactReceiver;
+
+    /**
+     * Sends the requests to a provider concurrently.
+     */
+    private final @NonNull ProviderRequestExecutor requestExecutor;
+
+    /**
+     * Used for reading the agreements in a read-only transaction.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * Whether the data is refreshed in the background.
+     */
+    @Value("${artifact.prefetch.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * The time refreshed data is considered up to date.
+     */
+    @Value("${artifact.prefetch.max-age:PT15M}")
+    private Duration maxAge;
+
+    /**
+     * Periodically refreshes the data of all artifacts marked for automated download.
+     */
+    @Scheduled(initialDelayString = "${artifact.prefetch.initial-delay:PT1M}",
+            fixedDelayString = "${artifact.prefetch.interval:PT5M}")
+    public void schedule() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            prefetch();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (Exception exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to prefetch artifacts. [exception=({})]",
+                        exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the data of all artifacts marked for automated download whose prefetched data
+     * has expired.
+     *
+     * @return The number of refreshed artifacts.
+     * @throws InterruptedException if the scheduler has been interrupted while waiting.
+     */
+    public int prefetch() throws InterruptedException {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        final var targets = template.execute(status -> findTargets());
+        if (targets == null || targets.isEmpty()) {
+            return 0;
+        }
+
+        final var byRecipient = targets.stream().collect(Collectors.groupingBy(
+                Target::getRecipient, LinkedHashMap::new, Collectors.toList()));
+
+        var refreshed = 0;
+        for (final var entry : byRecipient.entrySet()) {
+            final var tasks = new ArrayList<Callable<Boolean>>();
+            for (final var target : entry.getValue()) {
+                tasks.add(() -> prefetch(target));
+            }
+
+            for (final var result : requestExecutor.invokeAll(entry.getKey(), tasks)) {
+                try {
+                    if (result.get()) {
+                        refreshed++;
+                    }
+                } catch (ExecutionException exception) {
+                    // Already logged by the task.
+                }
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Prefetched artifacts. [refreshed=({}), candidates=({})]",
+                    refreshed, targets.size());
+        }
+
+        return refreshed;
+    }
+
+    /**
+     * Collects the artifacts to refresh together with an agreement permitting their use.
+     *
+     * @return The artifacts to refresh.
+     */
+    private List<Target> findTargets() {
+        final var targets = new LinkedHashMap<UUID, Target>();
+        for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
+            if (!isActive(agreement)) {
+                continue;
+            }
+
+            final List<Rule> rules;
+            try {
+                rules = ContractUtils.extractRulesFromContract(
+                        deserializationService.getContractAgreement(agreement.getValue()));
+            } catch (IllegalArgumentException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not read agreement. [agreementId=({}), exception=({})]",
+                            agreement.getId(), exception.getMessage());
+                }
+                continue;
+            }
+
+            for (final var artifact : agreement.getArtifacts()) {
+                if (!artifact.isAutomatedDownload()
+                        || targets.containsKey(artifact.getId())
+                        || artifactService.isPrefetched(artifact.getId())
+                        || !isUsable(rules, artifact.getRemoteId())) {
+                    continue;
+                }
+
+                targets.put(artifact.getId(), new Target(artifact.getId(),
+                        artifact.getRemoteAddress(), agreement.getRemoteId()));
+            }
+        }
+
+        return new ArrayList<>(targets.values());
+    }
+
+    private static boolean isActive(final Agreement agreement) {
+        return agreement.isConfirmed() && !agreement.isArchived()
+                && !AgreementFactory.DEFAULT_REMOTE_ID.equals(agreement.getRemoteId());
+    }
+
+    /**
+     * Checks if the rules of an agreement permit using an artifact now.
+     *
+     * @param rules  The rules of the agreement.
+     * @param target The artifact id at provider side.
+     * @return False if the artifact is prohibited or outside of its usage interval.
+     */
+    private static boolean isUsable(final List<Rule> rules, final URI target) {
+        for (final var rule : rules) {
+            if (!target.equals(rule.getTarget())) {
+                continue;
+            }
+
+            final var pattern = getPattern(rule);
+            if (pattern == PolicyPattern.PROHIBIT_ACCESS) {
+                return false;
+            } else if (pattern == PolicyPattern.USAGE_DURING_INTERVAL && !isInInterval(rule)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static PolicyPattern getPattern(final Rule rule) {
+        try {
+            return RuleUtils.getPatternByRule(rule);
+        } catch (IndexOutOfBoundsException exception) {
+            // Rules with empty constraint lists do not match any pattern.
+            return null;
+        }
+    }
+
+    private static boolean isInInterval(final Rule rule) {
+        try {
+            final var interval = RuleUtils.getTimeInterval(rule);
+            final var current = RuleUtils.getCurrentDate();
+            return current.isAfter(interval.getStart()) && current.isBefore(interval.getEnd());
+        } catch (ParseException | NullPointerException exception) {
+            return false;
+        }
+    }
+
+    private boolean prefetch(final Target target) throws Exception {
+        try {
+            final var data = artifactReceiver.retrieve(target.getArtifactId(),
+                    target.getRecipient(), target.getTransferContract());
+            artifactService.setData(target.getArtifactId(), data,
+                    ZonedDateTime.now().plus(maxAge));
+            return true;
+        } catch (Exception exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to prefetch artifact. [artifactId=({}), exception=({})]",
+                        target.getArtifactId(), exception.getMessage());
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * An artifact to refresh.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Target {
+        /**
+         * The id of the artifact.
+         */
+        private final UUID artifactId;
+
+        /**
+         * The provider's address for artifact request messages.
+         */
+        private final URI recipient;
+
+        /**
+         * The agreement used for the artifact request.
+         */
+        private final URI transferContract;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+
+import io.dataspaceconnector.config.ConnectorConfiguration;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Resolves the public base uri of the connector, which prefixes the ids of all objects the
+ * connector publishes (e.g. resources in the self-description or contract agreements).
+ */
+@Service
+@RequiredArgsConstructor
+public class BaseUriService {
+
+    /**
+     * The connector configuration.
+     */
+    private final @NonNull ConnectorConfiguration connectorConfig;
+
+    /**
+     * Get the public base uri. If none is configured, it is derived from the current request.
+     * Resolve it once and pass it on, instead of resolving it for every object.
+     *
+     * @return The base uri without trailing slash.
+     * @throws IllegalStateException if no base uri is configured and there is no request.
+     */
+    public URI getBaseUri() {
+        if (isConfigured()) {
+            final var configured = connectorConfig.getBaseUri();
+            final var value = configured.toString();
+            return value.endsWith("/")
+                    ? URI.create(value.substring(0, value.length() - 1)) : configured;
+        }
+
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            throw new IllegalStateException("No request to derive the base uri from. Set "
+                    + "connector.base-uri to build ids objects outside of requests.");
+        }
+
+        return URI.create(ServletUriComponentsBuilder.fromCurrentContextPath().toUriString());
+    }
+
+    /**
+     * Check if a base uri is configured. The empty default of connector.base-uri is bound to an
+     * empty uri, which counts as not configured.
+     *
+     * @return True if a base uri is configured.
+     */
+    public boolean isConfigured() {
+        final var configured = connectorConfig.getBaseUri();
+        return configured != null && !configured.toString().isBlank();
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.services;
 
+import io.dataspaceconnector.exceptions.MessageException;
 import io.dataspaceconnector.exceptions.PolicyRestrictionException;
 import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
@@ -28,6 +29,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Base64Utils;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.UUID;
@@ -51,6 +53,11 @@ public class BlockingArtifactReceiver implements ArtifactRetriever {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * Used for requesting the data of large artifacts in chunks.
+     */
+    private final @NonNull ChunkedArtifactReceiver chunkedReceiver;
+
     /**
      * {@inheritDoc}
      */
@@ -68,6 +75,18 @@ public class BlockingArtifactReceiver implements ArtifactRetriever {
                                 final URI transferContract, final QueryInput queryInput)
             throws PolicyRestrictionException {
         final var artifact = artifactService.get(artifactId);
+        if (chunkedReceiver.isApplicable(recipient, artifact.getRemoteId())) {
+            try {
+                final var data = chunkedReceiver.retrieve(recipient, artifact.getRemoteId(),
+                        transferContract, queryInput);
+                if (data != null) {
+                    return data;
+                }
+            } catch (IOException exception) {
+                throw new MessageException("Failed to receive the data in chunks.", exception);
+            }
+        }
+
         final var response = messageService.sendMessage(recipient,
                 artifact.getRemoteId(), transferContract, queryInput);
         if (!messageService.validateResponse(response)) {
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.dataspaceconnector.config.ChunkedTransferConfiguration;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.model.ArtifactChunkRequest;
+import io.dataspaceconnector.model.ArtifactChunkResponse;
+import io.dataspaceconnector.model.QueryInput;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.utils.MessageUtils;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Base64Utils;
+
+/**
+ * Requests the data of large artifacts in chunks. Received chunks are appended to a file, so that
+ * an interrupted transfer continues at the end of the file the next time the data is requested.
+ * The complete data is verified against the checksum announced by the provider. Providers that
+ * do not support chunks are remembered for a while and the caller falls back to a single request.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ChunkedArtifactReceiver {
+
+    /**
+     * The additional property holding the data size announced by the provider.
+     */
+    private static final String BYTE_SIZE = "ids:byteSize";
+
+    /**
+     * The additional property holding the checksum announced by the provider.
+     */
+    private static final String CHECK_SUM = "ids:checkSum";
+
+    /**
+     * The file extension of unfinished transfers.
+     */
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * Buffer size for calculating the checksum.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The number of locks guarding the files of the transfers.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Used for sending the artifact request messages.
+     */
+    private final @NonNull ArtifactRequestService messageService;
+
+    /**
+     * Used for accessing the artifacts.
+     */
+    private final @NonNull ArtifactService artifactService;
+
+    /**
+     * Reads the chunk responses.
+     */
+    private final @NonNull JsonPayloadMapper payloadMapper;
+
+    /**
+     * The chunk settings.
+     */
+    private final @NonNull ChunkedTransferConfiguration config;
+
+    /**
+     * The providers without support for chunks and when they have been found to be.
+     */
+    private final Map<String, Instant> unsupported = new ConcurrentHashMap<>();
+
+    /**
+     * Striped locks by file, so that concurrent transfers of the same data do not write the same
+     * file.
+     */
+    private final Object[] locks = createLocks();
+
+    /**
+     * Remove the chunks of transfers that have not been continued within the retention period.
+     */
+    @PostConstruct
+    public void init() {
+        final var directory = config.getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        final var expired = Instant.now().minus(config.getRetention());
+        try (var files = Files.list(directory)) {
+            files.filter(x -> x.toString().endsWith(PART_SUFFIX))
+                    .filter(x -> isModifiedBefore(x, expired))
+                    .forEach(this::delete);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to clean up unfinished transfers. [directory=({}), "
+                        + "exception=({})]", directory, exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Whether the data of the artifact should be requested in chunks.
+     *
+     * @param recipient The recipient.
+     * @param remoteId  The artifact id at the provider.
+     * @return True if the data should be requested in chunks.
+     */
+    public boolean isApplicable(final URI recipient, final URI remoteId) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+
+        final var since = unsupported.get(getPeer(recipient));
+        if (since != null) {
+            if (Instant.now().isBefore(since.plus(config.getUnsupportedRetry()))) {
+                return false;
+            }
+            unsupported.remove(getPeer(recipient));
+        }
+
+        return findArtifact(remoteId)
+                .map(x -> getAnnouncedSize(x) > config.getSize().toBytes())
+                .orElse(false);
+    }
+
+    /**
+     * Requests the data of the artifact in chunks, starting after the chunks received before.
+     *
+     * @param recipient        The recipient.
+     * @param remoteId         The artifact id at the provider.
+     * @param transferContract The contract agreement.
+     * @param queryInput       The query input. May be null.
+     * @return The data. Null if the recipient does not support chunks.
+     * @throws IOException If the chunks could not be stored or the data does not match the
+     *                     announced checksum.
+     * @throws io.dataspaceconnector.exceptions.MessageException if a message could not be sent.
+     */
+    public InputStream retrieve(final URI recipient, final URI remoteId,
+                                final URI transferContract, final QueryInput queryInput)
+            throws IOException {
+        final var part = getPartFile(recipient, remoteId, transferContract, queryInput);
+        Files.createDirectories(part.getParent());
+
+        synchronized (locks[Math.floorMod(part.hashCode(), LOCK_STRIPES)]) {
+            return retrieve(recipient, remoteId, transferContract, queryInput, part);
+        }
+    }
+
+    private InputStream retrieve(final URI recipient, final URI remoteId,
+                                 final URI transferContract, final QueryInput queryInput,
+                                 final Path part) throws IOException {
+        var offset = Files.exists(part) ? Files.size(part) : 0L;
+        if (offset > 0 && log.isInfoEnabled()) {
+            log.info("Resuming transfer. [artifact=({}), offset=({})]", remoteId, offset);
+        }
+
+        var total = -1L;
+        while (total < 0 || offset < total) {
+            final var chunk = requestChunk(recipient, remoteId, transferContract, queryInput,
+                    offset);
+            if (chunk == null) {
+                if (offset == 0) {
+                    markUnsupported(recipient);
+                    return null;
+                }
+
+                // Keep the received chunks, the transfer may be continued later.
+                throw new IOException("The provider did not send the requested chunk.");
+            }
+
+            final var bytes = Base64Utils.decodeFromString(chunk.getData());
+            if (chunk.getOffset() != offset || chunk.getTotal() < offset
+                    || (bytes.length == 0 && offset < chunk.getTotal())) {
+                // The data has changed at the provider. Start over next time.
+                delete(part);
+                throw new IOException("Received an unexpected chunk.");
+            }
+
+            Files.write(part, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            offset += bytes.length;
+            total = chunk.getTotal();
+        }
+
+        if (queryInput == null) {
+            verify(part, remoteId);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Received data in chunks. [artifact=({}), size=({})]", remoteId, total);
+        }
+
+        return Files.newInputStream(part, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    private ArtifactChunkResponse requestChunk(final URI recipient, final URI remoteId,
+                                               final URI transferContract,
+                                               final QueryInput queryInput, final long offset) {
+        final var request = new ArtifactChunkRequest(queryInput, offset,
+                config.getSize().toBytes());
+        final var response = messageService.sendChunkMessage(recipient, remoteId,
+                transferContract, request);
+        if (!messageService.validateResponse(response)) {
+            // Providers without support for chunks reject the unknown payload.
+            if (log.isDebugEnabled()) {
+                log.debug("Chunk request rejected. [recipient=({}), content=({})]", recipient,
+                        messageService.getResponseContent(response));
+            }
+            return null;
+        }
+
+        try {
+            final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
+            return payloadMapper.read(payload, ArtifactChunkResponse.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Received no chunk response. [recipient=({}), exception=({})]",
+                        recipient, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Compare the data with the checksum announced by the provider. The provider announces no
+     * checksum for data it does not store itself.
+     *
+     * @param part     The received data.
+     * @param remoteId The artifact id at the provider.
+     * @throws IOException If the data does not match the checksum.
+     */
+    private void verify(final Path part, final URI remoteId) throws IOException {
+        final var expected = findArtifact(remoteId)
+                .map(x -> x.getAdditional() == null ? null : x.getAdditional().get(CHECK_SUM))
+                .flatMap(ChunkedArtifactReceiver::parseLong)
+                .orElse(0L);
+        if (expected == 0) {
+            return;
+        }
+
+        final var checksum = new CRC32C();
+        try (var data = Files.newInputStream(part)) {
+            final var buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = data.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+            }
+        }
+
+        if (checksum.getValue() != expected) {
+            // Start over next time.
+            delete(part);
+            throw new IOException("The received data does not match the checksum.");
+        }
+    }
+
+    private Path getPartFile(final URI recipient, final URI remoteId,
+                             final URI transferContract, final QueryInput queryInput)
+            throws JsonProcessingException {
+        final var key = recipient + "|" + remoteId + "|" + transferContract + "|"
+                + (queryInput == null ? "" : payloadMapper.write(queryInput));
+        final var name = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+        return config.getDirectory().resolve(name + PART_SUFFIX);
+    }
+
+    private static Object[] createLocks() {
+        final var stripes = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    private Optional<Artifact> findArtifact(final URI remoteId) {
+        return artifactService.identifyByRemoteId(remoteId).map(artifactService::get);
+    }
+
+    private static long getAnnouncedSize(final Artifact artifact) {
+        final var additional = artifact.getAdditional();
+        if (additional == null) {
+            return -1;
+        }
+
+        return parseLong(additional.get(BYTE_SIZE)).orElse(-1L);
+    }
+
+    private static Optional<Long> parseLong(final String value) {
+        try {
+            return value == null ? Optional.empty() : Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private void markUnsupported(final URI recipient) {
+        unsupported.put(getPeer(recipient), Instant.now());
+        if (log.isInfoEnabled()) {
+            log.info("Provider does not support chunked artifact requests. Falling back to "
+                    + "single requests. [recipient=({})]", recipient);
+        }
+    }
+
+    private static String getPeer(final URI recipient) {
+        final var authority = recipient.getAuthority();
+        return authority == null ? recipient.toString() : authority.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isModifiedBefore(final Path file, final Instant instant) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(instant);
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    private void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to delete file. [file=({}), exception=({})]", file,
+                        exception.getMessage());
+            }
+        }
+    }
+}
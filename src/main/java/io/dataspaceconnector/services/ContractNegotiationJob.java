@@ -0,0 +1,208 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The state of a contract negotiation running in the background. Updated by the worker running
+ * the negotiation and read by the clients polling it.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ContractNegotiationJob {
+
+    /**
+     * The state of a job.
+     */
+    public enum Status {
+        /**
+         * The job waits for a worker.
+         */
+        PENDING,
+
+        /**
+         * The job is running.
+         */
+        RUNNING,
+
+        /**
+         * All steps have been completed. Single downloads may still have failed.
+         */
+        COMPLETED,
+
+        /**
+         * A step failed.
+         */
+        FAILED
+    }
+
+    /**
+     * The steps of a job.
+     */
+    public enum StepType {
+        /**
+         * Negotiates the contract agreement.
+         */
+        NEGOTIATION,
+
+        /**
+         * Requests the descriptions of the resources.
+         */
+        DESCRIPTION,
+
+        /**
+         * Downloads the data of the artifacts.
+         */
+        DOWNLOAD
+    }
+
+    /**
+     * The id of the job.
+     */
+    private final UUID id;
+
+    /**
+     * The recipient of the negotiation.
+     */
+    private final URI recipient;
+
+    /**
+     * The number of steps the job will run.
+     */
+    private final int totalSteps;
+
+    /**
+     * The date the job has been created.
+     */
+    private final ZonedDateTime creationDate = ZonedDateTime.now();
+
+    /**
+     * The steps started so far.
+     */
+    private final List<Step> steps = new CopyOnWriteArrayList<>();
+
+    /**
+     * The status of the job.
+     */
+    private volatile Status status = Status.PENDING;
+
+    /**
+     * The id of the saved agreement. Null until the negotiation succeeded.
+     */
+    private volatile UUID agreementId;
+
+    /**
+     * The artifacts whose data could not be downloaded.
+     */
+    private volatile List<URI> failedArtifacts = List.of();
+
+    /**
+     * The number of download attempts.
+     */
+    private volatile int downloadAttempts;
+
+    /**
+     * Describes why the job failed. Either a message or the content of the unexpected response.
+     */
+    private volatile Object error;
+
+    /**
+     * The date the job has been finished. Null while the job is running.
+     */
+    private volatile ZonedDateTime finishDate;
+
+    /**
+     * Get the number of completed steps.
+     *
+     * @return The number of completed steps.
+     */
+    public int getCompletedSteps() {
+        return (int) steps.stream().filter(x -> x.getFinishDate() != null).count();
+    }
+
+    Step start(final StepType type) {
+        status = Status.RUNNING;
+        final var step = new Step(type);
+        steps.add(step);
+        return step;
+    }
+
+    void setAgreementId(final UUID negotiated) {
+        this.agreementId = negotiated;
+    }
+
+    void setDownloadResult(final List<URI> failed, final int attempts) {
+        this.failedArtifacts = List.copyOf(failed);
+        this.downloadAttempts = attempts;
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+        finishDate = ZonedDateTime.now();
+    }
+
+    void fail(final Object reason) {
+        error = reason;
+        status = Status.FAILED;
+        finishDate = ZonedDateTime.now();
+    }
+
+    /**
+     * A step of a job and its timing.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    public static final class Step {
+        /**
+         * The type of the step.
+         */
+        private final StepType type;
+
+        /**
+         * The date the step has been started.
+         */
+        private final ZonedDateTime startDate = ZonedDateTime.now();
+
+        /**
+         * The date the step has been finished. Null while the step is running.
+         */
+        private volatile ZonedDateTime finishDate;
+
+        /**
+         * Get the time the step has taken so far.
+         *
+         * @return The duration in milliseconds.
+         */
+        public long getDurationMillis() {
+            final var end = finishDate == null ? ZonedDateTime.now() : finishDate;
+            return Duration.between(startDate, end).toMillis();
+        }
+
+        void finish() {
+            finishDate = ZonedDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.fraunhofer.iais.eis.ContractRequest;
+import io.dataspaceconnector.exceptions.UnexpectedResponseException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs contract negotiations in the background, so that clients do not have to keep the
+ * connection open until the metadata and data have been received. The jobs are kept in memory
+ * for the configured retention after they have been finished.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ContractNegotiationJobService {
+
+    /**
+     * Runs the steps of the negotiations.
+     */
+    private final @NonNull ContractNegotiationService negotiationService;
+
+    /**
+     * The number of negotiations running at the same time.
+     */
+    @Value("${ids.contract.jobs.pool-size:4}")
+    private int poolSize;
+
+    /**
+     * The maximum number of attempts for downloading the data of an artifact.
+     */
+    @Value("${ids.contract.jobs.download-attempts:3}")
+    private int downloadAttempts;
+
+    /**
+     * The time to wait before downloading failed artifacts again.
+     */
+    @Value("${ids.contract.jobs.retry-delay:5s}")
+    private Duration retryDelay;
+
+    /**
+     * The time finished jobs are kept.
+     */
+    @Value("${ids.contract.jobs.retention:1h}")
+    private Duration retention;
+
+    /**
+     * The jobs by id.
+     */
+    private final Map<UUID, ContractNegotiationJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * The number of created worker threads.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Runs the jobs.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Starts the workers.
+     */
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(Math.max(1, poolSize), runnable -> {
+            final var thread = new Thread(runnable,
+                    "contract-negotiation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the workers. Running jobs are interrupted.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a contract negotiation in the background.
+     *
+     * @param recipient The recipient.
+     * @param request   The contract request.
+     * @param resources The requested resources.
+     * @param artifacts The requested artifacts.
+     * @param download  Whether the data of the artifacts should be downloaded.
+     * @return The job.
+     */
+    public ContractNegotiationJob submit(final URI recipient, final ContractRequest request,
+                                         final List<URI> resources, final List<URI> artifacts,
+                                         final boolean download) {
+        removeExpired();
+
+        final var steps = download ? ContractNegotiationJob.StepType.values().length
+                : ContractNegotiationJob.StepType.values().length - 1;
+        final var job = new ContractNegotiationJob(UUID.randomUUID(), recipient, steps);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, request, resources, artifacts, download));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Submitted contract negotiation. [jobId=({}), recipient=({})]",
+                    job.getId(), recipient);
+        }
+
+        return job;
+    }
+
+    /**
+     * Get a job.
+     *
+     * @param jobId The id of the job.
+     * @return The job, if it is known.
+     */
+    public Optional<ContractNegotiationJob> get(final UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(final ContractNegotiationJob job, final ContractRequest request,
+                     final List<URI> resources, final List<URI> artifacts,
+                     final boolean download) {
+        ContractNegotiationJob.Step step = null;
+        try {
+            step = job.start(ContractNegotiationJob.StepType.NEGOTIATION);
+            final var negotiation = negotiationService.negotiate(job.getRecipient(), request);
+            job.setAgreementId(negotiation.getAgreementId());
+            step.finish();
+
+            step = job.start(ContractNegotiationJob.StepType.DESCRIPTION);
+            negotiationService.requestMetadata(job.getRecipient(), resources, artifacts, download,
+                    negotiation.getAgreementId());
+            step.finish();
+
+            if (download) {
+                step = job.start(ContractNegotiationJob.StepType.DOWNLOAD);
+                downloadData(job, artifacts, negotiation.getTransferContract());
+                step.finish();
+            }
+
+            job.complete();
+        } catch (UnexpectedResponseException exception) {
+            finish(step);
+            job.fail(exception.getContent());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            finish(step);
+            job.fail("Contract negotiation has been interrupted.");
+        } catch (Exception exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Contract negotiation failed. [jobId=({}), exception=({})]",
+                        job.getId(), exception.getMessage(), exception);
+            }
+            finish(step);
+            job.fail(exception.getMessage());
+        }
+    }
+
+    private void downloadData(final ContractNegotiationJob job, final List<URI> artifacts,
+                              final URI transferContract) throws InterruptedException {
+        var remaining = artifacts;
+        var attempts = 0;
+        do {
+            if (attempts > 0) {
+                Thread.sleep(retryDelay.toMillis());
+            }
+
+            attempts++;
+            remaining = negotiationService.downloadData(job.getRecipient(), remaining,
+                    transferContract);
+            job.setDownloadResult(remaining, attempts);
+        } while (!remaining.isEmpty() && attempts < downloadAttempts);
+    }
+
+    private void removeExpired() {
+        final var limit = ZonedDateTime.now().minus(retention);
+        jobs.values().removeIf(x -> x.getFinishDate() != null
+                && x.getFinishDate().isBefore(limit));
+    }
+
+    private static void finish(final ContractNegotiationJob.Step step) {
+        if (step != null) {
+            step.finish();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import javax.persistence.PersistenceException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import de.fraunhofer.iais.eis.ContractRequest;
+import io.dataspaceconnector.exceptions.ContractException;
+import io.dataspaceconnector.exceptions.MessageException;
+import io.dataspaceconnector.exceptions.MessageResponseException;
+import io.dataspaceconnector.exceptions.ResourceNotFoundException;
+import io.dataspaceconnector.exceptions.UnexpectedResponseException;
+import io.dataspaceconnector.services.messages.ProviderRequestExecutor;
+import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
+import io.dataspaceconnector.services.messages.types.ContractAgreementService;
+import io.dataspaceconnector.services.messages.types.ContractRequestService;
+import io.dataspaceconnector.services.messages.types.DescriptionRequestService;
+import io.dataspaceconnector.services.usagecontrol.ContractManager;
+import io.dataspaceconnector.utils.MessageUtils;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs the steps of a contract negotiation with another connector: the negotiation itself, the
+ * description requests for the metadata, and the artifact requests for the data.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ContractNegotiationService {
+
+    /**
+     * Service for contract request message handling.
+     */
+    private final @NonNull ContractRequestService contractReqSvc;
+
+    /**
+     * Service for artifact request message handling.
+     */
+    private final @NonNull ArtifactRequestService artifactReqSvc;
+
+    /**
+     * Service for description request message handling.
+     */
+    private final @NonNull DescriptionRequestService descReqSvc;
+
+    /**
+     * Service for contract agreement message handling.
+     */
+    private final @NonNull ContractAgreementService agreementSvc;
+
+    /**
+     * Service for updating database entities.
+     */
+    private final @NonNull EntityUpdateService updateService;
+
+    /**
+     * Service for contract processing.
+     */
+    private final @NonNull ContractManager contractManager;
+
+    /**
+     * Service for persisting entities.
+     */
+    private final @NonNull EntityPersistenceService persistenceSvc;
+
+    /**
+     * Sends the description and artifact requests concurrently.
+     */
+    private final @NonNull ProviderRequestExecutor requestExecutor;
+
+    /**
+     * Requests the data of several artifacts with a single message.
+     */
+    private final @NonNull ArtifactBatchReceiver batchReceiver;
+
+    /**
+     * Requests the data of large artifacts in chunks.
+     */
+    private final @NonNull ChunkedArtifactReceiver chunkedReceiver;
+
+    /**
+     * Negotiates a contract and saves the contract agreement.
+     *
+     * @param recipient The recipient.
+     * @param request   The contract request.
+     * @return The negotiated agreement.
+     * @throws UnexpectedResponseException if the recipient did not agree.
+     * @throws MessageException            if a message could not be sent.
+     * @throws MessageResponseException    if a response could not be read.
+     * @throws ContractException           if the agreement does not match the request.
+     * @throws PersistenceException        if the agreement could not be saved.
+     */
+    public Negotiation negotiate(final URI recipient, final ContractRequest request) {
+        // Send and validate contract request/response message.
+        var response = contractReqSvc.sendMessage(recipient, request);
+        if (!contractReqSvc.validateResponse(response)) {
+            // If the response is not a contract agreement message, show the response.
+            throw new UnexpectedResponseException(contractReqSvc.getResponseContent(response));
+        }
+
+        // Read and process the response message.
+        final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
+        final var agreement = contractManager.validateContractAgreement(payload, request);
+
+        // Send and validate contract agreement/response message.
+        response = agreementSvc.sendMessage(recipient, agreement);
+        if (!agreementSvc.validateResponse(response)) {
+            // If the response is not a notification message, show the response.
+            throw new UnexpectedResponseException(agreementSvc.getResponseContent(response));
+        }
+
+        // Save contract agreement to database.
+        final var agreementId = persistenceSvc.saveContractAgreement(agreement);
+        if (log.isDebugEnabled()) {
+            log.debug("Policy negotiation success. Saved agreement. [agreemendId=({})].",
+                    agreementId);
+        }
+
+        return new Negotiation(agreementId, agreement.getId());
+    }
+
+    /**
+     * Sends description request messages for all resources concurrently, saves the received
+     * metadata, and links the artifacts to the agreement. The metadata is saved on the calling
+     * thread, one resource after another.
+     *
+     * @param recipient   The recipient.
+     * @param resources   The requested resources.
+     * @param artifacts   The requested artifacts.
+     * @param download    Whether the data of the artifacts will be downloaded.
+     * @param agreementId The id of the saved agreement.
+     * @throws UnexpectedResponseException if the recipient did not send a description.
+     * @throws MessageException            if a message could not be sent.
+     * @throws PersistenceException        if the metadata could not be saved.
+     */
+    public void requestMetadata(final URI recipient, final List<URI> resources,
+                                final List<URI> artifacts, final boolean download,
+                                final UUID agreementId) {
+        final var descriptions = requestExecutor.invokeAll(recipient, resources.stream()
+                .map(x -> (Callable<Map<String, String>>) () -> descReqSvc.sendMessage(
+                        recipient, x))
+                .collect(Collectors.toList()));
+        for (final var description : descriptions) {
+            // Validate the description response messages in the order of the resources.
+            final var response = ProviderRequestExecutor.getResult(description);
+            if (!descReqSvc.validateResponse(response)) {
+                // If the response is not a description response message, show the response.
+                throw new UnexpectedResponseException(descReqSvc.getResponseContent(response));
+            }
+
+            // Read and process the response message. Save resource, recipient, and agreement
+            // id to database.
+            persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+        }
+
+        updateService.linkArtifactToAgreement(artifacts, agreementId);
+    }
+
+    /**
+     * Requests the data of all artifacts and saves it. The data of large artifacts is requested
+     * in chunks. Providers supporting batch requests receive a single artifact request message
+     * for the other artifacts, all others an artifact request message per artifact, sent
+     * concurrently. Failed downloads are logged and skipped, because the artifact request can
+     * be triggered later again.
+     *
+     * @param recipient        The recipient.
+     * @param artifacts        The requested artifacts.
+     * @param transferContract The contract agreement.
+     * @return The artifacts whose data could not be downloaded.
+     */
+    public List<URI> downloadData(final URI recipient, final List<URI> artifacts,
+                                  final URI transferContract) {
+        final var failed = new ArrayList<URI>();
+        var single = artifacts;
+
+        // Large artifacts are requested in chunks and never as part of a batch.
+        final var small = artifacts.stream()
+                .filter(x -> !chunkedReceiver.isApplicable(recipient, x))
+                .collect(Collectors.toList());
+        if (batchReceiver.isApplicable(recipient, small)) {
+            final var batchFailed = downloadBatch(recipient, small, transferContract);
+            if (batchFailed != null) {
+                failed.addAll(batchFailed);
+                single = artifacts.stream()
+                        .filter(x -> !small.contains(x))
+                        .collect(Collectors.toList());
+            }
+        }
+
+        final var results = requestExecutor.invokeAll(recipient, single.stream()
+                .map(x -> (Callable<Boolean>) () -> downloadData(recipient, x, transferContract))
+                .collect(Collectors.toList()));
+
+        for (int i = 0; i < single.size(); i++) {
+            try {
+                if (!ProviderRequestExecutor.getResult(results.get(i))) {
+                    failed.add(single.get(i));
+                }
+            } catch (MessageException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not request data for artifact. "
+                                    + "[artifact=({}), exception=({})]",
+                            single.get(i), exception.getMessage());
+                }
+                failed.add(single.get(i));
+            }
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Downloaded data. [downloaded=({}), failed=({})]",
+                    artifacts.size() - failed.size(), failed);
+        }
+
+        return failed;
+    }
+
+    /**
+     * Sends a single artifact request message for all artifacts and saves the received data.
+     *
+     * @param recipient        The recipient.
+     * @param artifacts        The requested artifacts.
+     * @param transferContract The contract agreement.
+     * @return The artifacts whose data could not be downloaded. Null if the recipient does not
+     * support batch requests.
+     */
+    private List<URI> downloadBatch(final URI recipient, final List<URI> artifacts,
+                                    final URI transferContract) {
+        final Map<URI, byte[]> data;
+        try {
+            data = batchReceiver.retrieve(recipient, artifacts, transferContract, null);
+        } catch (MessageException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not request data for artifacts. "
+                                + "[artifacts=({}), exception=({})]",
+                        artifacts, exception.getMessage());
+            }
+            return new ArrayList<>(artifacts);
+        }
+
+        if (data == null) {
+            return null;
+        }
+
+        final var failed = new ArrayList<URI>();
+        for (final var artifact : artifacts) {
+            final var bytes = data.get(artifact);
+            if (bytes == null) {
+                failed.add(artifact);
+                continue;
+            }
+
+            // Every artifact is saved in its own transaction.
+            try {
+                persistenceSvc.saveData(artifact, new ByteArrayInputStream(bytes));
+            } catch (IOException | ResourceNotFoundException e) {
+                // Ignore that the data saving failed. Another try can take place later.
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not save data for artifact."
+                                    + "[artifact=({}), exception=({})]",
+                            artifact, e.getMessage());
+                }
+                failed.add(artifact);
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * Sends an artifact request message and saves the received data.
+     *
+     * @param recipient        The recipient.
+     * @param artifact         The requested artifact.
+     * @param transferContract The contract agreement.
+     * @return True if the data has been saved.
+     * @throws MessageException if the message could not be sent.
+     */
+    private boolean downloadData(final URI recipient, final URI artifact,
+                                 final URI transferContract) {
+        if (chunkedReceiver.isApplicable(recipient, artifact)) {
+            final var saved = downloadChunks(recipient, artifact, transferContract);
+            if (saved != null) {
+                return saved;
+            }
+        }
+
+        // Send and validate artifact request/response message.
+        final var response = artifactReqSvc.sendMessage(recipient, artifact, transferContract);
+        if (!artifactReqSvc.validateResponse(response)) {
+            // If the response is not an artifact response message, show the response.
+            final var content = artifactReqSvc.getResponseContent(response);
+            if (log.isDebugEnabled()) {
+                log.debug("Data could not be loaded. [content=({})]", content);
+            }
+            return false;
+        }
+
+        // Read and process the response message. Every artifact is saved in its own
+        // transaction.
+        try {
+            persistenceSvc.saveData(response, artifact);
+            return true;
+        } catch (IOException | ResourceNotFoundException | MessageResponseException e) {
+            // Ignore that the data saving failed. Another try can take place later.
+            if (log.isWarnEnabled()) {
+                log.warn("Could not save data for artifact."
+                                + "[artifact=({}), exception=({})]",
+                        artifact, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Requests the data of an artifact in chunks and saves it.
+     *
+     * @param recipient        The recipient.
+     * @param artifact         The requested artifact.
+     * @param transferContract The contract agreement.
+     * @return True if the data has been saved. Null if the recipient does not support chunks.
+     * @throws MessageException if a message could not be sent.
+     */
+    private Boolean downloadChunks(final URI recipient, final URI artifact,
+                                   final URI transferContract) {
+        try {
+            final var data = chunkedReceiver.retrieve(recipient, artifact, transferContract,
+                    null);
+            if (data == null) {
+                return null;
+            }
+
+            try (data) {
+                persistenceSvc.saveData(artifact, data);
+            }
+            return true;
+        } catch (IOException | ResourceNotFoundException e) {
+            // The received chunks are kept. Another try continues the transfer.
+            if (log.isWarnEnabled()) {
+                log.warn("Could not receive data for artifact in chunks."
+                                + "[artifact=({}), exception=({})]",
+                        artifact, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A negotiated contract agreement.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Negotiation {
+        /**
+         * The id of the saved agreement.
+         */
+        private final UUID agreementId;
+
+        /**
+         * The id of the agreement at the provider, used as transfer contract.
+         */
+        private final URI transferContract;
+    }
+}
@@ -18,6 +18,7 @@ package io.dataspaceconnector.services;
 import javax.persistence.PersistenceException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -49,7 +50,6 @@ import lombok.extern.log4j.Log4j2;
 import org.jose4j.base64url.Base64;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * This service offers methods for saving contract agreements as well as metadata and data requested
@@ -65,6 +65,11 @@ public class EntityPersistenceService {
      */
     private final @NonNull AgreementService agreementService;
 
+    /**
+     * Service for resolving the public base uri.
+     */
+    private final @NonNull BaseUriService baseUriService;
+
     /**
      * Service for updating artifact data.
      */
@@ -132,7 +137,7 @@ public class EntityPersistenceService {
         UUID agreementUuid = null;
         try {
             // Get base URL of application and path to agreements API.
-            final var baseUrl = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+            final var baseUrl = baseUriService.getBaseUri().toString();
             final var path = ResourceControllers.AgreementController.class.getAnnotation(
                     RequestMapping.class).value()[0];
 
@@ -206,8 +211,8 @@ public class EntityPersistenceService {
 
             resourceTemplate.setRepresentations(representationTemplateList);
 
-            // Save all entities.
-            tempBuilder.build(resourceTemplate);
+            // Save all entities in one transaction, flushed in batches.
+            tempBuilder.buildInBulk(resourceTemplate);
         } catch (Exception e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not store resource. [exception=({})]", e.getMessage(), e);
@@ -228,11 +233,23 @@ public class EntityPersistenceService {
     public void saveData(final Map<String, String> response, final URI remoteId)
             throws MessageResponseException, ResourceNotFoundException, IOException {
         final var base64Data = MessageUtils.extractPayloadFromMultipartMessage(response);
+        saveData(remoteId, new ByteArrayInputStream(Base64.decode(base64Data)));
+    }
+
+    /**
+     * Save the received data of an artifact.
+     *
+     * @param remoteId The artifact id.
+     * @param data     The data.
+     * @throws ResourceNotFoundException If the artifact could not be found.
+     * @throws IOException If the data could not be stored.
+     */
+    public void saveData(final URI remoteId, final InputStream data)
+            throws ResourceNotFoundException, IOException {
         final var artifactId = artifactService.identifyByRemoteId(remoteId);
         final var artifact = artifactService.get(artifactId.get());
 
-        artifactService.setData(artifact.getId(),
-                new ByteArrayInputStream(Base64.decode(base64Data)));
+        artifactService.setData(artifact.getId(), data);
         if (log.isDebugEnabled()) {
             log.debug("Updated data from artifact. [target=({})]", artifactId);
         }
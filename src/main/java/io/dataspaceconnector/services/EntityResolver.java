@@ -21,20 +21,12 @@ import io.dataspaceconnector.exceptions.ResourceNotFoundException;
 import io.dataspaceconnector.exceptions.SelfLinkCreationException;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Agreement;
-import io.dataspaceconnector.model.Artifact;
-import io.dataspaceconnector.model.Catalog;
-import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
 import io.dataspaceconnector.model.QueryInput;
-import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.services.ids.DeserializationService;
-import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsRepresentationBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.services.ids.ElementDescriptionCache;
 import io.dataspaceconnector.services.resources.AgreementService;
 import io.dataspaceconnector.services.resources.ArtifactService;
 import io.dataspaceconnector.services.resources.CatalogService;
@@ -103,29 +95,9 @@ public class EntityResolver {
     private final @NonNull AgreementService agreementService;
 
     /**
-     * Service for building ids objects.
+     * Cache for the serialized ids objects.
      */
-    private final @NonNull IdsCatalogBuilder catalogBuilder;
-
-    /**
-     * Service for building ids resource.
-     */
-    private final @NonNull IdsResourceBuilder<OfferedResource> offerBuilder;
-
-    /**
-     * Service for building ids artifact.
-     */
-    private final @NonNull IdsArtifactBuilder artifactBuilder;
-
-    /**
-     * Service for building ids representation.
-     */
-    private final @NonNull IdsRepresentationBuilder representationBuilder;
-
-    /**
-     * Service for building ids contract.
-     */
-    private final @NonNull IdsContractBuilder contractBuilder;
+    private final @NonNull ElementDescriptionCache descriptionCache;
 
     /**
      * Skips the data access verification.
@@ -197,23 +169,9 @@ public class EntityResolver {
      */
     public <T extends AbstractEntity> String getEntityAsRdfString(final T entity)
             throws InvalidResourceException {
-        // NOTE Maybe the builder class could be found without the ugly if array?
         try {
-            if (entity instanceof Artifact) {
-                final var artifact = artifactBuilder.create((Artifact) entity);
-                return Objects.requireNonNull(artifact).toRdf();
-            } else if (entity instanceof OfferedResource) {
-                final var resource = offerBuilder.create((OfferedResource) entity);
-                return Objects.requireNonNull(resource).toRdf();
-            } else if (entity instanceof Representation) {
-                final var representation = representationBuilder.create((Representation) entity);
-                return Objects.requireNonNull(representation).toRdf();
-            } else if (entity instanceof Catalog) {
-                final var catalog = catalogBuilder.create((Catalog) entity);
-                return Objects.requireNonNull(catalog).toRdf();
-            } else if (entity instanceof Contract) {
-                final var catalog = contractBuilder.create((Contract) entity);
-                return Objects.requireNonNull(catalog).toRdf();
+            if (ElementDescriptionCache.isSupported(entity)) {
+                return descriptionCache.get(entity).getRdf();
             } else if (entity instanceof Agreement) {
                 final var agreement = (Agreement) entity;
                 return agreement.getValue();
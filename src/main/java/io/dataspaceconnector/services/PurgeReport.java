@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Summary of a purge run of soft-deleted entities.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class PurgeReport {
+
+    /**
+     * Whether the purged rows have been copied to archive tables before removal.
+     */
+    private final boolean archived;
+
+    /**
+     * The number of removed rows per table.
+     */
+    private final Map<String, Long> rows = new TreeMap<>();
+
+    /**
+     * The payload size of all purged artifacts in bytes.
+     */
+    private long payloadBytes;
+
+    /**
+     * Add removed rows of a table.
+     *
+     * @param table The table name.
+     * @param count The number of removed rows.
+     */
+    void addRows(final String table, final long count) {
+        if (count > 0) {
+            rows.merge(table, count, Long::sum);
+        }
+    }
+
+    /**
+     * Add the payload size of purged artifacts.
+     *
+     * @param bytes The size in bytes.
+     */
+    void addPayloadBytes(final long bytes) {
+        payloadBytes += bytes;
+    }
+
+    /**
+     * Get the number of removed rows over all tables.
+     *
+     * @return The total number of removed rows.
+     */
+    public long getTotalRows() {
+        return rows.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
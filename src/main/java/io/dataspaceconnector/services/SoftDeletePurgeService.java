@@ -0,0 +1,505 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import io.dataspaceconnector.model.AbstractEntity;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.model.Data;
+import io.dataspaceconnector.model.LocalData;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.HibernateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Removes entities that have been soft-deleted for longer than the configured retention period.
+ * Join table rows and element collections of the removed entities are removed as well, and so
+ * are data rows that are no longer referenced by any artifact. The rows are processed in bounded
+ * batches, each in its own transaction. Optionally, every row is copied to a table with the
+ * suffix {@code _archive} before it is removed. The rows are copied column by column, and columns
+ * added to a table after its archive has been created are added to the archive as well.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Service
+public class SoftDeletePurgeService {
+
+    /**
+     * The suffix of the archive tables.
+     */
+    private static final String ARCHIVE_SUFFIX = "_archive";
+
+    /**
+     * The primary key column of all entity tables.
+     */
+    private static final String ID_COLUMN = "id";
+
+    /**
+     * Used for resolving the table layout.
+     */
+    private final @NonNull EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Used for executing the purge statements.
+     */
+    private final @NonNull NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Used for running every batch in its own transaction.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The highest data id seen by the previous run. Unreferenced data rows that have not been
+     * marked as deleted are only removed when they existed during the previous run, so that
+     * data which is about to be linked to an artifact is left alone.
+     */
+    private final AtomicLong dataWatermark = new AtomicLong(-1);
+
+    /**
+     * The columns copied to the archive, by table.
+     */
+    private final Map<String, String> archiveColumns = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the scheduled purge is enabled.
+     */
+    @Value("${database.purge.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * The number of days soft-deleted entities are kept.
+     */
+    @Value("${database.purge.retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * The maximum number of entities removed per transaction.
+     */
+    @Value("${database.purge.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Whether purged rows are copied to archive tables.
+     */
+    @Value("${database.purge.archive:false}")
+    private boolean archive;
+
+    /**
+     * The table layout, resolved on first use.
+     */
+    private Schema schema;
+
+    /**
+     * Periodically purges soft-deleted entities.
+     */
+    @Scheduled(cron = "${database.purge.cron:0 0 3 * * *}")
+    public void schedule() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            final var report = purge();
+            if (log.isInfoEnabled()) {
+                log.info("Purged soft-deleted entities. [rows=({}), payloadBytes=({}), "
+                        + "archived=({}), tables=({})]", report.getTotalRows(),
+                        report.getPayloadBytes(), report.isArchived(), report.getRows());
+            }
+        } catch (DataAccessException | TransactionException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to purge soft-deleted entities. [exception=({})]",
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove all entities that have been soft-deleted before the retention period.
+     *
+     * @return A report of the removed rows.
+     * @throws DataAccessException  If a statement fails.
+     * @throws TransactionException If a batch could not be committed.
+     */
+    public synchronized PurgeReport purge() {
+        final var layout = getSchema();
+        final var report = new PurgeReport(archive);
+        final var cutoff = Timestamp.from(Instant.now().minus(Duration.ofDays(retentionDays)));
+        final var dataMax = jdbcTemplate.getJdbcOperations().queryForObject(
+                String.format("SELECT COALESCE(MAX(id), -1) FROM %s", layout.getDataTable()),
+                Long.class);
+
+        if (archive) {
+            createArchives(layout);
+        }
+
+        for (final var table : layout.getTables()) {
+            purgeEntities(layout, table, cutoff, report);
+        }
+
+        purgeData(layout, report);
+        dataWatermark.set(dataMax == null ? -1 : dataMax);
+
+        return report;
+    }
+
+    private void purgeEntities(final Schema layout, final EntityTable table,
+                               final Timestamp cutoff, final PurgeReport report) {
+        final var select = String.format(
+                "SELECT id FROM %s WHERE deleted = true AND modified_date < ?", table.getName());
+        final var isArtifact = table.getName().equals(layout.getArtifactTable());
+
+        List<Object> ids;
+        do {
+            ids = selectBatch(select, cutoff);
+            if (!ids.isEmpty()) {
+                final var batch = ids;
+                inTransaction(() -> {
+                    for (final var reference : table.getReferences()) {
+                        remove(reference.getTable(), reference.getColumn(), batch, report);
+                    }
+
+                    if (isArtifact) {
+                        report.addPayloadBytes(sumByteSize(layout, batch));
+                    }
+
+                    remove(table.getName(), ID_COLUMN, batch, report);
+                });
+            }
+        } while (ids.size() == batchSize);
+    }
+
+    private void purgeData(final Schema layout, final PurgeReport report) {
+        final var select = String.format("SELECT d.id FROM %1$s d "
+                + "WHERE (d.deleted = true OR d.id <= ?) "
+                + "AND NOT EXISTS (SELECT 1 FROM %2$s a WHERE a.%3$s = d.id)",
+                layout.getDataTable(), layout.getArtifactTable(), layout.getDataColumn());
+
+        List<Object> ids;
+        do {
+            ids = selectBatch(select, dataWatermark.get());
+            if (!ids.isEmpty()) {
+                final var batch = ids;
+                inTransaction(() -> {
+                    if (layout.isLargeObjects() && !archive) {
+                        // Postgres stores lobs separately, removing the row does not free them.
+                        jdbcTemplate.queryForList(String.format(
+                                "SELECT lo_unlink(%1$s) FROM %2$s WHERE id IN (:ids) "
+                                        + "AND %1$s IS NOT NULL",
+                                layout.getValueColumn(), layout.getDataTable()),
+                                new MapSqlParameterSource("ids", batch), Integer.class);
+                    }
+
+                    remove(layout.getDataTable(), ID_COLUMN, batch, report);
+                });
+            }
+        } while (ids.size() == batchSize);
+    }
+
+    private List<Object> selectBatch(final String sql, final Object parameter) {
+        return jdbcTemplate.getJdbcOperations().query(connection -> {
+            final var statement = connection.prepareStatement(sql);
+            statement.setMaxRows(batchSize);
+            statement.setObject(1, parameter);
+            return statement;
+        }, (resultSet, rowNum) -> resultSet.getObject(1));
+    }
+
+    private void remove(final String table, final String column, final List<Object> ids,
+                        final PurgeReport report) {
+        final var params = new MapSqlParameterSource("ids", ids);
+        final var condition = String.format(" FROM %s WHERE %s IN (:ids)", table, column);
+        if (archive) {
+            final var columns = archiveColumns.get(table);
+            jdbcTemplate.update(String.format("INSERT INTO %s%s (%s) SELECT %s", table,
+                    ARCHIVE_SUFFIX, columns, columns) + condition, params);
+        }
+
+        report.addRows(table, jdbcTemplate.update("DELETE" + condition, params));
+    }
+
+    private long sumByteSize(final Schema layout, final List<Object> ids) {
+        final var sum = jdbcTemplate.queryForObject(String.format(
+                "SELECT COALESCE(SUM(%s), 0) FROM %s WHERE id IN (:ids)",
+                layout.getByteSizeColumn(), layout.getArtifactTable()),
+                new MapSqlParameterSource("ids", ids), Long.class);
+        return sum == null ? 0 : sum;
+    }
+
+    private void createArchives(final Schema layout) {
+        final var tables = new LinkedHashSet<String>();
+        for (final var table : layout.getTables()) {
+            tables.add(table.getName());
+            table.getReferences().forEach(x -> tables.add(x.getTable()));
+        }
+        tables.add(layout.getDataTable());
+
+        final var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        for (final var table : tables) {
+            jdbcTemplate.getJdbcOperations().execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %1$s%2$s AS SELECT * FROM %1$s WHERE 1 = 0",
+                    table, ARCHIVE_SUFFIX));
+
+            // The archive keeps the columns it has been created with. Add new columns.
+            final var columns = getColumns(table);
+            final var archived = getColumns(table + ARCHIVE_SUFFIX).stream()
+                    .map(x -> x.getName().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            for (final var column : columns) {
+                if (!archived.contains(column.getName().toLowerCase(Locale.ROOT))) {
+                    jdbcTemplate.getJdbcOperations().execute(String.format(
+                            "ALTER TABLE %s%s ADD COLUMN %s %s", table, ARCHIVE_SUFFIX,
+                            column.getName(), getTypeName(dialect, column)));
+                }
+            }
+
+            archiveColumns.put(table, columns.stream()
+                    .map(Column::getName)
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private List<Column> getColumns(final String table) {
+        return jdbcTemplate.getJdbcOperations().query(
+                String.format("SELECT * FROM %s WHERE 1 = 0", table), resultSet -> {
+                    final var metaData = resultSet.getMetaData();
+                    final var columns = new ArrayList<Column>(metaData.getColumnCount());
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        columns.add(new Column(metaData.getColumnName(i),
+                                metaData.getColumnType(i), metaData.getColumnTypeName(i),
+                                metaData.getPrecision(i), metaData.getScale(i)));
+                    }
+                    return columns;
+                });
+    }
+
+    private static String getTypeName(final Dialect dialect, final Column column) {
+        try {
+            return dialect.getTypeName(column.getType(), column.getPrecision(),
+                    column.getPrecision(), column.getScale());
+        } catch (HibernateException exception) {
+            // Not mapped by hibernate, use the type reported by the database.
+            return column.getTypeName();
+        }
+    }
+
+    private void inTransaction(final Runnable runnable) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(x -> runnable.run());
+    }
+
+    private Schema getSchema() {
+        if (schema == null) {
+            schema = resolveSchema();
+        }
+
+        return schema;
+    }
+
+    private Schema resolveSchema() {
+        final var factory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        final var metamodel = factory.getMetamodel();
+
+        final var tables = new LinkedHashMap<String, EntityTable>();
+        for (final var persister : metamodel.entityPersisters().values()) {
+            if (AbstractEntity.class.isAssignableFrom(persister.getMappedClass())) {
+                final var name = getTableName(persister);
+                tables.putIfAbsent(name, new EntityTable(name));
+            }
+        }
+
+        for (final var persister : metamodel.collectionPersisters().values()) {
+            if (persister instanceof AbstractCollectionPersister && !persister.isInverse()) {
+                final var collection = (AbstractCollectionPersister) persister;
+                addReference(tables, collection.getOwnerEntityPersister(),
+                        new Reference(collection.getTableName(),
+                                collection.getKeyColumnNames()[0]));
+                if (collection.isManyToMany()) {
+                    addReference(tables, collection.getElementPersister(),
+                            new Reference(collection.getTableName(),
+                                    collection.getElementColumnNames()[0]));
+                }
+            }
+        }
+
+        final var artifact = (AbstractEntityPersister) metamodel
+                .entityPersister(ArtifactImpl.class);
+        final var localData = (AbstractEntityPersister) metamodel
+                .entityPersister(LocalData.class);
+
+        return new Schema(new ArrayList<>(tables.values()),
+                artifact.getTableName(),
+                artifact.getPropertyColumnNames("data")[0],
+                artifact.getPropertyColumnNames("byteSize")[0],
+                getTableName(metamodel.entityPersister(Data.class)),
+                localData.getPropertyColumnNames("value")[0],
+                factory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect);
+    }
+
+    private static void addReference(final Map<String, EntityTable> tables,
+                                     final EntityPersister persister,
+                                     final Reference reference) {
+        final var table = tables.get(getTableName(persister));
+        if (table != null) {
+            table.getReferences().add(reference);
+        }
+    }
+
+    private static String getTableName(final EntityPersister persister) {
+        return ((AbstractEntityPersister) persister).getTableName();
+    }
+
+    /**
+     * The tables touched by the purge.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Schema {
+        /**
+         * The entity tables with a deleted flag and modification date.
+         */
+        private final List<EntityTable> tables;
+
+        /**
+         * The artifact table.
+         */
+        private final String artifactTable;
+
+        /**
+         * The column of the artifact table referencing the data table.
+         */
+        private final String dataColumn;
+
+        /**
+         * The column of the artifact table holding the payload size.
+         */
+        private final String byteSizeColumn;
+
+        /**
+         * The data table.
+         */
+        private final String dataTable;
+
+        /**
+         * The column of the data table holding local payloads.
+         */
+        private final String valueColumn;
+
+        /**
+         * Whether local payloads are stored as large objects that need to be unlinked.
+         */
+        private final boolean largeObjects;
+    }
+
+    /**
+     * An entity table and the join tables referencing it.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class EntityTable {
+        /**
+         * The table name.
+         */
+        private final String name;
+
+        /**
+         * The join table and element collection columns referencing this table.
+         */
+        private final Set<Reference> references = new LinkedHashSet<>();
+    }
+
+    /**
+     * A column of a table copied to the archive.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Column {
+        /**
+         * The column name.
+         */
+        private final String name;
+
+        /**
+         * The jdbc type.
+         */
+        private final int type;
+
+        /**
+         * The type name reported by the database.
+         */
+        private final String typeName;
+
+        /**
+         * The length or precision.
+         */
+        private final int precision;
+
+        /**
+         * The scale.
+         */
+        private final int scale;
+    }
+
+    /**
+     * A column of a join table referencing an entity table.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Reference {
+        /**
+         * The join table.
+         */
+        private final String table;
+
+        /**
+         * The referencing column.
+         */
+        private final String column;
+    }
+}
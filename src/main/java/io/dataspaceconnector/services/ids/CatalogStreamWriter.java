@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.dataspaceconnector.exceptions.ResourceNotFoundException;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import io.dataspaceconnector.utils.Utils;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes an ids catalog as JSON-LD to an output stream. The offered resources are loaded, built,
+ * and written page by page, so that neither the entities nor the ids objects of the whole catalog
+ * are held in memory at once. Every page is loaded in its own read-only transaction with its own
+ * entity manager, which is closed once the page has been built.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogStreamWriter {
+
+    /**
+     * The JSON-LD property holding the offered resources of a catalog.
+     */
+    private static final String OFFERED_RESOURCE = "ids:offeredResource";
+
+    /**
+     * Service for persisted catalogs.
+     */
+    private final @NonNull CatalogService catalogService;
+
+    /**
+     * Service for offered resources.
+     */
+    private final @NonNull OfferedResourceService offerService;
+
+    /**
+     * Service for building ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * Service for building ids resources.
+     */
+    private final @NonNull IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    /**
+     * Used for loading every page in its own read-only transaction.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * Used for releasing the entity manager held by the request (open-in-view).
+     */
+    private final @NonNull EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Used for writing the JSON-LD document.
+     */
+    private final @NonNull ObjectMapper objectMapper;
+
+    /**
+     * Write a catalog with all its offered resources.
+     *
+     * @param catalogId The id of the catalog.
+     * @param out       The stream the catalog is written to.
+     * @throws IOException               if the stream cannot be written.
+     * @throws ResourceNotFoundException if the catalog is unknown.
+     */
+    public void write(final UUID catalogId, final OutputStream out) throws IOException {
+        // An entity manager bound to the request would be reused by every page and collect all
+        // resources. Release it, unless it belongs to an active transaction.
+        final var requestScoped = TransactionSynchronizationManager.isActualTransactionActive()
+                ? null
+                : TransactionSynchronizationManager.unbindResourceIfPossible(entityManagerFactory);
+        try {
+            writeCatalog(catalogId, out);
+        } finally {
+            if (requestScoped != null) {
+                TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                        requestScoped);
+            }
+        }
+    }
+
+    private void writeCatalog(final UUID catalogId, final OutputStream out) throws IOException {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Build the catalog without resources, they are appended below.
+        final var head = template.execute(status -> catalogBuilder
+                .create(catalogService.get(catalogId), 0).toRdf());
+        final var node = (ObjectNode) objectMapper.readTree(head);
+        node.remove(OFFERED_RESOURCE);
+
+        try (var generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            final var fields = node.fields();
+            while (fields.hasNext()) {
+                final var field = fields.next();
+                generator.writeFieldName(field.getKey());
+                generator.writeTree(field.getValue());
+            }
+
+            generator.writeArrayFieldStart(OFFERED_RESOURCE);
+            writeResources(template, catalogId, generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeResources(final TransactionTemplate template, final UUID catalogId,
+                                final JsonGenerator generator) throws IOException {
+        Pageable pageable = PageRequest.of(0, Utils.MAX_PAGE_SIZE);
+        while (pageable.isPaged()) {
+            final var current = pageable;
+            final var page = template.execute(status -> {
+                final var resources = offerService.getAllByCatalog(catalogId, current);
+                final var rdf = new ArrayList<String>();
+                for (final var resource : resources) {
+                    final var idsResource = resourceBuilder.create(resource);
+                    if (idsResource != null) {
+                        rdf.add(idsResource.toRdf());
+                    }
+                }
+
+                return new RenderedPage(rdf, resources.nextPageable());
+            });
+
+            for (final var resource : Objects.requireNonNull(page).getResources()) {
+                generator.writeRawValue(resource);
+            }
+
+            generator.flush();
+            pageable = page.getNext();
+        }
+    }
+
+    /**
+     * The serialized resources of a page.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class RenderedPage {
+        /**
+         * The serialized resources.
+         */
+        private final List<String> resources;
+
+        /**
+         * The next page, unpaged if this is the last one.
+         */
+        private final Pageable next;
+    }
+}
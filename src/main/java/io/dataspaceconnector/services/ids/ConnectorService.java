@@ -15,12 +15,12 @@
  */
 package io.dataspaceconnector.services.ids;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import de.fraunhofer.iais.eis.BaseConnector;
 import de.fraunhofer.iais.eis.BaseConnectorImpl;
@@ -31,16 +31,15 @@ import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import de.fraunhofer.isst.ids.framework.configuration.ConfigurationContainer;
 import de.fraunhofer.isst.ids.framework.configuration.ConfigurationUpdateException;
-import de.fraunhofer.isst.ids.framework.daps.DapsTokenProvider;
+import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
 import io.dataspaceconnector.model.OfferedResource;
-import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
-import io.dataspaceconnector.services.resources.CatalogService;
 import io.dataspaceconnector.services.resources.OfferedResourceService;
+import io.dataspaceconnector.utils.EndpointUtils;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -58,19 +57,14 @@ public class ConnectorService {
     private final @NonNull ConfigurationContainer configContainer;
 
     /**
-     * The token provider.
+     * Cache for the DAT.
      */
-    private final @NonNull DapsTokenProvider tokenProvider;
+    private final @NonNull DapsTokenCache tokenCache;
 
     /**
-     * Service for persisted catalogs.
+     * Cache for the ids catalogs and the serialized self-description.
      */
-    private final @NonNull CatalogService catalogService;
-
-    /**
-     * Service for ids views.
-     */
-    private final @NonNull IdsCatalogBuilder catalogBuilder;
+    private final @NonNull SelfDescriptionCache descriptionCache;
 
     /**
      * Service for ids resources.
@@ -82,6 +76,16 @@ public class ConnectorService {
      */
     private final @NonNull OfferedResourceService offeredResourceService;
 
+    /**
+     * Used for copying the connector.
+     */
+    private final @NonNull SerializerProvider serializerProvider;
+
+    /**
+     * The snapshot of the current connector configuration.
+     */
+    private final AtomicReference<ConnectorSnapshot> snapshot = new AtomicReference<>();
+
     /**
      * Get a local copy of the current connector and extract its id.
      *
@@ -118,38 +122,39 @@ public class ConnectorService {
      * @return The connector's DAT.
      */
     public DynamicAttributeToken getCurrentDat() {
-        return tokenProvider.getDAT();
+        return tokenCache.getDat();
     }
 
     /**
-     * Build a base connector object with all offered resources.
+     * Build a base connector object with all offered resources. The returned object is a copy
+     * owned by the caller.
      *
      * @return The ids base connector object.
      */
     public BaseConnector getConnectorWithOfferedResources() throws ConstraintViolationException {
-        // Get a local copy of the current connector.
-        final var connector = configContainer.getConnector();
-        final var catalogs = getAllCatalogsWithOfferedResources();
+        return withOfferedResources(getSnapshot());
+    }
 
-        // Create a connector with a list of offered resources.
-        final var connectorImpl = (BaseConnectorImpl) connector;
-        connectorImpl.setResourceCatalog((ArrayList<? extends ResourceCatalog>) catalogs);
-        return connectorImpl;
+    /**
+     * Get the serialized self-description with all offered resources. The description is only
+     * rendered again after an entity or the connector configuration has changed.
+     *
+     * @return The self-description as RDF.
+     */
+    public String getSelfDescription() throws ConstraintViolationException {
+        final var current = getSnapshot();
+        return descriptionCache.getRendered(current,
+                () -> withOfferedResources(current).toRdf());
     }
 
     /**
-     * Build a base connector object without resources.
+     * Build a base connector object without resources. The returned object is shared between
+     * all callers until the configuration changes and must not be modified.
      *
      * @return The ids base connector object.
      */
     public BaseConnector getConnectorWithoutResources() throws ConstraintViolationException {
-        // Get a local copy of the current connector.
-        final var connector = configContainer.getConnector();
-
-        // Create a connector without any resources.
-        final var connectorImpl = (BaseConnectorImpl) connector;
-        connectorImpl.setResourceCatalog(null);
-        return connectorImpl;
+        return getSnapshot().getConnector();
     }
 
     /**
@@ -173,17 +178,54 @@ public class ConnectorService {
         }
     }
 
+    /**
+     * Get the snapshot of the current connector configuration. A new snapshot is only taken
+     * after the configuration has been replaced.
+     *
+     * @return The snapshot.
+     */
+    private ConnectorSnapshot getSnapshot() {
+        final var connector = configContainer.getConnector();
+        final var current = snapshot.get();
+        if (current != null && current.getSource() == connector) {
+            return current;
+        }
+
+        // The configured connector may contain catalogs (see updateConfigModel), remove them.
+        final var withoutResources = copy(connector.toRdf(), null);
+        final var created = new ConnectorSnapshot(connector, withoutResources.toRdf(),
+                withoutResources);
+        snapshot.set(created);
+        return created;
+    }
+
+    private BaseConnector withOfferedResources(final ConnectorSnapshot current) {
+        final var catalogs = getAllCatalogsWithOfferedResources();
+        return copy(current.getRdf(), (ArrayList<? extends ResourceCatalog>) catalogs);
+    }
+
+    private BaseConnector copy(final String rdf,
+                               final ArrayList<? extends ResourceCatalog> catalogs) {
+        try {
+            final var connector = (BaseConnectorImpl) serializerProvider.getSerializer()
+                    .deserialize(rdf, BaseConnector.class);
+            connector.setResourceCatalog(catalogs);
+            return connector;
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to copy connector. [exception=({})]", e.getMessage(), e);
+            }
+            throw new IllegalStateException("Failed to copy connector.", e);
+        }
+    }
+
     /**
      * Get all catalogs with offered resources.
      *
      * @return List of resource catalogs.
      */
     private List<ResourceCatalog> getAllCatalogsWithOfferedResources() {
-        return catalogService.getAll(Pageable.unpaged())
-                .stream()
-                .map(x -> catalogBuilder.create(x, 0))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return descriptionCache.getCatalogs();
     }
 
     /**
@@ -193,11 +235,35 @@ public class ConnectorService {
      * @return The ids resource.
      */
     public Optional<Resource> getOfferedResourceById(final URI resourceId) {
-        final var resource = offeredResourceService.getAll(Pageable.unpaged())
-                .stream()
-                .filter(x -> resourceId.toString().contains(x.getId().toString()))
-                .findAny();
+        final var uuid = EndpointUtils.getUUIDFromPath(resourceId);
+        if (uuid == null) {
+            return Optional.empty();
+        }
+
+        return offeredResourceService.find(uuid).map(resourceBuilder::create);
+    }
+
+    /**
+     * An immutable copy of the connector configuration. It is taken whenever the connector of
+     * the configuration container is replaced, so that requests never modify the shared
+     * configuration and can be served concurrently.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ConnectorSnapshot {
+        /**
+         * The connector of the configuration container the snapshot has been taken from.
+         */
+        private final BaseConnector source;
+
+        /**
+         * The serialized connector without resources, used as template for copies.
+         */
+        private final String rdf;
 
-        return resource.map(resourceBuilder::create);
+        /**
+         * The connector without resources.
+         */
+        private final BaseConnector connector;
     }
 }
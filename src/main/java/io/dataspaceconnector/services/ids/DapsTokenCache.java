@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.isst.ids.framework.daps.DapsTokenProvider;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches the DAT of the connector until shortly before it expires. The expiry is read from the
+ * {@code exp} claim of the token. Once the remaining validity falls below the refresh margin, the
+ * cached token is still returned while a new one is requested in the background. Only one request
+ * to the DAPS runs at a time, concurrent callers wait for it and reuse its result. If the DAPS
+ * did not provide a token, no new token is requested until the failure backoff has passed.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class DapsTokenCache {
+
+    /**
+     * Used for reporting durations in seconds.
+     */
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    /**
+     * Requests the tokens from the DAPS.
+     */
+    private final @NonNull DapsTokenProvider tokenProvider;
+
+    /**
+     * Records the token age and the refresh latency.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
+
+    /**
+     * Reads the claims of the tokens.
+     */
+    private final @NonNull JsonPayloadMapper jsonMapper;
+
+    /**
+     * The remaining validity below which the token is refreshed in the background.
+     */
+    @Value("${daps.token.cache.refresh-before:PT1M}")
+    private Duration refreshBefore;
+
+    /**
+     * The remaining validity below which the token is no longer used.
+     */
+    @Value("${daps.token.cache.min-validity:PT10S}")
+    private Duration minValidity;
+
+    /**
+     * The time a token without readable expiry is cached.
+     */
+    @Value("${daps.token.cache.default-ttl:PT1M}")
+    private Duration defaultTtl;
+
+    /**
+     * The time no new token is requested after the DAPS did not provide one.
+     */
+    @Value("${daps.token.cache.failure-backoff:PT5S}")
+    private Duration failureBackoff;
+
+    /**
+     * Whether a background refresh has been scheduled or is running.
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * The number of created worker threads.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Refreshes the token in the background.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable,
+                "daps-token-refresh-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The cached token. Null if no token has been received yet.
+     */
+    private volatile CachedToken cached;
+
+    /**
+     * The time before which no new token is requested. Null if the last request succeeded.
+     */
+    private volatile Instant retryAfter;
+
+    /**
+     * Registers the token metrics.
+     */
+    @PostConstruct
+    public void init() {
+        Gauge.builder("ids.dat.age", this, DapsTokenCache::getAgeSeconds)
+                .description("Time since the current DAT has been received.")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("ids.dat.validity", this, DapsTokenCache::getValiditySeconds)
+                .description("Remaining validity of the current DAT.")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Get the current DAT. A new token is only requested if there is no token that is valid for
+     * at least the minimum validity.
+     *
+     * @return The DAT or null if the DAPS did not provide a token.
+     */
+    public DynamicAttributeToken getDat() {
+        final var token = cached;
+        final var now = Instant.now();
+        if (token == null || !token.isUsable(now, minValidity)) {
+            return refresh();
+        }
+
+        if (!token.isUsable(now, refreshBefore)) {
+            refreshInBackground();
+        }
+
+        return token.getToken();
+    }
+
+    /**
+     * Request a new token, unless another thread has done so while waiting for the lock.
+     *
+     * @return The DAT or null if the DAPS did not provide a token.
+     */
+    private synchronized DynamicAttributeToken refresh() {
+        final var token = cached;
+        final var now = Instant.now();
+        if (token != null && token.isUsable(now, minValidity)) {
+            return token.getToken();
+        }
+
+        if (isBackingOff(now)) {
+            return null;
+        }
+
+        final var received = fetch();
+        return received == null ? null : received.getToken();
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    synchronized (this) {
+                        final var token = cached;
+                        final var now = Instant.now();
+                        if ((token == null || !token.isUsable(now, refreshBefore))
+                                && !isBackingOff(now)) {
+                            fetch();
+                        }
+                    }
+                } catch (RuntimeException exception) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to refresh the DAT. The cached token is used until it "
+                                + "expires. [exception=({})]", exception.getMessage());
+                    }
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            refreshing.set(false);
+            throw exception;
+        }
+    }
+
+    /**
+     * Request a new token from the DAPS and cache it. Must be called while holding the lock.
+     *
+     * @return The cached token or null if the DAPS did not provide a token.
+     */
+    private CachedToken fetch() {
+        final var start = System.nanoTime();
+        var success = false;
+        try {
+            final var token = tokenProvider.getDAT();
+            final var now = Instant.now();
+            if (token == null) {
+                retryAfter = now.plus(failureBackoff);
+                if (log.isWarnEnabled()) {
+                    log.warn("The DAPS did not provide a DAT. [retryAfter=({})]", retryAfter);
+                }
+                return null;
+            }
+
+            final var expiry = getExpiry(token);
+            final var entry = new CachedToken(token, now,
+                    expiry == null ? now.plus(defaultTtl) : expiry);
+            cached = entry;
+            retryAfter = null;
+            success = true;
+
+            if (log.isDebugEnabled()) {
+                log.debug("Received new DAT. [expiry=({})]", entry.getExpiry());
+            }
+
+            return entry;
+        } finally {
+            Timer.builder("ids.dat.refresh")
+                    .description("Latency of requesting a DAT from the DAPS.")
+                    .tag("result", success ? "success" : "failure")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean isBackingOff(final Instant now) {
+        final var until = retryAfter;
+        return until != null && now.isBefore(until);
+    }
+
+    /**
+     * Read the expiry of a token from its {@code exp} claim.
+     *
+     * @param token The token.
+     * @return The expiry or null if the token is no JWT containing an expiry.
+     */
+    private Instant getExpiry(final DynamicAttributeToken token) {
+        final var value = token.getTokenValue();
+        final var parts = value == null ? new String[0] : value.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            final var payload = new String(Base64.getUrlDecoder().decode(parts[1]),
+                    StandardCharsets.UTF_8);
+            final var exp = jsonMapper.readTree(payload).path("exp");
+            return exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (IllegalArgumentException | JsonProcessingException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not read the expiry of the DAT. [exception=({})]",
+                        exception.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private double getAgeSeconds() {
+        final var token = cached;
+        return token == null ? Double.NaN : toSeconds(token.getReceived(), Instant.now());
+    }
+
+    private double getValiditySeconds() {
+        final var token = cached;
+        return token == null ? Double.NaN : toSeconds(Instant.now(), token.getExpiry());
+    }
+
+    private static double toSeconds(final Instant from, final Instant to) {
+        return Duration.between(from, to).toMillis() / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * A token together with the time it has been received and its expiry.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class CachedToken {
+        /**
+         * The token.
+         */
+        private final DynamicAttributeToken token;
+
+        /**
+         * The time the token has been received.
+         */
+        private final Instant received;
+
+        /**
+         * The time the token expires.
+         */
+        private final Instant expiry;
+
+        /**
+         * Checks whether the token is still valid for the given duration.
+         *
+         * @param now    The current time.
+         * @param margin The required remaining validity.
+         * @return True if the token is valid for at least the margin.
+         */
+        boolean isUsable(final Instant now, final Duration margin) {
+            return now.plus(margin).isBefore(expiry);
+        }
+    }
+}
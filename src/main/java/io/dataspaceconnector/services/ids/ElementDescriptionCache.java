@@ -0,0 +1,383 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.model.AbstractEntity;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.Contract;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.Representation;
+import io.dataspaceconnector.services.BaseUriService;
+import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsRepresentationBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.ContractService;
+import io.dataspaceconnector.services.resources.EntityChangedEvent;
+import io.dataspaceconnector.services.resources.RepresentationService;
+import io.dataspaceconnector.services.resources.ResourceService;
+import io.dataspaceconnector.utils.Utils;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Caches the serialized ids descriptions of catalogs, offered resources, representations,
+ * artifacts and contracts together with a content hash. Every description is kept with the ids
+ * of the entities it has been built from. An {@link EntityChangedEvent} evicts all descriptions
+ * containing the changed entity. If a public base uri is configured, the evicted descriptions are
+ * rendered again in the background, otherwise on the next request.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ElementDescriptionCache {
+
+    /**
+     * The algorithm used for the content hash.
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Service for artifacts.
+     */
+    private final @NonNull ArtifactService artifactService;
+
+    /**
+     * Service for representations.
+     */
+    private final @NonNull RepresentationService representationService;
+
+    /**
+     * Service for offered resources.
+     */
+    private final @NonNull ResourceService<OfferedResource, OfferedResourceDesc> offerService;
+
+    /**
+     * Service for catalogs.
+     */
+    private final @NonNull CatalogService catalogService;
+
+    /**
+     * Service for contract offers.
+     */
+    private final @NonNull ContractService contractService;
+
+    /**
+     * Service for building ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * Service for building ids resources.
+     */
+    private final @NonNull IdsResourceBuilder<OfferedResource> offerBuilder;
+
+    /**
+     * Service for building ids artifacts.
+     */
+    private final @NonNull IdsArtifactBuilder artifactBuilder;
+
+    /**
+     * Service for building ids representations.
+     */
+    private final @NonNull IdsRepresentationBuilder representationBuilder;
+
+    /**
+     * Service for building ids contracts.
+     */
+    private final @NonNull IdsContractBuilder contractBuilder;
+
+    /**
+     * Service for resolving the base uri of the ids objects.
+     */
+    private final @NonNull BaseUriService baseUriService;
+
+    /**
+     * Used for loading the entities in a read-only transaction when refreshing.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * Incremented on every change. Descriptions rendered in an older generation are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * The cached descriptions by entity id.
+     */
+    private final Map<UUID, Description> descriptions = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of the entities waiting to be rendered again.
+     */
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Renders the evicted descriptions one after another.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "element-description-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Check if the description of an entity is cached.
+     *
+     * @param entity The entity.
+     * @return True if the description of the entity is cached.
+     */
+    public static boolean isSupported(final AbstractEntity entity) {
+        return entity instanceof Artifact || entity instanceof OfferedResource
+                || entity instanceof Representation || entity instanceof Catalog
+                || entity instanceof Contract;
+    }
+
+    /**
+     * Get the description of an entity. The description is rendered if the entity or one of its
+     * children has changed or if it has been rendered for another base uri.
+     *
+     * @param entity The entity.
+     * @return The description.
+     * @throws IllegalArgumentException     if the description of the entity is not cached.
+     * @throws ConstraintViolationException if the ids object could not be built.
+     */
+    public Description get(final AbstractEntity entity) throws ConstraintViolationException {
+        if (!isSupported(entity)) {
+            throw new IllegalArgumentException("No description for " + entity + ".");
+        }
+
+        final var baseUri = baseUriService.getBaseUri();
+        final var cached = descriptions.get(entity.getId());
+        if (cached != null && cached.getBaseUri().equals(baseUri)) {
+            return cached;
+        }
+
+        final var current = generation.get();
+        final var description = render(entity, baseUri);
+        cache(current, entity.getId(), description);
+        return description;
+    }
+
+    /**
+     * Evicts all descriptions containing the changed entity. Called after the change has been
+     * committed.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final var evicted = invalidate(event.getEntityId());
+        if (evicted.isEmpty() || !baseUriService.isConfigured()) {
+            // Without a configured base uri the descriptions depend on the next request.
+            return;
+        }
+
+        for (final var description : evicted) {
+            final var entityId = description.getEntityId();
+            if (pending.add(entityId)) {
+                executor.execute(() -> refresh(entityId, description.getEntityType()));
+            }
+        }
+    }
+
+    /**
+     * Stops rendering in the background.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized Set<Description> invalidate(final UUID entityId) {
+        generation.incrementAndGet();
+
+        final var evicted = new HashSet<Description>();
+        descriptions.values().removeIf(x -> x.getEntityIds().contains(entityId) && evicted.add(x));
+
+        if (log.isDebugEnabled() && !evicted.isEmpty()) {
+            log.debug("Invalidated element descriptions. [entityId=({}), count=({})]",
+                    entityId, evicted.size());
+        }
+
+        return evicted;
+    }
+
+    private synchronized void cache(final long current, final UUID entityId,
+                                    final Description description) {
+        if (generation.get() == current) {
+            descriptions.put(entityId, description);
+        }
+    }
+
+    private void refresh(final UUID entityId, final Class<? extends AbstractEntity> entityType) {
+        pending.remove(entityId);
+
+        try {
+            final var current = generation.get();
+            final var template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            template.executeWithoutResult(status -> find(entityId, entityType).ifPresent(x -> {
+                final var description = render(x, baseUriService.getBaseUri());
+                cache(current, entityId, description);
+            }));
+        } catch (Exception exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to refresh element description. [entityId=({}), "
+                        + "exception=({})]", entityId, exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private Optional<? extends AbstractEntity> find(
+            final UUID entityId, final Class<? extends AbstractEntity> entityType) {
+        if (Artifact.class.isAssignableFrom(entityType)) {
+            return artifactService.find(entityId);
+        } else if (OfferedResource.class.isAssignableFrom(entityType)) {
+            return offerService.find(entityId);
+        } else if (Representation.class.isAssignableFrom(entityType)) {
+            return representationService.find(entityId);
+        } else if (Catalog.class.isAssignableFrom(entityType)) {
+            return catalogService.find(entityId);
+        } else {
+            return contractService.find(entityId);
+        }
+    }
+
+    private Description render(final AbstractEntity entity, final URI baseUri)
+            throws ConstraintViolationException {
+        final var ids = new HashSet<UUID>();
+        final String rdf;
+        if (entity instanceof Artifact) {
+            rdf = Objects.requireNonNull(artifactBuilder.create((Artifact) entity)).toRdf();
+            ids.add(entity.getId());
+        } else if (entity instanceof OfferedResource) {
+            rdf = Objects.requireNonNull(offerBuilder.create((OfferedResource) entity)).toRdf();
+            collectIds((OfferedResource) entity, ids);
+        } else if (entity instanceof Representation) {
+            final var representation = (Representation) entity;
+            rdf = Objects.requireNonNull(representationBuilder.create(representation)).toRdf();
+            collectIds(representation, ids);
+        } else if (entity instanceof Catalog) {
+            final var catalog = (Catalog) entity;
+            rdf = Objects.requireNonNull(catalogBuilder.create(catalog)).toRdf();
+            ids.add(catalog.getId());
+            Utils.toStream(catalog.getOfferedResources()).forEach(x -> collectIds(x, ids));
+        } else {
+            rdf = Objects.requireNonNull(contractBuilder.create((Contract) entity)).toRdf();
+            collectIds((Contract) entity, ids);
+        }
+
+        return new Description(entity.getId(), entity.getClass(), baseUri, rdf, hash(rdf), ids);
+    }
+
+    private static void collectIds(final OfferedResource resource, final Set<UUID> ids) {
+        ids.add(resource.getId());
+        Utils.toStream(resource.getRepresentations()).forEach(x -> collectIds(x, ids));
+        Utils.toStream(resource.getContracts()).forEach(x -> collectIds(x, ids));
+    }
+
+    private static void collectIds(final Representation representation, final Set<UUID> ids) {
+        ids.add(representation.getId());
+        Utils.toStream(representation.getArtifacts()).forEach(x -> ids.add(x.getId()));
+    }
+
+    private static void collectIds(final Contract contract, final Set<UUID> ids) {
+        ids.add(contract.getId());
+        Utils.toStream(contract.getRules()).forEach(x -> ids.add(x.getId()));
+    }
+
+    private static String hash(final String value) {
+        try {
+            final var digest = MessageDigest.getInstance(HASH_ALGORITHM)
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            final var builder = new StringBuilder(digest.length * 2);
+            for (final var b : digest) {
+                builder.append(String.format("%02x", b));
+            }
+
+            return builder.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            // Every Java platform has to support SHA-256.
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A serialized ids description.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Description {
+        /**
+         * The id of the described entity.
+         */
+        private final UUID entityId;
+
+        /**
+         * The type of the described entity.
+         */
+        private final Class<? extends AbstractEntity> entityType;
+
+        /**
+         * The base uri the description has been rendered with.
+         */
+        private final URI baseUri;
+
+        /**
+         * The serialized ids object.
+         */
+        private final String rdf;
+
+        /**
+         * The hash of the serialized ids object.
+         */
+        private final String hash;
+
+        /**
+         * The ids of the entities contained in the description.
+         */
+        private final Set<UUID> entityIds;
+    }
+}
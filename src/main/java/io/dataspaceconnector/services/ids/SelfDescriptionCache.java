@@ -0,0 +1,306 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.Contract;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.Representation;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.EntityChangedEvent;
+import io.dataspaceconnector.utils.Utils;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Caches the ids catalogs and the serialized self-description of the connector. Every catalog is
+ * kept together with the ids of the entities it has been built from. An
+ * {@link EntityChangedEvent} only evicts the catalogs containing the changed entity, so that the
+ * next request rebuilds these catalogs and reuses all others.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class SelfDescriptionCache {
+
+    /**
+     * The depth the catalogs of the self-description are built with.
+     */
+    public static final int CATALOG_DEPTH = 0;
+
+    /**
+     * The depth of the resources below a catalog.
+     */
+    private static final int RESOURCE_DEPTH = 1;
+
+    /**
+     * The depth of the representations and contracts below a catalog.
+     */
+    private static final int REPRESENTATION_DEPTH = 2;
+
+    /**
+     * The depth of the artifacts and rules below a catalog.
+     */
+    private static final int ARTIFACT_DEPTH = 3;
+
+    /**
+     * Service for persisted catalogs.
+     */
+    private final @NonNull CatalogService catalogService;
+
+    /**
+     * Service for ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * Used for loading the catalogs in a single read-only transaction.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * Incremented on every change. Results computed in an older generation are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * The cached catalogs by catalog id.
+     */
+    private final Map<UUID, CachedCatalog> catalogs = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of all catalogs in the order of the catalog service. Null if unknown.
+     */
+    private volatile List<UUID> catalogIds;
+
+    /**
+     * The last serialized self-description.
+     */
+    private volatile Rendering rendering;
+
+    /**
+     * Get all ids catalogs. Only the catalogs changed since the last call are rebuilt.
+     *
+     * @return The ids catalogs.
+     * @throws ConstraintViolationException If a catalog could not be built.
+     */
+    public List<ResourceCatalog> getCatalogs() throws ConstraintViolationException {
+        final var current = generation.get();
+        final var ids = catalogIds;
+        if (ids != null) {
+            final var cached = ids.stream().map(catalogs::get).collect(Collectors.toList());
+            if (!cached.contains(null)) {
+                return toCatalogList(cached);
+            }
+        }
+
+        return rebuild(current);
+    }
+
+    /**
+     * Get the serialized self-description. The description is rendered again if an entity has
+     * changed or if it has been rendered for another key (e.g. another connector configuration).
+     *
+     * @param key      Identifies the input the description is rendered from.
+     * @param renderer Renders the self-description.
+     * @return The serialized self-description.
+     */
+    public String getRendered(final Object key, final Supplier<String> renderer) {
+        final var current = generation.get();
+        final var cached = rendering;
+        if (cached != null && cached.getKey() == key && cached.getGeneration() == current) {
+            return cached.getValue();
+        }
+
+        final var value = renderer.get();
+        rendering = new Rendering(key, current, value);
+        return value;
+    }
+
+    /**
+     * Evicts all cached catalogs containing the changed entity. Called after the change has been
+     * committed.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        invalidate(event.getEntityId(), Catalog.class.isAssignableFrom(event.getEntityType()));
+    }
+
+    private synchronized void invalidate(final UUID entityId, final boolean isCatalog) {
+        generation.incrementAndGet();
+        catalogs.values().removeIf(x -> x.getEntityIds().contains(entityId));
+        if (isCatalog) {
+            // The catalog may have been created or deleted.
+            catalogIds = null;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated self-description. [entityId=({})]", entityId);
+        }
+    }
+
+    private synchronized void cache(final long current, final UUID catalogId,
+                                    final CachedCatalog catalog) {
+        if (generation.get() == current) {
+            catalogs.put(catalogId, catalog);
+        }
+    }
+
+    private synchronized void cache(final long current, final List<UUID> ids) {
+        if (generation.get() == current) {
+            catalogIds = ids;
+        }
+    }
+
+    private List<ResourceCatalog> rebuild(final long current) {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        final var result = template.execute(status -> {
+            final var entries = new ArrayList<CachedCatalog>();
+            final var ids = new ArrayList<UUID>();
+            for (final var catalog : catalogService.getAll(Pageable.unpaged())) {
+                var entry = catalogs.get(catalog.getId());
+                if (entry == null) {
+                    entry = new CachedCatalog(catalogBuilder.create(catalog, CATALOG_DEPTH),
+                            collectIds(catalog));
+                    cache(current, catalog.getId(), entry);
+                }
+
+                ids.add(catalog.getId());
+                entries.add(entry);
+            }
+
+            cache(current, ids);
+            return entries;
+        });
+
+        return toCatalogList(result == null ? List.of() : result);
+    }
+
+    private static List<ResourceCatalog> toCatalogList(final List<CachedCatalog> entries) {
+        return entries.stream()
+                .map(CachedCatalog::getCatalog)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Collects the ids of all entities the builder visits for a catalog of the configured depth.
+     *
+     * @param catalog The catalog.
+     * @return The ids of the catalog and its children.
+     */
+    private static Set<UUID> collectIds(final Catalog catalog) {
+        final var ids = new HashSet<UUID>();
+        ids.add(catalog.getId());
+        if (!isIncluded(RESOURCE_DEPTH)) {
+            return ids;
+        }
+
+        Utils.toStream(catalog.getOfferedResources()).forEach(x -> collectIds(x, ids));
+        return ids;
+    }
+
+    private static void collectIds(final OfferedResource resource, final Set<UUID> ids) {
+        ids.add(resource.getId());
+        if (isIncluded(REPRESENTATION_DEPTH)) {
+            Utils.toStream(resource.getRepresentations()).forEach(x -> collectIds(x, ids));
+            Utils.toStream(resource.getContracts()).forEach(x -> collectIds(x, ids));
+        }
+    }
+
+    private static void collectIds(final Representation representation, final Set<UUID> ids) {
+        ids.add(representation.getId());
+        if (isIncluded(ARTIFACT_DEPTH)) {
+            Utils.toStream(representation.getArtifacts()).forEach(x -> ids.add(x.getId()));
+        }
+    }
+
+    private static void collectIds(final Contract contract, final Set<UUID> ids) {
+        ids.add(contract.getId());
+        if (isIncluded(ARTIFACT_DEPTH)) {
+            Utils.toStream(contract.getRules()).forEach(x -> ids.add(x.getId()));
+        }
+    }
+
+    private static boolean isIncluded(final int depth) {
+        return depth <= CATALOG_DEPTH || CATALOG_DEPTH < 0;
+    }
+
+    /**
+     * A built catalog and the ids of all entities it has been built from.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class CachedCatalog {
+        /**
+         * The ids catalog. Null if the builder did not return a catalog.
+         */
+        private final ResourceCatalog catalog;
+
+        /**
+         * The ids of the entities contained in the catalog.
+         */
+        private final Set<UUID> entityIds;
+    }
+
+    /**
+     * A serialized self-description.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Rendering {
+        /**
+         * The input the description has been rendered from.
+         */
+        private final Object key;
+
+        /**
+         * The generation the description has been rendered in.
+         */
+        private final long generation;
+
+        /**
+         * The serialized description.
+         */
+        private final String value;
+    }
+}
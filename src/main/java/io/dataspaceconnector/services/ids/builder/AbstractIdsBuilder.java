@@ -17,13 +17,21 @@ package io.dataspaceconnector.services.ids.builder;
 
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import io.dataspaceconnector.model.AbstractEntity;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.utils.SelfLinkHelper;
 import io.dataspaceconnector.utils.Utils;
+import io.dataspaceconnector.view.LinkFactory;
 import lombok.NoArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.ArrayList;
@@ -31,6 +39,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +66,36 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
      */
     private static final int MAX_DEPTH = 3;
 
+    /**
+     * The signature the setProperty methods are adapted to.
+     */
+    private static final MethodType SET_PROPERTY_TYPE =
+            MethodType.methodType(void.class, Object.class, String.class, Object.class);
+
+    /**
+     * The setProperty method of every ids class, resolved once per class. Empty if the class
+     * does not offer a usable setProperty method.
+     */
+    private static final ClassValue<Optional<MethodHandle>> SET_PROPERTY = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> type) {
+            return findAdditionalMethod(type);
+        }
+    };
+
+    /**
+     * The number of sibling entities from which on they are built in parallel. Values smaller
+     * than one disable parallel building.
+     */
+    @Value("${ids.builder.parallel-threshold:0}")
+    private int parallelThreshold;
+
+    /**
+     * Service for resolving the public base uri.
+     */
+    @Autowired
+    private BaseUriService baseUriService;
+
     /**
      * Convert an DSC object to an ids object. The default depth will be used to determine the
      * when to stop following dependencies.
@@ -73,6 +116,7 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
      * @return The ids object.
      */
     public X create(final T entity, final int maxDepth) throws ConstraintViolationException {
+        prefetch(entity, 0, maxDepth);
         return create(entity, getBaseUri(), 0, maxDepth);
     }
 
@@ -99,8 +143,13 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
     protected abstract X createInternal(T entity, URI baseUri, int currentDepth, int maxDepth)
             throws ConstraintViolationException;
 
-    private URI getBaseUri() {
-        return URI.create(ServletUriComponentsBuilder.fromCurrentContextPath().toUriString());
+    /**
+     * Get the base uri used for the absolute self-links of the ids objects.
+     *
+     * @return The base uri.
+     */
+    protected URI getBaseUri() {
+        return baseUriService.getBaseUri();
     }
 
     /**
@@ -113,13 +162,55 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
      */
     protected <K extends AbstractEntity> URI getAbsoluteSelfLink(final K entity,
                                                                  final URI baseUri) {
-        var uri = SelfLinkHelper.getSelfLink(entity);
+        var link = SelfLinkHelper.getSelfLink(entity).toString();
 
-        if (!uri.isAbsolute()) {
-            uri = URI.create(baseUri.toString() + uri);
+        // NOTE: Within a request the self-link contains the request's host, which is replaced
+        // by the public base uri.
+        final var requestUrl = LinkFactory.getBaseUrl();
+        if (!requestUrl.isEmpty() && link.startsWith(requestUrl)) {
+            link = link.substring(requestUrl.length());
         }
 
-        return uri;
+        final var uri = URI.create(link);
+        return uri.isAbsolute() ? uri : URI.create(baseUri.toString() + uri);
+    }
+
+    /**
+     * Load everything the builder will read from the entity, but only down to the max depth.
+     * Prefetching the whole tree before building it lets hibernate load the collections of all
+     * siblings in one batch instead of one query per entity. It is also required before the
+     * entity is handed to another thread, since the persistence context is bound to the thread
+     * that opened it. Builders with children must override this method and prefetch their
+     * children via {@link #prefetch(AbstractIdsBuilder, List, int, int)}.
+     *
+     * @param entity       The entity.
+     * @param currentDepth The current distance to the original call.
+     * @param maxDepth     The max depth to the original call.
+     */
+    protected void prefetch(final T entity, final int currentDepth, final int maxDepth) {
+        Hibernate.initialize(entity.getAdditional());
+    }
+
+    /**
+     * Batch call of prefetch. Use this call for prefetching an object's dependencies up to the
+     * depth they will be built.
+     *
+     * @param builder      The builder that will build the entities.
+     * @param entityList   The entities that will be built.
+     * @param currentDepth The current distance to the original call.
+     * @param maxDepth     The max depth to the original call.
+     * @param <V>          The type of the DSC entity.
+     */
+    protected <V extends AbstractEntity> void prefetch(final AbstractIdsBuilder<V, ?> builder,
+                                                       final List<V> entityList,
+                                                       final int currentDepth,
+                                                       final int maxDepth) {
+        final int nextDepth = currentDepth + 1;
+        if (shouldGenerate(nextDepth, maxDepth) && entityList != null) {
+            for (final var entity : entityList) {
+                builder.prefetch(entity, nextDepth, maxDepth);
+            }
+        }
     }
 
     private static boolean shouldGenerate(final int currentDepth, final int maxDepth) {
@@ -148,24 +239,112 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
             final int currentDepth, final int maxDepth) throws ConstraintViolationException {
         final int nextDepth = currentDepth + 1;
 
-        return !shouldGenerate(nextDepth, maxDepth) ? Optional.empty()
-                : Optional.of(new ArrayList<>(Utils.toStream(entityList)
+        if (!shouldGenerate(nextDepth, maxDepth)) {
+            return Optional.empty();
+        }
+
+        if (shouldFork(entityList)) {
+            return Optional.of(createParallel(builder, entityList, baseUri, nextDepth, maxDepth));
+        }
+
+        return Optional.of(new ArrayList<>(Utils.toStream(entityList)
                 .map(r -> builder
                         .create(r, baseUri, nextDepth, maxDepth))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList())));
     }
 
-    private <K> K addAdditionals(final K idsObject, final Map<String, String> additional) {
+    private boolean shouldFork(final List<?> entityList) {
+        // NOTE: Only the outermost list is forked. Nested lists are built by the worker that
+        // builds their parent.
+        return parallelThreshold > 0 && entityList != null
+                && entityList.size() >= parallelThreshold && !ForkJoinTask.inForkJoinPool();
+    }
+
+    private <V extends AbstractEntity, W> ArrayList<W> createParallel(
+            final AbstractIdsBuilder<V, W> builder, final List<V> entityList, final URI baseUri,
+            final int nextDepth, final int maxDepth) throws ConstraintViolationException {
+        // Resolve all lazy associations here, the workers must not touch the persistence context.
+        for (final var entity : entityList) {
+            builder.prefetch(entity, nextDepth, maxDepth);
+        }
+
+        // The workers need the request for building the self-links.
+        final var request = RequestContextHolder.getRequestAttributes();
+        final var tasks = new ArrayList<Callable<W>>(entityList.size());
+        for (final var entity : entityList) {
+            tasks.add(() -> createInRequest(request,
+                    () -> builder.create(entity, baseUri, nextDepth, maxDepth)));
+        }
+
+        final var result = new ArrayList<W>(entityList.size());
+        for (final Future<W> future : ForkJoinPool.commonPool().invokeAll(tasks)) {
+            final var idsObject = join(future);
+            if (idsObject != null) {
+                result.add(idsObject);
+            }
+        }
+
+        return result;
+    }
+
+    private static <W> W createInRequest(final RequestAttributes request,
+                                         final Callable<W> task) throws Exception {
+        RequestContextHolder.setRequestAttributes(request);
+        try {
+            return task.call();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static <W> W join(final Future<W> future) throws ConstraintViolationException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building ids objects.", e);
+        } catch (ExecutionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof ConstraintViolationException) {
+                throw (ConstraintViolationException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException("Failed to build ids object.", cause);
+        }
+    }
+
+    /**
+     * Add additional properties to an ids object.
+     *
+     * @param idsObject  The ids object.
+     * @param additional The properties.
+     * @param <K>        The type of the ids object.
+     * @return The ids object.
+     */
+    protected <K> K addAdditionals(final K idsObject, final Map<String, String> additional) {
         // NOTE: The Infomodel lib has setProperty on all classes, but the method is implemented
         // individually...
+        final var setProperty = SET_PROPERTY.get(idsObject.getClass());
+        if (setProperty.isEmpty()) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to set additional fields. No setProperty method found. "
+                        + "[class=({})]", idsObject.getClass().getName());
+            }
+
+            return idsObject;
+        }
+
         try {
-            final var setPropertyMethod = findAdditionalMethod(idsObject);
             for (final var entry : additional.entrySet()) {
-                setPropertyMethod.invoke(idsObject, entry.getKey(), entry.getValue());
+                setProperty.get().invokeExact((Object) idsObject, entry.getKey(),
+                        (Object) entry.getValue());
             }
-
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+        } catch (Throwable e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to set additional fields. [exception=({})]", e.getMessage(), e);
             }
@@ -174,22 +353,22 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
         return idsObject;
     }
 
-    private <K> Method findAdditionalMethod(final K idsResource) throws NoSuchMethodException {
+    private static Optional<MethodHandle> findAdditionalMethod(final Class<?> idsClass) {
         // NOTE: The Infomodel lib has setProperty on all classes, but some of them are implemented
         // higher up the inheritance chain.
-        // If the setProperty method has a different signature null is returned.
-        var tClass = idsResource.getClass();
-        for (int i = 0; i < MAX_DEPTH; i++) {
+        // If the setProperty method has a different signature nothing is returned.
+        var tClass = idsClass;
+        for (int i = 0; i < MAX_DEPTH && tClass != null; i++) {
             try {
-                return tClass.getMethod("setProperty", String.class, Object.class);
-            } catch (NoSuchMethodException ignore) {
+                final Method method = tClass.getMethod("setProperty", String.class, Object.class);
+                return Optional.of(MethodHandles.publicLookup().unreflect(method)
+                        .asType(SET_PROPERTY_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException ignore) {
                 // Intentionally empty
             }
-            if (i < MAX_DEPTH - 1) {
-                tClass = tClass.getSuperclass();
-            }
+            tClass = tClass.getSuperclass();
         }
 
-        throw new NoSuchMethodException();
+        return Optional.empty();
     }
 }
@@ -22,9 +22,11 @@ import io.dataspaceconnector.model.Catalog;
 import io.dataspaceconnector.model.OfferedResource;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
+import java.util.HashMap;
 
 /**
  * Converts DSC artifacts to ids artifacts.
@@ -38,6 +40,47 @@ public final class IdsCatalogBuilder extends AbstractIdsBuilder<Catalog, Resourc
      */
     private final @NonNull IdsResourceBuilder<OfferedResource> resourceBuilder;
 
+    /**
+     * The property holding the index of a catalog page.
+     */
+    public static final String PAGE_PROPERTY = "dsc:page";
+
+    /**
+     * The property holding the size of a catalog page.
+     */
+    public static final String SIZE_PROPERTY = "dsc:size";
+
+    /**
+     * The property holding the number of offered resources of a paged catalog.
+     */
+    public static final String TOTAL_ELEMENTS_PROPERTY = "dsc:totalElements";
+
+    /**
+     * Convert a catalog to an ids catalog that only contains one page of its offered resources.
+     * The resources of the page are followed to their full depth. The position of the page is
+     * added as additional properties.
+     *
+     * @param catalog   The catalog.
+     * @param resources The page of offered resources.
+     * @return The ids catalog.
+     */
+    public ResourceCatalog createPage(final Catalog catalog, final Page<OfferedResource> resources)
+            throws ConstraintViolationException {
+        prefetch(resourceBuilder, resources.getContent(), 0, DEFAULT_DEPTH);
+
+        final var baseUri = getBaseUri();
+        final var builder = new ResourceCatalogBuilder(getAbsoluteSelfLink(catalog, baseUri));
+        create(resourceBuilder, resources.getContent(), baseUri, 0, DEFAULT_DEPTH)
+                .ifPresent(builder::_offeredResource_);
+
+        final var properties = new HashMap<>(catalog.getAdditional());
+        properties.put(PAGE_PROPERTY, String.valueOf(resources.getNumber()));
+        properties.put(SIZE_PROPERTY, String.valueOf(resources.getSize()));
+        properties.put(TOTAL_ELEMENTS_PROPERTY, String.valueOf(resources.getTotalElements()));
+
+        return addAdditionals(builder.build(), properties);
+    }
+
     @Override
     protected ResourceCatalog createInternal(final Catalog catalog, final URI baseUri,
                                              final int currentDepth, final int maxDepth)
@@ -51,4 +94,10 @@ public final class IdsCatalogBuilder extends AbstractIdsBuilder<Catalog, Resourc
 
         return builder.build();
     }
+
+    @Override
+    protected void prefetch(final Catalog catalog, final int currentDepth, final int maxDepth) {
+        super.prefetch(catalog, currentDepth, maxDepth);
+        prefetch(resourceBuilder, catalog.getOfferedResources(), currentDepth, maxDepth);
+    }
 }
@@ -145,4 +145,11 @@ public final class IdsContractBuilder extends AbstractIdsBuilder<Contract, Contr
     private boolean isDuty(final ContractRule rule) {
         return deserializer.isRuleType(rule.getValue(), Duty.class);
     }
+
+    @Override
+    protected void prefetch(final Contract contract, final int currentDepth, final int maxDepth) {
+        super.prefetch(contract, currentDepth, maxDepth);
+        // NOTE: All rule builders read the same rules, one of them is enough for prefetching.
+        prefetch(permBuilder, contract.getRules(), currentDepth, maxDepth);
+    }
 }
@@ -76,4 +76,11 @@ public final class IdsRepresentationBuilder
 
         return builder.build();
     }
+
+    @Override
+    protected void prefetch(final Representation representation, final int currentDepth,
+                            final int maxDepth) {
+        super.prefetch(representation, currentDepth, maxDepth);
+        prefetch(artifactBuilder, representation.getArtifacts(), currentDepth, maxDepth);
+    }
 }
@@ -24,6 +24,7 @@ import io.dataspaceconnector.model.Resource;
 import io.dataspaceconnector.utils.IdsUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
@@ -114,4 +115,12 @@ public final class IdsResourceBuilder<T extends Resource>
 
         return builder.build();
     }
+
+    @Override
+    protected void prefetch(final T resource, final int currentDepth, final int maxDepth) {
+        super.prefetch(resource, currentDepth, maxDepth);
+        Hibernate.initialize(resource.getKeywords());
+        prefetch(repBuilder, resource.getRepresentations(), currentDepth, maxDepth);
+        prefetch(contractBuilder, resource.getContracts(), currentDepth, maxDepth);
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+
+/**
+ * Tracks the outcome of the recent requests to a peer. Once the failure rate reaches the
+ * threshold, the circuit breaker opens and requests fail immediately. After the open duration, a
+ * few probe requests are let through: if they succeed, the circuit breaker closes again,
+ * otherwise it stays open for another open duration.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Requests are sent.
+         */
+        CLOSED,
+
+        /**
+         * Requests fail immediately.
+         */
+        OPEN,
+
+        /**
+         * Probe requests are sent.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Factor for calculating percentages.
+     */
+    private static final double PERCENT = 100.0;
+
+    /**
+     * The settings.
+     */
+    private final ConnectionProfile profile;
+
+    /**
+     * The outcome of the recent requests, true for failures.
+     */
+    private final boolean[] outcomes;
+
+    /**
+     * The number of recorded outcomes, at most the window size.
+     */
+    private int recorded;
+
+    /**
+     * The position of the next outcome.
+     */
+    private int next;
+
+    /**
+     * The number of failures among the recorded outcomes.
+     */
+    private int failures;
+
+    /**
+     * The current state.
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * The time the circuit breaker has opened, in nanoseconds.
+     */
+    private long openedAt;
+
+    /**
+     * The number of probe requests let through in the half-open state.
+     */
+    private int probes;
+
+    /**
+     * The number of succeeded probe requests.
+     */
+    private int succeededProbes;
+
+    /**
+     * Constructor.
+     *
+     * @param connectionProfile The settings.
+     */
+    public CircuitBreaker(final ConnectionProfile connectionProfile) {
+        this.profile = connectionProfile;
+        this.outcomes = new boolean[Math.max(1, connectionProfile.getSlidingWindowSize())];
+    }
+
+    /**
+     * Check if a request may be sent. Every permitted request has to be followed by
+     * {@link #onSuccess()}, {@link #onFailure()}, or {@link #release()}.
+     *
+     * @return True if the request may be sent.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!profile.isCircuitBreaker()) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < profile.getOpenDuration().toNanos()) {
+                return false;
+            }
+
+            state = State.HALF_OPEN;
+            probes = 0;
+            succeededProbes = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probes >= Math.max(1, profile.getHalfOpenRequests())) {
+                return false;
+            }
+            probes++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Give back the permission of a request that has not been sent.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && probes > 0) {
+            probes--;
+        }
+    }
+
+    /**
+     * Record a request that has received a response.
+     */
+    public synchronized void onSuccess() {
+        if (!profile.isCircuitBreaker()) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            succeededProbes++;
+            if (succeededProbes >= Math.max(1, profile.getHalfOpenRequests())) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record a request that has not received a response.
+     */
+    public synchronized void onFailure() {
+        if (!profile.isCircuitBreaker()) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= profile.getMinimumRequests()
+                    && getFailureRate() >= profile.getFailureRateThreshold()) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Get the current state.
+     *
+     * @return The state.
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN
+                && System.nanoTime() - openedAt >= profile.getOpenDuration().toNanos()) {
+            // The next request is a probe request.
+            return State.HALF_OPEN;
+        }
+
+        return state;
+    }
+
+    /**
+     * Get the failure rate of the recent requests.
+     *
+     * @return The failure rate in percent. 0 if no request has been recorded.
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures * PERCENT / recorded;
+    }
+
+    private void record(final boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.dataspaceconnector.config.ConnectionProfileConfiguration;
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+import io.dataspaceconnector.exceptions.CircuitBreakerOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies the connection profiles to outgoing ids messages. Every peer (host and port of the
+ * recipient) gets a fixed number of connection slots from its profile. A request holds a slot
+ * while it is sent and waits for a free slot up to the acquire timeout of the profile. Every peer
+ * also gets a circuit breaker: once too many of the recent requests have failed, requests fail
+ * immediately instead of waiting for the timeouts. The slot utilisation, the time waited for a
+ * slot, the request duration, and the circuit breaker state are recorded per peer.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ConnectionProfileRegistry {
+
+    /**
+     * The configured profiles.
+     */
+    private final @NonNull ConnectionProfileConfiguration profileConfig;
+
+    /**
+     * Records the metrics of the peers.
+     */
+    private final @NonNull MeterRegistry meterRegistry;
+
+    /**
+     * The peers by host and port.
+     */
+    private final Map<String, Peer> peers = new ConcurrentHashMap<>();
+
+    /**
+     * Get the profile applied to a recipient.
+     *
+     * @param recipient The recipient.
+     * @return The profile.
+     */
+    public ConnectionProfile getProfile(final URI recipient) {
+        return getPeer(recipient).getProfile();
+    }
+
+    /**
+     * Wait for a free connection slot of the recipient. The returned lease must be closed once
+     * the response has been received, and marked as failed before if no response has been
+     * received.
+     *
+     * @param recipient The recipient.
+     * @return The lease of the slot.
+     * @throws CircuitBreakerOpenException if the circuit breaker of the recipient is open.
+     * @throws IOException if no slot has become free within the acquire timeout.
+     */
+    public Lease acquire(final URI recipient) throws IOException {
+        final var peer = getPeer(recipient);
+        final var profile = peer.getProfile();
+
+        if (!peer.getBreaker().tryAcquire()) {
+            peer.getRejectedCounter().increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Circuit breaker open. [peer=({}), failureRate=({})]",
+                        peer.getName(), peer.getBreaker().getFailureRate());
+            }
+            throw new CircuitBreakerOpenException("Too many failed requests to "
+                    + peer.getName() + ".");
+        }
+
+        final var start = System.nanoTime();
+        final boolean acquired;
+        try {
+            acquired = peer.getSlots().tryAcquire(profile.getAcquireTimeout().toNanos(),
+                    TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            peer.getBreaker().release();
+            Thread.currentThread().interrupt();
+            throw (IOException) new InterruptedIOException(
+                    "Interrupted while waiting for a connection slot.").initCause(exception);
+        }
+
+        final var waited = System.nanoTime() - start;
+        peer.getWaitTimer().record(waited, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            peer.getBreaker().release();
+            if (log.isWarnEnabled()) {
+                log.warn("No free connection slot. [peer=({}), maxConcurrentRequests=({})]",
+                        peer.getName(), profile.getMaxConcurrentRequests());
+            }
+            throw new IOException("No free connection slot for " + peer.getName() + ".");
+        }
+
+        return new Lease(peer, System.nanoTime());
+    }
+
+    /**
+     * Get the connection state of all peers messages have been sent to.
+     *
+     * @return The connection states by host and port.
+     */
+    public Map<String, PeerState> getPeerStates() {
+        final var states = new TreeMap<String, PeerState>();
+        for (final var peer : peers.values()) {
+            final var max = Math.max(1, peer.getProfile().getMaxConcurrentRequests());
+            states.put(peer.getName(), new PeerState(max,
+                    max - peer.getSlots().availablePermits(), peer.getBreaker().getState(),
+                    peer.getBreaker().getFailureRate()));
+        }
+
+        return states;
+    }
+
+    private Peer getPeer(final URI recipient) {
+        return peers.computeIfAbsent(getName(recipient), this::createPeer);
+    }
+
+    private Peer createPeer(final String name) {
+        final var profile = findProfile(name);
+        final var max = Math.max(1, profile.getMaxConcurrentRequests());
+        final var slots = new Semaphore(max, true);
+        final var breaker = new CircuitBreaker(profile);
+
+        Gauge.builder("ids.connections.in-use", slots, x -> max - x.availablePermits())
+                .description("Connection slots in use for outgoing ids messages.")
+                .tag("peer", name)
+                .register(meterRegistry);
+        Gauge.builder("ids.connections.utilisation", slots,
+                        x -> (max - x.availablePermits()) / (double) max)
+                .description("Share of the connection slots in use.")
+                .tag("peer", name)
+                .register(meterRegistry);
+        final var waitTimer = Timer.builder("ids.connections.acquire")
+                .description("Time waited for a free connection slot.")
+                .tag("peer", name)
+                .register(meterRegistry);
+        final var requestTimer = Timer.builder("ids.connections.request")
+                .description("Time from sending an ids message to receiving the response.")
+                .tag("peer", name)
+                .register(meterRegistry);
+        Gauge.builder("ids.connections.circuit-state", breaker, x -> x.getState().ordinal())
+                .description("State of the circuit breaker (0 closed, 1 open, 2 half-open).")
+                .tag("peer", name)
+                .register(meterRegistry);
+        final var rejectedCounter = Counter.builder("ids.connections.rejected")
+                .description("Requests not sent because the circuit breaker was open.")
+                .tag("peer", name)
+                .register(meterRegistry);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Created connection profile. [peer=({}), maxConcurrentRequests=({})]",
+                    name, max);
+        }
+
+        return new Peer(name, profile, slots, breaker, waitTimer, requestTimer, rejectedCounter);
+    }
+
+    /**
+     * Find the profile of a peer. A profile for host and port takes precedence over a profile
+     * for the host.
+     *
+     * @param name The host and port of the peer.
+     * @return The profile.
+     */
+    private ConnectionProfile findProfile(final String name) {
+        final var configured = profileConfig.getPeers();
+        var profile = configured.get(name);
+        if (profile == null) {
+            final var separator = name.lastIndexOf(':');
+            if (separator > 0) {
+                profile = configured.get(name.substring(0, separator));
+            }
+        }
+
+        return profile == null ? profileConfig.getDefaults() : profile;
+    }
+
+    private static String getName(final URI recipient) {
+        final var authority = recipient.getAuthority();
+        return (authority == null ? recipient.toString() : authority).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The connection state of a peer.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Peer {
+        /**
+         * The host and port.
+         */
+        private final String name;
+
+        /**
+         * The applied profile.
+         */
+        private final ConnectionProfile profile;
+
+        /**
+         * The connection slots.
+         */
+        private final Semaphore slots;
+
+        /**
+         * The circuit breaker.
+         */
+        private final CircuitBreaker breaker;
+
+        /**
+         * Records the time waited for a slot.
+         */
+        private final Timer waitTimer;
+
+        /**
+         * Records the request duration.
+         */
+        private final Timer requestTimer;
+
+        /**
+         * Counts the requests rejected by the circuit breaker.
+         */
+        private final Counter rejectedCounter;
+    }
+
+    /**
+     * The connection state of a peer, as reported by the connections endpoint.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class PeerState {
+        /**
+         * The number of connection slots.
+         */
+        private final int maxConcurrentRequests;
+
+        /**
+         * The number of connection slots in use.
+         */
+        private final int inUse;
+
+        /**
+         * The state of the circuit breaker.
+         */
+        private final CircuitBreaker.State circuitState;
+
+        /**
+         * The failure rate of the recent requests in percent.
+         */
+        private final double failureRate;
+    }
+
+    /**
+     * A connection slot held by a request.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Lease implements AutoCloseable {
+        /**
+         * The peer of the slot.
+         */
+        private final Peer peer;
+
+        /**
+         * The time the slot has been acquired.
+         */
+        private final long start;
+
+        /**
+         * Whether the slot has been released.
+         */
+        private boolean released;
+
+        /**
+         * Whether no response has been received.
+         */
+        private boolean failed;
+
+        /**
+         * Marks the request as failed, because no response has been received. Failed requests
+         * count towards opening the circuit breaker of the peer.
+         */
+        public synchronized void markFailed() {
+            failed = true;
+        }
+
+        /**
+         * Releases the slot and records the request duration and outcome.
+         */
+        @Override
+        public synchronized void close() {
+            if (released) {
+                return;
+            }
+
+            released = true;
+            peer.getRequestTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            peer.getSlots().release();
+            if (failed) {
+                peer.getBreaker().onFailure();
+            } else {
+                peer.getBreaker().onSuccess();
+            }
+        }
+    }
+}
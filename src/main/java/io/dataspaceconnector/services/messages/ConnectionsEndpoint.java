@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.util.Map;
+
+import io.dataspaceconnector.services.messages.ConnectionProfileRegistry.PeerState;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint reporting the connection slots and the circuit breaker of every peer ids
+ * messages have been sent to.
+ */
+@Component
+@Endpoint(id = "connections")
+@RequiredArgsConstructor
+public class ConnectionsEndpoint {
+
+    /**
+     * Holds the connection state of the peers.
+     */
+    private final @NonNull ConnectionProfileRegistry profileRegistry;
+
+    /**
+     * Get the connection state of all peers.
+     *
+     * @return The connection states by host and port.
+     */
+    @ReadOperation
+    public Map<String, PeerState> connections() {
+        return profileRegistry.getPeerStates();
+    }
+}
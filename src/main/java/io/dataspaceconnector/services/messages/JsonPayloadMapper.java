@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.annotation.PostConstruct;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.dataspaceconnector.model.QueryInput;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and writes the JSON payloads of ids messages. The mapper and the readers and writers
+ * derived from it are created once and shared, so that their serializer caches are reused across
+ * messages. The mapper keeps the Jackson defaults, it is not the one configured for the REST api.
+ */
+@Log4j2
+@Component
+public class JsonPayloadMapper {
+
+    /**
+     * Whether property access is accelerated with generated lambdas.
+     */
+    @Value("${ids.messages.json.blackbird:false}")
+    private boolean blackbird;
+
+    /**
+     * The shared mapper.
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * Reads query inputs.
+     */
+    private ObjectReader queryInputReader;
+
+    /**
+     * Writes query inputs.
+     */
+    private ObjectWriter queryInputWriter;
+
+    /**
+     * Creates the mapper and the readers and writers.
+     */
+    @PostConstruct
+    public void init() {
+        objectMapper = new ObjectMapper();
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+            if (log.isInfoEnabled()) {
+                log.info("Enabled accelerated JSON mapping of message payloads.");
+            }
+        }
+
+        queryInputReader = objectMapper.readerFor(QueryInput.class);
+        queryInputWriter = objectMapper.writerFor(QueryInput.class);
+    }
+
+    /**
+     * Read a query input from a stream.
+     *
+     * @param input The stream.
+     * @return The query input.
+     * @throws IOException If the stream could not be read or does not contain a query input.
+     */
+    public QueryInput readQueryInput(final InputStream input) throws IOException {
+        return queryInputReader.readValue(input);
+    }
+
+    /**
+     * Write a query input as JSON string.
+     *
+     * @param queryInput The query input.
+     * @return The JSON string.
+     * @throws JsonProcessingException If the query input could not be written.
+     */
+    public String writeQueryInput(final QueryInput queryInput) throws JsonProcessingException {
+        return queryInputWriter.writeValueAsString(queryInput);
+    }
+
+    /**
+     * Read a JSON payload from a stream.
+     *
+     * @param input The stream.
+     * @param type  The type of the payload.
+     * @param <T>   The type of the payload.
+     * @return The payload.
+     * @throws IOException If the stream could not be read or does not contain the type.
+     */
+    public <T> T read(final InputStream input, final Class<T> type) throws IOException {
+        return objectMapper.readerFor(type).readValue(input);
+    }
+
+    /**
+     * Read a JSON payload from a stream as tree.
+     *
+     * @param input The stream.
+     * @return The tree. Missing node if the stream is empty.
+     * @throws IOException If the stream could not be read or does not contain JSON.
+     */
+    public JsonNode readTree(final InputStream input) throws IOException {
+        return objectMapper.readTree(input);
+    }
+
+    /**
+     * Read a JSON payload from a string as tree.
+     *
+     * @param json The JSON string.
+     * @return The tree. Missing node if the string is empty.
+     * @throws JsonProcessingException If the string does not contain JSON.
+     */
+    public JsonNode readTree(final String json) throws JsonProcessingException {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Convert a JSON tree to a payload.
+     *
+     * @param tree The tree.
+     * @param type The type of the payload.
+     * @param <T>  The type of the payload.
+     * @return The payload.
+     * @throws JsonProcessingException If the tree does not contain the type.
+     */
+    public <T> T convert(final JsonNode tree, final Class<T> type)
+            throws JsonProcessingException {
+        return objectMapper.treeToValue(tree, type);
+    }
+
+    /**
+     * Read a JSON payload from a string.
+     *
+     * @param json The JSON string.
+     * @param type The type of the payload.
+     * @param <T>  The type of the payload.
+     * @return The payload.
+     * @throws JsonProcessingException If the string does not contain the type.
+     */
+    public <T> T read(final String json, final Class<T> type) throws JsonProcessingException {
+        return objectMapper.readerFor(type).readValue(json);
+    }
+
+    /**
+     * Write a payload as JSON string.
+     *
+     * @param value The payload.
+     * @return The JSON string.
+     * @throws JsonProcessingException If the payload could not be written.
+     */
+    public String write(final Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value);
+    }
+}
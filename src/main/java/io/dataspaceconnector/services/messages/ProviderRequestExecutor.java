@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.dataspaceconnector.exceptions.MessageException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Sends requests to other connectors concurrently. A fan-out runs at most as many tasks at the
+ * same time as the connection profile of the recipient has connection slots. The slots
+ * themselves are shared by all callers and taken by the {@link ConnectionProfileRegistry} when
+ * a message is sent, so that fanning out many requests does not overload a single provider.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ProviderRequestExecutor {
+
+    /**
+     * The connection profiles limiting the requests per provider.
+     */
+    private final @NonNull ConnectionProfileRegistry profileRegistry;
+
+    /**
+     * The number of created threads.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Runs the requests. Threads are created on demand and reused.
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable,
+                "provider-request-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Runs the tasks concurrently and waits for all of them. At most as many tasks as the
+     * recipient has connection slots run at the same time. The request of the caller stays
+     * available to the tasks.
+     *
+     * @param <T>       The type of the results.
+     * @param recipient The recipient all tasks send their requests to.
+     * @param tasks     The tasks.
+     * @return The completed futures in the order of the tasks.
+     * @throws MessageException if the caller has been interrupted while waiting.
+     */
+    public <T> List<Future<T>> invokeAll(final URI recipient, final List<Callable<T>> tasks) {
+        final var slots = profileRegistry.getProfile(recipient).getMaxConcurrentRequests();
+        final var semaphore = new Semaphore(Math.max(1, slots));
+        final var attributes = RequestContextHolder.getRequestAttributes();
+
+        final var futures = new ArrayList<Future<T>>(tasks.size());
+        try {
+            for (final var task : tasks) {
+                semaphore.acquire();
+                try {
+                    futures.add(executor.submit(() -> callInRequest(task, attributes, semaphore)));
+                } catch (RuntimeException exception) {
+                    semaphore.release();
+                    throw exception;
+                }
+            }
+
+            for (final var future : futures) {
+                await(future);
+            }
+        } catch (InterruptedException exception) {
+            // The submitted tasks release their permits when they are done.
+            Thread.currentThread().interrupt();
+            throw new MessageException("Interrupted while waiting for requests.", exception);
+        }
+
+        return futures;
+    }
+
+    /**
+     * Get the result of a completed task. Exceptions thrown by the task are rethrown unwrapped.
+     *
+     * @param <T>    The type of the result.
+     * @param future The completed task.
+     * @return The result.
+     * @throws MessageException if the task failed with a checked exception.
+     */
+    public static <T> T getResult(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            final var cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new MessageException("Request failed.", cause);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new MessageException("Interrupted while waiting for a request.", exception);
+        }
+    }
+
+    /**
+     * Stops all running requests.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T callInRequest(final Callable<T> task, final RequestAttributes attributes,
+                                       final Semaphore semaphore) throws Exception {
+        RequestContextHolder.setRequestAttributes(attributes);
+        try {
+            return task.call();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            semaphore.release();
+        }
+    }
+
+    private static void await(final Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException exception) {
+            // Handled by the caller when reading the result.
+            if (log.isDebugEnabled()) {
+                log.debug("Request failed. [exception=({})]", exception.getCause().getMessage());
+            }
+        }
+    }
+}
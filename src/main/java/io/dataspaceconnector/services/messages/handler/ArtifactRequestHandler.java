@@ -15,15 +15,20 @@
  */
 package io.dataspaceconnector.services.messages.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
+import de.fraunhofer.iais.eis.ContractAgreement;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessageHandler;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayload;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.SupportedMessageType;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.BodyResponse;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.MessageResponse;
+import io.dataspaceconnector.config.ChunkedTransferConfiguration;
 import io.dataspaceconnector.config.ConnectorConfiguration;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
 import io.dataspaceconnector.exceptions.ContractException;
 import io.dataspaceconnector.exceptions.InvalidInputException;
 import io.dataspaceconnector.exceptions.MessageBuilderException;
@@ -31,9 +36,14 @@ import io.dataspaceconnector.exceptions.MessageEmptyException;
 import io.dataspaceconnector.exceptions.PolicyRestrictionException;
 import io.dataspaceconnector.exceptions.ResourceNotFoundException;
 import io.dataspaceconnector.exceptions.VersionNotSupportedException;
+import io.dataspaceconnector.model.ArtifactBatchRequest;
+import io.dataspaceconnector.model.ArtifactBatchResponse;
+import io.dataspaceconnector.model.ArtifactChunkRequest;
 import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.model.messages.ArtifactResponseMessageDesc;
+import io.dataspaceconnector.services.ArtifactDataSpool;
 import io.dataspaceconnector.services.EntityResolver;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
 import io.dataspaceconnector.services.messages.MessageResponseService;
 import io.dataspaceconnector.services.messages.types.ArtifactResponseService;
 import io.dataspaceconnector.services.usagecontrol.ContractManager;
@@ -63,6 +73,16 @@ import java.net.URI;
 @RequiredArgsConstructor
 public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMessageImpl> {
 
+    /**
+     * The field of the payload identifying a batch request.
+     */
+    private static final String BATCH_ARTIFACTS = "artifacts";
+
+    /**
+     * The field of the payload identifying a chunk request.
+     */
+    private static final String CHUNK_OFFSET = "offset";
+
     /**
      * Service for building and sending message responses.
      */
@@ -93,6 +113,26 @@ public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMes
      */
     private final @NonNull DataProvisionVerifier accessVerifier;
 
+    /**
+     * The maximum payload sizes.
+     */
+    private final @NonNull MessagePayloadConfiguration payloadConfig;
+
+    /**
+     * Reads the query input.
+     */
+    private final @NonNull JsonPayloadMapper payloadMapper;
+
+    /**
+     * The maximum chunk size.
+     */
+    private final @NonNull ChunkedTransferConfiguration chunkConfig;
+
+    /**
+     * Provides the byte ranges of chunk requests.
+     */
+    private final @NonNull ArtifactDataSpool dataSpool;
+
     /**
      * This message implements the logic that is needed to handle the message. As it returns the
      * input as string the messagePayload-InputStream is converted to a String.
@@ -127,6 +167,24 @@ public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMes
                     transferContract, issuer, messageId);
         }
 
+        // The payload contains either a query input, a batch request, or a chunk request.
+        final JsonNode payloadTree;
+        final ArtifactBatchRequest batchRequest;
+        final ArtifactChunkRequest chunkRequest;
+        try {
+            payloadTree = readPayload(payload);
+            batchRequest = getBatchRequest(payloadTree);
+            chunkRequest = getChunkRequest(payloadTree);
+        } catch (InvalidInputException exception) {
+            return responseService.handleInvalidQueryInput(exception, requestedArtifact,
+                    transferContract, issuer, messageId);
+        }
+
+        if (batchRequest != null) {
+            return handleBatchRequest(batchRequest, requestedArtifact, transferContract, issuer,
+                    messageId);
+        }
+
         // Check agreement only if contract negotiation is turned on.
         final var negotiation = connectorConfig.isPolicyNegotiation();
         if (negotiation) {
@@ -161,8 +219,13 @@ public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMes
 
         // Either without contract negotiation or if all conditions are fulfilled, data is returned.
         try {
+            if (chunkRequest != null) {
+                return returnChunk(requestedArtifact, transferContract, issuer, messageId,
+                        chunkRequest);
+            }
+
             // Process query input.
-            final var queryInput = getQueryInputFromPayload(payload);
+            final var queryInput = getQueryInput(payloadTree);
             return returnData(requestedArtifact, transferContract, issuer, messageId, queryInput);
         } catch (InvalidInputException exception) {
             return responseService.handleInvalidQueryInput(exception, requestedArtifact,
@@ -203,23 +266,150 @@ public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMes
     }
 
     /**
-     * Read query parameters from message payload.
+     * Get a byte range of the data by requested artifact and return it within an artifact
+     * response message. The data is read once per transfer, every chunk only reads its range.
+     * The response contains the size of the whole data, so that the consumer knows when the
+     * transfer is complete.
+     *
+     * @param requestedArtifact The requested artifact.
+     * @param transferContract  The id of the transfer contract.
+     * @param issuer            The issuer connector.
+     * @param messageId         The message id.
+     * @param request           The chunk request.
+     * @return A message response.
+     */
+    private MessageResponse returnChunk(final URI requestedArtifact, final URI transferContract,
+                                        final URI issuer, final URI messageId,
+                                        final ArtifactChunkRequest request) {
+        try {
+            final var length = (int) Math.min(request.getLength(),
+                    chunkConfig.getMaxSize().toBytes());
+            final var chunk = dataSpool.read(requestedArtifact, transferContract, issuer,
+                    request.getQueryInput(), request.getOffset(), length);
+
+            // Build ids response message.
+            final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
+            final var header = messageService.buildMessage(desc);
+
+            // Send ids response message.
+            return BodyResponse.create(header, payloadMapper.write(chunk));
+        } catch (MessageBuilderException | ConstraintViolationException | IOException exception) {
+            return responseService.handleResponseMessageBuilderException(exception, issuer,
+                    messageId);
+        }
+    }
+
+    /**
+     * Answer a batch request with the data of all requested artifacts. The transfer contract is
+     * validated once for all artifacts. The usage policies are checked per artifact, artifacts
+     * that may not be provided are listed with the reason in the response. Once the maximum
+     * number of artifacts or the maximum size of the response is reached, the remaining
+     * artifacts are listed as skipped and left for another request.
+     *
+     * @param request           The batch request.
+     * @param requestedArtifact The artifact of the message header.
+     * @param transferContract  The id of the transfer contract.
+     * @param issuer            The issuer connector.
+     * @param messageId         The message id.
+     * @return A message response.
+     */
+    private MessageResponse handleBatchRequest(final ArtifactBatchRequest request,
+                                               final URI requestedArtifact,
+                                               final URI transferContract, final URI issuer,
+                                               final URI messageId) {
+        final var artifacts = request.getArtifacts();
+        if (artifacts == null || artifacts.isEmpty()) {
+            return responseService.handleMissingRequestedArtifact(requestedArtifact,
+                    transferContract, issuer, messageId);
+        }
+
+        ContractAgreement agreement = null;
+        final var negotiation = connectorConfig.isPolicyNegotiation();
+        if (negotiation) {
+            if (transferContract == null || transferContract.toString().equals("")) {
+                // Without a transfer contract, the message processing will be aborted.
+                return responseService.handleMissingTransferContract(requestedArtifact,
+                        transferContract, issuer, messageId);
+            }
+
+            try {
+                agreement = contractManager.validateTransferContract(transferContract, artifacts);
+            } catch (ResourceNotFoundException | IllegalArgumentException exception) {
+                // Agreement could not be loaded or deserialized.
+                return responseService.handleMessageProcessingFailed(exception,
+                        requestedArtifact, transferContract, issuer, messageId);
+            } catch (ContractException exception) {
+                // Invalid transfer contract.
+                return responseService.handleInvalidTransferContract(exception, requestedArtifact,
+                        transferContract, issuer, messageId);
+            }
+        }
+
+        final var response = new ArtifactBatchResponse();
+        final var maxSize = payloadConfig.getBatchSize().toBytes();
+        var remaining = maxSize;
+        var count = 0;
+        for (final var artifact : artifacts) {
+            if (count >= payloadConfig.getBatchArtifacts() || remaining < 0) {
+                response.getSkipped().add(artifact);
+                continue;
+            }
+            count++;
+
+            if (negotiation && accessVerifier.verify(
+                    new VerificationInput(artifact, issuer, agreement))
+                    == VerificationResult.DENIED) {
+                response.getErrors().put(artifact, ErrorMessages.POLICY_RESTRICTION.toString());
+                continue;
+            }
+
+            try (var data = entityResolver.getDataByArtifactId(artifact,
+                    request.getQueryInput())) {
+                // Read at most one byte more than fits, the rest of the data is not needed.
+                final var bytes = data.readNBytes((int) Math.min(remaining + 1,
+                        Integer.MAX_VALUE));
+                if (bytes.length <= remaining) {
+                    remaining -= bytes.length;
+                    response.getData().put(artifact, Base64Utils.encodeToString(bytes));
+                } else if (remaining == maxSize) {
+                    response.getErrors().put(artifact, "Data exceeds the maximum batch size.");
+                } else {
+                    response.getSkipped().add(artifact);
+                    remaining = -1;
+                }
+            } catch (Exception exception) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to retrieve data of batch request. [artifact=({}), "
+                            + "exception=({})]", artifact, exception.getMessage(), exception);
+                }
+                response.getErrors().put(artifact, "Failed to retrieve data.");
+            }
+        }
+
+        try {
+            final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
+            final var header = messageService.buildMessage(desc);
+            return BodyResponse.create(header, payloadMapper.write(response));
+        } catch (MessageBuilderException | ConstraintViolationException | IOException exception) {
+            return responseService.handleResponseMessageBuilderException(exception, issuer,
+                    messageId);
+        }
+    }
+
+    /**
+     * Read the message payload as JSON.
      *
      * @param messagePayload The message's payload.
-     * @return the query input.
-     * @throws InvalidInputException If the query input is not empty but invalid.
+     * @return The JSON tree. Missing node if the payload is empty.
+     * @throws InvalidInputException If the payload is not empty but no valid JSON.
      */
-    private QueryInput getQueryInputFromPayload(final MessagePayload messagePayload)
+    private JsonNode readPayload(final MessagePayload messagePayload)
             throws InvalidInputException {
         try {
-            final var payload = MessageUtils.getStreamAsString(messagePayload);
-            if (payload.equals("")) {
-                // Query input is optional, so no rejection message will be sent. Query input will
-                // be checked for null value in HttpService.class.
-                return null;
-            } else {
-                return new ObjectMapper().readValue(payload, QueryInput.class);
-            }
+            // Deserialize directly from the stream, which fails once the maximum size is exceeded.
+            final var tree = payloadMapper.readTree(MessageUtils.getPayloadAsStream(
+                    messagePayload, payloadConfig.getArtifactRequest().toBytes()));
+            return tree == null ? MissingNode.getInstance() : tree;
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid query input. [exception=({})]", e.getMessage(), e);
@@ -227,4 +417,86 @@ public class ArtifactRequestHandler implements MessageHandler<ArtifactRequestMes
             throw new InvalidInputException("Invalid query input.", e);
         }
     }
+
+    /**
+     * Read the batch request from the message payload.
+     *
+     * @param payload The message's payload as JSON.
+     * @return The batch request or null if the payload is no batch request.
+     * @throws InvalidInputException If the batch request is invalid.
+     */
+    private ArtifactBatchRequest getBatchRequest(final JsonNode payload)
+            throws InvalidInputException {
+        if (!payload.has(BATCH_ARTIFACTS)) {
+            return null;
+        }
+
+        try {
+            return payloadMapper.convert(payload, ArtifactBatchRequest.class);
+        } catch (JsonProcessingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid batch request. [exception=({})]", e.getMessage(), e);
+            }
+            throw new InvalidInputException("Invalid batch request.", e);
+        }
+    }
+
+    /**
+     * Read the chunk request from the message payload.
+     *
+     * @param payload The message's payload as JSON.
+     * @return The chunk request or null if the payload is no chunk request.
+     * @throws InvalidInputException If the chunk request is invalid.
+     */
+    private ArtifactChunkRequest getChunkRequest(final JsonNode payload)
+            throws InvalidInputException {
+        if (!payload.has(CHUNK_OFFSET)) {
+            return null;
+        }
+
+        final ArtifactChunkRequest request;
+        try {
+            request = payloadMapper.convert(payload, ArtifactChunkRequest.class);
+        } catch (JsonProcessingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid chunk request. [exception=({})]", e.getMessage(), e);
+            }
+            throw new InvalidInputException("Invalid chunk request.", e);
+        }
+
+        if (request.getOffset() < 0) {
+            throw new InvalidInputException("Invalid chunk request. The offset is negative.");
+        }
+
+        if (request.getLength() <= 0) {
+            throw new InvalidInputException("Invalid chunk request. The length is not "
+                    + "positive.");
+        }
+
+        return request;
+    }
+
+    /**
+     * Read query parameters from message payload.
+     *
+     * @param payload The message's payload as JSON.
+     * @return the query input.
+     * @throws InvalidInputException If the query input is not empty but invalid.
+     */
+    private QueryInput getQueryInput(final JsonNode payload) throws InvalidInputException {
+        if (payload.isMissingNode()) {
+            // Query input is optional, so no rejection message will be sent. Query input will
+            // be checked for null value in HttpService.class.
+            return null;
+        }
+
+        try {
+            return payloadMapper.convert(payload, QueryInput.class);
+        } catch (JsonProcessingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Invalid query input. [exception=({})]", e.getMessage(), e);
+            }
+            throw new InvalidInputException("Invalid query input.", e);
+        }
+    }
 }
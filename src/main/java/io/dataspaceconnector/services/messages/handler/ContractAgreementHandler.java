@@ -17,6 +17,7 @@ package io.dataspaceconnector.services.messages.handler;
 
 import de.fraunhofer.iais.eis.ContractAgreementMessageImpl;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
 import io.dataspaceconnector.exceptions.ContractException;
 import io.dataspaceconnector.exceptions.MessageBuilderException;
 import io.dataspaceconnector.exceptions.MessageEmptyException;
@@ -84,6 +85,11 @@ public class ContractAgreementHandler implements MessageHandler<ContractAgreemen
      */
     private final @NonNull PolicyExecutionService executionService;
 
+    /**
+     * The maximum payload sizes.
+     */
+    private final @NonNull MessagePayloadConfiguration payloadConfig;
+
     /**
      * This message implements the logic that is needed to handle the message. As it just returns
      * the input as string the messagePayload-InputStream is converted to a String.
@@ -113,7 +119,8 @@ public class ContractAgreementHandler implements MessageHandler<ContractAgreemen
         // Read message payload as string.
         String payloadAsString;
         try {
-            payloadAsString = MessageUtils.getPayloadAsString(payload);
+            payloadAsString = MessageUtils.getPayloadAsString(payload,
+                    payloadConfig.getContractAgreement().toBytes());
         } catch (MessageRequestException exception) {
             return responseService.handleMessagePayloadException(exception, messageId, issuer);
         }
@@ -20,6 +20,7 @@ import de.fraunhofer.iais.eis.ContractRequest;
 import de.fraunhofer.iais.eis.ContractRequestMessageImpl;
 import de.fraunhofer.iais.eis.RejectionMessage;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
 import io.dataspaceconnector.exceptions.MessageBuilderException;
 import io.dataspaceconnector.exceptions.MessageEmptyException;
 import io.dataspaceconnector.exceptions.MessageRequestException;
@@ -101,6 +102,11 @@ public class ContractRequestHandler implements MessageHandler<ContractRequestMes
      */
     private final @NonNull RuleValidator ruleValidator;
 
+    /**
+     * The maximum payload sizes.
+     */
+    private final @NonNull MessagePayloadConfiguration payloadConfig;
+
     /**
      * This message implements the logic that is needed to handle the message. As it just returns
      * the input as string the messagePayload-InputStream is converted to a String.
@@ -129,7 +135,8 @@ public class ContractRequestHandler implements MessageHandler<ContractRequestMes
         // Read message payload as string.
         String payloadAsString;
         try {
-            payloadAsString = MessageUtils.getPayloadAsString(payload);
+            payloadAsString = MessageUtils.getPayloadAsString(payload,
+                    payloadConfig.getContractRequest().toBytes());
         } catch (MessageRequestException exception) {
             return responseService.handleMessagePayloadException(exception, messageId, issuer);
         }
@@ -23,13 +23,17 @@ import io.dataspaceconnector.exceptions.MessageEmptyException;
 import io.dataspaceconnector.exceptions.ResourceNotFoundException;
 import io.dataspaceconnector.exceptions.SelfLinkCreationException;
 import io.dataspaceconnector.exceptions.VersionNotSupportedException;
+import io.dataspaceconnector.model.Catalog;
 import io.dataspaceconnector.model.messages.DescriptionResponseMessageDesc;
 import io.dataspaceconnector.services.EntityResolver;
 import io.dataspaceconnector.services.ids.ConnectorService;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.services.messages.MessageResponseService;
 import io.dataspaceconnector.services.messages.types.DescriptionResponseService;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
 import io.dataspaceconnector.utils.ErrorMessages;
 import io.dataspaceconnector.utils.MessageUtils;
+import io.dataspaceconnector.utils.Utils;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessageHandler;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayload;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.SupportedMessageType;
@@ -37,9 +41,12 @@ import de.fraunhofer.isst.ids.framework.messaging.model.responses.BodyResponse;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.MessageResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.Optional;
 
 /**
  * This @{@link DescriptionRequestHandler} handles all incoming messages that have a
@@ -52,6 +59,16 @@ import java.net.URI;
 @SupportedMessageType(DescriptionRequestMessageImpl.class)
 public class DescriptionRequestHandler implements MessageHandler<DescriptionRequestMessageImpl> {
 
+    /**
+     * The query parameter of a requested element selecting a page of a catalog.
+     */
+    private static final String PAGE_PARAM = "page";
+
+    /**
+     * The query parameter of a requested element selecting the page size of a catalog.
+     */
+    private static final String SIZE_PARAM = "size";
+
     /**
      * Service for handling response messages.
      */
@@ -72,6 +89,16 @@ public class DescriptionRequestHandler implements MessageHandler<DescriptionRequ
      */
     private final @NonNull EntityResolver entityResolver;
 
+    /**
+     * Service for offered resources.
+     */
+    private final @NonNull OfferedResourceService offerService;
+
+    /**
+     * Service for building ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
     /**
      * This message implements the logic that is needed to handle the message. As it just returns
      * the input as string the messagePayload-InputStream is converted to a String.
@@ -126,7 +153,10 @@ public class DescriptionRequestHandler implements MessageHandler<DescriptionRequ
                 // If the element has been found, build the ids response message.
                 final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
                 final var header = messageService.buildMessage(desc);
-                final var payload = entityResolver.getEntityAsRdfString(entity);
+                final var pageable = getPageRequest(requested);
+                final var payload = entity instanceof Catalog && pageable.isPresent()
+                        ? getCatalogPage((Catalog) entity, pageable.get())
+                        : entityResolver.getEntityAsRdfString(entity);
 
                 // Send ids response message.
                 return BodyResponse.create(header, payload);
@@ -140,6 +170,39 @@ public class DescriptionRequestHandler implements MessageHandler<DescriptionRequ
         }
     }
 
+    /**
+     * Builds one page of a catalog. Use the query parameters page and size on the requested
+     * element (e.g. {@code .../catalogs/{id}?page=1&size=50}) to page through large catalogs
+     * instead of receiving all offered resources at once.
+     *
+     * @param catalog  The requested catalog.
+     * @param pageable The requested page.
+     * @return The catalog page as rdf.
+     */
+    private String getCatalogPage(final Catalog catalog, final Pageable pageable) {
+        final var resources = offerService.getAllByCatalog(catalog.getId(), pageable);
+        return catalogBuilder.createPage(catalog, resources).toRdf();
+    }
+
+    private static Optional<Pageable> getPageRequest(final URI requested) {
+        final var params = UriComponentsBuilder.fromUri(requested).build().getQueryParams();
+        final var page = params.getFirst(PAGE_PARAM);
+        if (page == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Utils.toPageRequest(parseInt(page),
+                parseInt(params.getFirst(SIZE_PARAM))));
+    }
+
+    private static Integer parseInt(final String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
     /**
      * Constructs a resource catalog description message for the connector.
      *
@@ -151,14 +214,14 @@ public class DescriptionRequestHandler implements MessageHandler<DescriptionRequ
         try {
             // Get self-description.
             // TODO Only return contract offers that have no or the right pre-defined consumer
-            final var connector = connectorService.getConnectorWithOfferedResources();
+            final var connector = connectorService.getSelfDescription();
 
             // Build ids response message.
             final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
             final var header = messageService.buildMessage(desc);
 
             // Send ids response message.
-            return BodyResponse.create(header, connector.toRdf());
+            return BodyResponse.create(header, connector);
         } catch (MessageBuilderException | IllegalStateException | ConstraintViolationException e) {
             return responseService.handleResponseMessageBuilderException(e, issuer, messageId);
         }
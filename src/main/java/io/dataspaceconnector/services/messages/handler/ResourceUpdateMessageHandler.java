@@ -16,6 +16,7 @@
 package io.dataspaceconnector.services.messages.handler;
 
 import de.fraunhofer.iais.eis.ResourceUpdateMessageImpl;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
 import io.dataspaceconnector.exceptions.MessageEmptyException;
 import io.dataspaceconnector.exceptions.VersionNotSupportedException;
 import io.dataspaceconnector.model.messages.MessageProcessedNotificationMessageDesc;
@@ -68,6 +69,11 @@ public class ResourceUpdateMessageHandler implements MessageHandler<ResourceUpda
      */
     private final @NonNull EntityUpdateService updateService;
 
+    /**
+     * The maximum payload sizes.
+     */
+    private final @NonNull MessagePayloadConfiguration payloadConfig;
+
     /**
      * This message implements the logic that is needed to handle the message. As it just returns
      * the input as string the messagePayload-InputStream is converted to a String.
@@ -102,7 +108,8 @@ public class ResourceUpdateMessageHandler implements MessageHandler<ResourceUpda
         String payloadAsString;
         try {
             // Try to read payload as string.
-            payloadAsString = MessageUtils.getStreamAsString(payload);
+            payloadAsString = MessageUtils.getStreamAsString(payload,
+                    payloadConfig.getResourceUpdate().toBytes());
             if (payloadAsString.isEmpty()) {
                 return responseService.handleMissingPayload(affected, issuer, messageId);
             }
@@ -26,6 +26,7 @@ import io.dataspaceconnector.exceptions.VersionNotSupportedException;
 import io.dataspaceconnector.model.messages.MessageDesc;
 import io.dataspaceconnector.services.ids.ConnectorService;
 import io.dataspaceconnector.services.ids.DeserializationService;
+import io.dataspaceconnector.services.messages.ConnectionProfileRegistry;
 import io.dataspaceconnector.utils.ErrorMessages;
 import io.dataspaceconnector.utils.MessageUtils;
 import de.fraunhofer.isst.ids.framework.communication.http.IDSHttpService;
@@ -52,6 +53,12 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
     @Autowired
     private IDSHttpService idsHttpService;
 
+    /**
+     * Applies the connection profiles of the recipients.
+     */
+    @Autowired
+    private ConnectionProfileRegistry profileRegistry;
+
     /**
      * Service for the current connector configuration.
      */
@@ -100,8 +107,16 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
                 log.debug("Built request message. [body=({})]", body);
             }
 
-            // Send message and return response.
-            return idsHttpService.sendAndCheckDat(body, recipient);
+            // Send message and return response. Only requests without a response count as
+            // failed for the circuit breaker of the recipient.
+            try (var lease = profileRegistry.acquire(recipient)) {
+                try {
+                    return idsHttpService.sendAndCheckDat(body, recipient);
+                } catch (IOException e) {
+                    lease.markFailed();
+                    throw e;
+                }
+            }
         } catch (MessageBuilderException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to build ids request message. [exception=({})]",
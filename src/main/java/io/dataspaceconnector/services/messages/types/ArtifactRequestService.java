@@ -16,10 +16,10 @@
 package io.dataspaceconnector.services.messages.types;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
 import de.fraunhofer.iais.eis.ArtifactResponseMessageImpl;
 import de.fraunhofer.iais.eis.Message;
@@ -27,10 +27,14 @@ import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.exceptions.MessageException;
 import io.dataspaceconnector.exceptions.MessageResponseException;
+import io.dataspaceconnector.model.ArtifactBatchRequest;
+import io.dataspaceconnector.model.ArtifactChunkRequest;
 import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.model.messages.ArtifactRequestMessageDesc;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
 import io.dataspaceconnector.utils.ErrorMessages;
 import io.dataspaceconnector.utils.Utils;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -46,6 +50,11 @@ import static de.fraunhofer.isst.ids.framework.util.IDSUtils.getGregorianNow;
 public final class ArtifactRequestService
         extends AbstractMessageService<ArtifactRequestMessageDesc> {
 
+    /**
+     * Writes the query input.
+     */
+    private final @NonNull JsonPayloadMapper payloadMapper;
+
     /**
      * @throws IllegalArgumentException If desc is null.
      */
@@ -109,7 +118,7 @@ public final class ArtifactRequestService
         String payload = "";
         if (queryInput != null) {
             try {
-                payload = new ObjectMapper().writeValueAsString(queryInput);
+                payload = payloadMapper.writeQueryInput(queryInput);
             } catch (JsonProcessingException e) {
                 if (log.isDebugEnabled()) {
                     log.debug("Failed to parse query. Loading everything. [exception=({})]",
@@ -121,6 +130,58 @@ public final class ArtifactRequestService
         return send(new ArtifactRequestMessageDesc(recipient, elementId, agreementId), payload);
     }
 
+    /**
+     * Send an artifact request message asking for several artifacts at once. The message header
+     * names the first artifact, the payload lists all of them.
+     *
+     * @param recipient   The recipient.
+     * @param artifacts   The requested artifacts.
+     * @param agreementId The transfer contract.
+     * @param queryInput  The query input applied to every artifact.
+     * @return The response map.
+     * @throws MessageException If message handling failed.
+     */
+    public Map<String, String> sendBatchMessage(
+            final URI recipient, final List<URI> artifacts, final URI agreementId,
+            final QueryInput queryInput) throws MessageException {
+        Utils.requireNonNull(artifacts, ErrorMessages.LIST_NULL);
+
+        final String payload;
+        try {
+            payload = payloadMapper.write(new ArtifactBatchRequest(artifacts, queryInput));
+        } catch (JsonProcessingException e) {
+            throw new MessageException(ErrorMessages.MESSAGE_BUILD_FAILED.toString(), e);
+        }
+
+        final var desc = new ArtifactRequestMessageDesc(recipient, artifacts.get(0), agreementId);
+        return send(desc, payload);
+    }
+
+    /**
+     * Send an artifact request message asking for a byte range of the artifact's data.
+     *
+     * @param recipient   The recipient.
+     * @param elementId   The requested artifact.
+     * @param agreementId The transfer contract.
+     * @param request     The requested byte range.
+     * @return The response map.
+     * @throws MessageException If message handling failed.
+     */
+    public Map<String, String> sendChunkMessage(
+            final URI recipient, final URI elementId, final URI agreementId,
+            final ArtifactChunkRequest request) throws MessageException {
+        Utils.requireNonNull(request, ErrorMessages.DESC_NULL);
+
+        final String payload;
+        try {
+            payload = payloadMapper.write(request);
+        } catch (JsonProcessingException e) {
+            throw new MessageException(ErrorMessages.MESSAGE_BUILD_FAILED.toString(), e);
+        }
+
+        return send(new ArtifactRequestMessageDesc(recipient, elementId, agreementId), payload);
+    }
+
     /**
      * Check if the response message is of type artifact response.
      *
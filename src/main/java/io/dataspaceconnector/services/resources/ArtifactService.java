@@ -21,6 +21,7 @@ import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
 import io.dataspaceconnector.model.ArtifactFactory;
 import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.model.Data;
 import io.dataspaceconnector.model.LocalData;
 import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.model.RemoteData;
@@ -44,9 +45,14 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Handles the basic logic for artifacts.
@@ -55,6 +61,11 @@ import java.util.UUID;
 @Service
 public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         implements RemoteResolver {
+    /**
+     * The number of locks guarding the data of the artifacts.
+     */
+    private static final int LOCK_STRIPES = 64;
+
     /**
      * Repository for storing data.
      **/
@@ -65,6 +76,17 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      **/
     private final @NonNull HttpService httpSvc;
 
+    /**
+     * The artifacts whose data has been refreshed in the background, with the date until which
+     * the data is considered up to date.
+     */
+    private final Map<UUID, ZonedDateTime> prefetched = new ConcurrentHashMap<>();
+
+    /**
+     * Striped locks by artifact, held while the data of an artifact is set.
+     */
+    private final Object[] dataLocks = createLocks();
+
     /**
      * Constructor for ArtifactService.
      *
@@ -88,26 +110,57 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     @Override
     protected Artifact persist(final Artifact artifact) {
         final var tmp = (ArtifactImpl) artifact;
-        if (tmp.getData() != null) {
-            if (tmp.getData().getId() == null) {
+        persistData(tmp, true);
+        return super.persist(tmp);
+    }
+
+    /**
+     * Persist the artifact and its data without flushing.
+     *
+     * @param artifact The artifact to persists.
+     * @return The persisted artifact.
+     */
+    @Override
+    protected Artifact persistWithoutFlush(final Artifact artifact) {
+        final var tmp = (ArtifactImpl) artifact;
+        persistData(tmp, false);
+        return super.persistWithoutFlush(tmp);
+    }
+
+    /**
+     * Persist the data of an artifact and update the artifact's byte size.
+     *
+     * @param artifact The artifact whose data should be persisted.
+     * @param flush    Whether the data should be flushed immediately.
+     */
+    private void persistData(final ArtifactImpl artifact, final boolean flush) {
+        final var data = artifact.getData();
+        if (data != null) {
+            if (data.getId() == null) {
                 // The data element is new, insert
-                dataRepo.saveAndFlush(tmp.getData());
+                saveData(data, flush);
             } else {
                 // The data element exists already, check if an update is
                 // required
-                final var storedCopy = dataRepo.getById(tmp.getData().getId());
-                if (!storedCopy.equals(tmp.getData())) {
-                    dataRepo.saveAndFlush(tmp.getData());
+                final var storedCopy = dataRepo.getById(data.getId());
+                if (!storedCopy.equals(data)) {
+                    saveData(data, flush);
                 }
             }
 
-            if (tmp.getData() instanceof LocalData) {
+            if (data instanceof LocalData) {
                 final var factory = ((ArtifactFactory) getFactory());
-                factory.updateByteSize(artifact, ((LocalData) tmp.getData()).getValue());
+                factory.updateByteSize(artifact, ((LocalData) data).getValue());
             }
         }
+    }
 
-        return super.persist(tmp);
+    private void saveData(final Data data, final boolean flush) {
+        if (flush) {
+            dataRepo.saveAndFlush(data);
+        } else {
+            dataRepo.save(data);
+        }
     }
 
     /**
@@ -252,6 +305,11 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
 
     private boolean shouldDownload(final Artifact artifact, final Boolean forceDownload) {
         if (forceDownload == null) {
+            if (isPrefetched(artifact.getId())) {
+                // The data has been refreshed in the background and is still up to date.
+                return false;
+            }
+
             // TODO: Add checks if the data is still up to date. This will remove unnecessary
             //  downloads.
             return !isDataPresent() || artifact.isAutomatedDownload();
@@ -325,6 +383,45 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         return repo.identifyByRemoteId(remoteId);
     }
 
+    /**
+     * Search for the local artifacts of several remote ids with a single query.
+     *
+     * @param remoteIds The remote ids.
+     * @return The local artifact ids by remote id. Unknown remote ids are missing.
+     * @throws IllegalArgumentException if the passed collection is null.
+     */
+    public Map<URI, UUID> identifyAllByRemoteIds(final Collection<URI> remoteIds) {
+        Utils.requireNonNull(remoteIds, ErrorMessages.LIST_NULL);
+        if (remoteIds.isEmpty()) {
+            return Map.of();
+        }
+
+        final var repo = (ArtifactRepository) getRepository();
+        return repo.findAllByRemoteIds(remoteIds).stream().collect(
+                Collectors.toMap(Artifact::getRemoteId, Artifact::getId, (x, y) -> x));
+    }
+
+    /**
+     * Check if the data of an artifact has been refreshed in the background and is still up to
+     * date.
+     *
+     * @param artifactId The artifact.
+     * @return True if the prefetched data has not expired yet.
+     */
+    public boolean isPrefetched(final UUID artifactId) {
+        final var validUntil = prefetched.get(artifactId);
+        if (validUntil == null) {
+            return false;
+        }
+
+        if (validUntil.isBefore(ZonedDateTime.now())) {
+            prefetched.remove(artifactId, validUntil);
+            return false;
+        }
+
+        return true;
+    }
+
     /**
      * Update an artifacts underlying data.
      *
@@ -335,6 +432,40 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     @Transactional
     public InputStream setData(final UUID artifactId, final InputStream data) throws IOException {
+        return setData(artifactId, data, null);
+    }
+
+    /**
+     * Update an artifacts underlying data and mark it as refreshed in the background. Until the
+     * data expires, data requests read the stored data instead of downloading it again. The data
+     * is stored and marked while holding a lock of the artifact, so that data set concurrently
+     * (e.g. removed by a policy) is never marked as prefetched.
+     *
+     * @param artifactId The artifact which should be updated.
+     * @param data       The new data.
+     * @param validUntil The date until which the data is up to date. Null if the data has not
+     *                   been refreshed in the background.
+     * @return The data stored in the artifact.
+     * @throws IOException if the data could not be stored.
+     */
+    @Transactional
+    public InputStream setData(final UUID artifactId, final InputStream data,
+                               final ZonedDateTime validUntil) throws IOException {
+        synchronized (dataLocks[Math.floorMod(artifactId.hashCode(), LOCK_STRIPES)]) {
+            // Data set from elsewhere (e.g. removed by a policy) replaces the prefetched data.
+            prefetched.remove(artifactId);
+
+            final var stored = storeData(artifactId, data);
+            if (validUntil != null) {
+                prefetched.put(artifactId, validUntil);
+            }
+
+            return stored;
+        }
+    }
+
+    private InputStream storeData(final UUID artifactId, final InputStream data)
+            throws IOException {
         final var artifact = get(artifactId);
         final var localData = ((ArtifactImpl) artifact).getData();
         if (localData instanceof LocalData) {
@@ -353,6 +484,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                     ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                             artifact.getCheckSum(),
                             artifact.getByteSize());
+                    publishChange(artifactId);
                 }
 
                 return new ByteArrayInputStream(bytes);
@@ -370,6 +502,14 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
     }
 
+    private static Object[] createLocks() {
+        final var stripes = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
     private InputStream toInputStream(final byte[] data) {
         return new ByteArrayInputStream(data);
     }
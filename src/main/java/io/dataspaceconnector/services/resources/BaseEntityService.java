@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.services.resources;
 
+import io.dataspaceconnector.exceptions.InvalidInputException;
 import io.dataspaceconnector.exceptions.ResourceNotFoundException;
 import io.dataspaceconnector.model.AbstractDescription;
 import io.dataspaceconnector.model.AbstractEntity;
@@ -23,9 +24,15 @@ import io.dataspaceconnector.repositories.BaseEntityRepository;
 import io.dataspaceconnector.utils.ErrorMessages;
 import io.dataspaceconnector.utils.Utils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -47,6 +54,17 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
     @Autowired
     private AbstractFactory<T, D> factory;
 
+    /**
+     * Publishes the changes of entities of type T.
+     **/
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    /**
+     * The entity type of this service, resolved on first use.
+     */
+    private Class<? extends AbstractEntity> entityType;
+
     /**
      * Default constructor.
      */
@@ -67,6 +85,20 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
         return persist(factory.create(desc));
     }
 
+    /**
+     * Creates a new persistent entity without flushing it. The insert is deferred until the
+     * surrounding transaction is flushed, so that it can be batched with other pending writes.
+     *
+     * @param desc The description of the new entity.
+     * @return The new entity.
+     * @throws IllegalArgumentException if the desc is null.
+     */
+    protected T createWithoutFlush(final D desc) {
+        Utils.requireNonNull(desc, ErrorMessages.DESC_NULL);
+
+        return persistWithoutFlush(factory.create(desc));
+    }
+
     /**
      * Updates an existing entity.
      *
@@ -89,6 +121,83 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
         return entity;
     }
 
+    /**
+     * Updates an existing entity without flushing it. The update is deferred until the
+     * surrounding transaction is flushed, so that it can be batched with other pending writes.
+     *
+     * @param entityId The id of the entity.
+     * @param desc     The new description of the entity.
+     * @return The updated entity.
+     * @throws IllegalArgumentException  if any of the passed arguments is null.
+     * @throws ResourceNotFoundException if the entity is unknown.
+     */
+    protected T updateWithoutFlush(final UUID entityId, final D desc) {
+        Utils.requireNonNull(entityId, ErrorMessages.ENTITYID_NULL);
+        Utils.requireNonNull(desc, ErrorMessages.DESC_NULL);
+
+        var entity = get(entityId);
+
+        if (factory.update(entity, desc)) {
+            entity = persistWithoutFlush(entity);
+        }
+
+        return entity;
+    }
+
+    /**
+     * Creates a list of new persistent entities in one transaction. The entities are flushed
+     * together, so that the inserts can be sent as JDBC batches. Descriptions that cannot be
+     * turned into an entity are reported as failed without affecting the other elements.
+     *
+     * @param descs The descriptions of the new entities.
+     * @return The outcome for each description, identified by its position in the list.
+     * @throws IllegalArgumentException if the list is null.
+     */
+    @Transactional
+    public BatchResult<Integer, T> createAll(final List<D> descs) {
+        Utils.requireNonNull(descs, ErrorMessages.LIST_NULL);
+
+        final var result = new BatchResult<Integer, T>();
+        for (int i = 0; i < descs.size(); i++) {
+            try {
+                result.addSuccess(i, createWithoutFlush(descs.get(i)));
+            } catch (IllegalArgumentException | InvalidInputException exception) {
+                result.addFailure(i, exception.getMessage());
+            }
+        }
+
+        flush();
+        return result;
+    }
+
+    /**
+     * Updates a set of existing entities in one transaction. The entities are flushed together,
+     * so that the updates can be sent as JDBC batches. Unknown entities and descriptions that
+     * cannot be applied are reported as failed without affecting the other elements.
+     *
+     * @param descs The new descriptions, mapped by the id of the entity they belong to.
+     * @return The outcome for each entity id.
+     * @throws IllegalArgumentException if the map is null.
+     */
+    @Transactional
+    public BatchResult<UUID, T> updateAll(final Map<UUID, D> descs) {
+        Utils.requireNonNull(descs, ErrorMessages.MAP_NULL);
+
+        final var result = new BatchResult<UUID, T>();
+        for (final var entry : descs.entrySet()) {
+            try {
+                result.addSuccess(entry.getKey(),
+                        updateWithoutFlush(entry.getKey(), entry.getValue()));
+            } catch (IllegalArgumentException | InvalidInputException
+                    | ResourceNotFoundException exception) {
+                result.addFailure(entry.getKey(), exception.getMessage());
+            }
+        }
+
+        flush();
+        return result;
+    }
+
     /**
      * Get the entity for a given id.
      *
@@ -110,6 +219,18 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
         return entity.get();
     }
 
+    /**
+     * Get the entity for a given id, if it exists.
+     *
+     * @param entityId The id of the entity.
+     * @return The entity or an empty optional if the entity is unknown.
+     * @throws IllegalArgumentException if the passed id is null.
+     */
+    public Optional<T> find(final UUID entityId) {
+        Utils.requireNonNull(entityId, ErrorMessages.ENTITYID_NULL);
+        return repository.findById(entityId);
+    }
+
     /**
      * Get a list of all entities with of the same type.
      *
@@ -143,6 +264,7 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
     public void delete(final UUID entityId) {
         Utils.requireNonNull(entityId, ErrorMessages.ENTITYID_NULL);
         repository.deleteById(entityId);
+        publishChange(entityId);
     }
 
     /**
@@ -152,7 +274,57 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
      * @return The persisted entity.
      */
     protected T persist(final T entity) {
-        return repository.saveAndFlush(entity);
+        return published(repository.saveAndFlush(entity));
+    }
+
+    /**
+     * Persists an entity without flushing it. Outside of a transaction this behaves like
+     * {@link #persist(AbstractEntity)}, since the repository commits its own transaction.
+     *
+     * @param entity The entity.
+     * @return The persisted entity.
+     */
+    protected T persistWithoutFlush(final T entity) {
+        return published(repository.save(entity));
+    }
+
+    /**
+     * Flushes all pending changes of the current persistence context to the database.
+     */
+    protected void flush() {
+        repository.flush();
+    }
+
+    /**
+     * Publishes that an entity has been changed. Listeners bound to the transaction are notified
+     * after the commit.
+     *
+     * @param entityId The id of the changed entity.
+     */
+    protected void publishChange(final UUID entityId) {
+        if (entityId != null) {
+            publisher.publishEvent(new EntityChangedEvent(this, getEntityType(), entityId));
+        }
+    }
+
+    private T published(final T entity) {
+        if (entity != null) {
+            publishChange(entity.getId());
+        }
+
+        return entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends AbstractEntity> getEntityType() {
+        if (entityType == null) {
+            final var resolved = GenericTypeResolver.resolveTypeArguments(getClass(),
+                    BaseEntityService.class);
+            entityType = resolved == null ? AbstractEntity.class
+                    : (Class<? extends AbstractEntity>) resolved[0];
+        }
+
+        return entityType;
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.resources;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.dataspaceconnector.model.AbstractEntity;
+import lombok.Getter;
+
+/**
+ * Collects the outcome of a batch operation. Every element of the batch is either listed as
+ * succeeded, together with the resulting entity, or as failed, together with the reason.
+ *
+ * @param <K> The type identifying an element of the batch.
+ * @param <T> The entity type.
+ */
+@Getter
+public class BatchResult<K, T extends AbstractEntity> {
+
+    /**
+     * The entities of all successfully processed elements.
+     */
+    private final Map<K, T> succeeded = new LinkedHashMap<>();
+
+    /**
+     * The failure reasons of all elements that could not be processed.
+     */
+    private final Map<K, String> failed = new LinkedHashMap<>();
+
+    /**
+     * Record an element that has been processed successfully.
+     *
+     * @param key    The element.
+     * @param entity The resulting entity.
+     */
+    void addSuccess(final K key, final T entity) {
+        succeeded.put(key, entity);
+    }
+
+    /**
+     * Record an element that could not be processed.
+     *
+     * @param key    The element.
+     * @param reason The reason of the failure.
+     */
+    void addFailure(final K key, final String reason) {
+        failed.put(key, reason);
+    }
+
+    /**
+     * Check if any element of the batch failed.
+     *
+     * @return true if at least one element failed.
+     */
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
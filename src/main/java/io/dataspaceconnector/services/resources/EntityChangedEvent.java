@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.resources;
+
+import java.util.UUID;
+
+import io.dataspaceconnector.model.AbstractEntity;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published whenever an entity has been created, updated, or deleted. Changes to the relations
+ * of an entity are published for the owning side of the relation.
+ */
+@Getter
+public class EntityChangedEvent extends ApplicationEvent {
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The type of the changed entity.
+     */
+    private final Class<? extends AbstractEntity> entityType;
+
+    /**
+     * The id of the changed entity.
+     */
+    private final UUID entityId;
+
+    /**
+     * Constructs an EntityChangedEvent.
+     *
+     * @param source     The service that changed the entity.
+     * @param entityType The type of the changed entity.
+     * @param entityId   The id of the changed entity.
+     */
+    public EntityChangedEvent(final Object source, final Class<? extends AbstractEntity> entityType,
+                              final UUID entityId) {
+        super(source);
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+}
@@ -15,9 +15,16 @@
  */
 package io.dataspaceconnector.services.resources;
 
+import java.util.UUID;
+
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.repositories.OfferedResourcesRepository;
+import io.dataspaceconnector.utils.ErrorMessages;
+import io.dataspaceconnector.utils.Utils;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,4 +33,20 @@ import org.springframework.stereotype.Service;
 @Service
 @NoArgsConstructor
 public class OfferedResourceService extends ResourceService<OfferedResource, OfferedResourceDesc> {
+
+    /**
+     * Get a page of the offered resources of a catalog without loading the whole catalog.
+     *
+     * @param catalogId The id of the catalog.
+     * @param pageable  Range selection of the resources.
+     * @return The page of offered resources.
+     * @throws IllegalArgumentException if any of the passed arguments is null.
+     */
+    public Page<OfferedResource> getAllByCatalog(final UUID catalogId, final Pageable pageable) {
+        Utils.requireNonNull(catalogId, ErrorMessages.ENTITYID_NULL);
+        Utils.requireNonNull(pageable, ErrorMessages.PAGEABLE_NULL);
+
+        return ((OfferedResourcesRepository) getRepository())
+                .findAllByCatalogId(catalogId, pageable);
+    }
 }
@@ -18,17 +18,22 @@ package io.dataspaceconnector.services.resources;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RepresentationDesc;
 import io.dataspaceconnector.repositories.RepresentationRepository;
+import io.dataspaceconnector.utils.ErrorMessages;
+import io.dataspaceconnector.utils.Utils;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service for managing representations.
  */
 @Service
-public final class RepresentationService extends BaseEntityService<Representation,
+public class RepresentationService extends BaseEntityService<Representation,
         RepresentationDesc> implements RemoteResolver {
 
     @Override
@@ -36,4 +41,22 @@ public final class RepresentationService extends BaseEntityService<Representatio
         final var repo = (RepresentationRepository) getRepository();
         return repo.identifyByRemoteId(remoteId);
     }
+
+    /**
+     * Search for the local representations of several remote ids with a single query.
+     *
+     * @param remoteIds The remote ids.
+     * @return The local representation ids by remote id. Unknown remote ids are missing.
+     * @throws IllegalArgumentException if the passed collection is null.
+     */
+    public Map<URI, UUID> identifyAllByRemoteIds(final Collection<URI> remoteIds) {
+        Utils.requireNonNull(remoteIds, ErrorMessages.LIST_NULL);
+        if (remoteIds.isEmpty()) {
+            return Map.of();
+        }
+
+        final var repo = (RepresentationRepository) getRepository();
+        return repo.findAllByRemoteIds(remoteIds).stream().collect(Collectors.toMap(
+                Representation::getRemoteId, Representation::getId, (x, y) -> x));
+    }
 }
@@ -30,7 +30,7 @@ import java.util.UUID;
  */
 @Service
 @NoArgsConstructor
-public final class RequestedResourceService extends ResourceService<RequestedResource,
+public class RequestedResourceService extends ResourceService<RequestedResource,
         RequestedResourceDesc> implements RemoteResolver {
     /**
      * {@inheritDoc}
@@ -15,8 +15,17 @@
  */
 package io.dataspaceconnector.services.resources;
 
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractRule;
@@ -38,6 +47,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Builds and links entities from templates.
@@ -109,7 +119,7 @@ public abstract class TemplateBuilder<T extends Resource, D extends ResourceDesc
                      .collect(Collectors.toSet());
         final var contractIds = Utils.toStream(template.getContracts()).map(x -> build(x).getId())
                                      .collect(Collectors.toSet());
-        final var resource = buildResource(template);
+        final var resource = buildResource(template, true);
 
         resourceRepresentationLinker.add(resource.getId(), representationIds);
         resourceContractLinker.add(resource.getId(), contractIds);
@@ -117,13 +127,81 @@ public abstract class TemplateBuilder<T extends Resource, D extends ResourceDesc
         return resource;
     }
 
+    /**
+     * Build a resource and dependencies from a template in a single transaction. Other than
+     * {@link #build(ResourceTemplate)}, no entity is flushed on its own and all relations are
+     * linked in memory. All inserts and updates are therefore written in JDBC batches by one
+     * flush at the end (see {@code hibernate.jdbc.batch_size}).
+     *
+     * All remote ids are resolved before the first entity is persisted. A query issued later
+     * in the transaction would make Hibernate flush the pending inserts first.
+     *
+     * @param template The resource template.
+     * @return The new resource.
+     * @throws IllegalArgumentException if the passed template is null.
+     */
+    @Transactional
+    public T buildInBulk(final ResourceTemplate<D> template) {
+        Utils.requireNonNull(template, ErrorMessages.ENTITY_NULL);
+
+        final var representationTemplates = Utils.toStream(template.getRepresentations())
+                .filter(Objects::nonNull).collect(Collectors.toList());
+        final var representationIds = new HashMap<>(representationService
+                .identifyAllByRemoteIds(toRemoteIds(representationTemplates.stream()
+                        .map(x -> x.getDesc().getRemoteId()))));
+        final var artifactIds = new HashMap<>(artifactService
+                .identifyAllByRemoteIds(toRemoteIds(representationTemplates.stream()
+                        .flatMap(x -> Utils.toStream(x.getArtifacts()))
+                        .filter(Objects::nonNull)
+                        .map(x -> x.getDesc().getRemoteId()))));
+        final var resource = buildResource(template, false);
+
+        final var representations = Utils.toStream(template.getRepresentations())
+                .map(x -> buildInBulk(x, representationIds, artifactIds))
+                .collect(Collectors.toList());
+        final var contracts = Utils.toStream(template.getContracts())
+                .map(this::buildInBulk).collect(Collectors.toList());
+
+        addAllIfAbsent(resource.getRepresentations(), representations);
+        addAllIfAbsent(resource.getContracts(), contracts);
+
+        resourceService.flush();
+
+        return resource;
+    }
+
     /**
      * Creates a resource from a resource template.
      *
      * @param template the template.
+     * @param flush    whether the resource should be flushed immediately.
      * @return the resource.
      */
-    protected abstract T buildResource(ResourceTemplate<D> template);
+    protected abstract T buildResource(ResourceTemplate<D> template, boolean flush);
+
+    /**
+     * Creates a resource, flushing it only if requested.
+     *
+     * @param desc  The resource description.
+     * @param flush Whether the resource should be flushed immediately.
+     * @return The new resource.
+     */
+    protected T createResource(final D desc, final boolean flush) {
+        return flush ? resourceService.create(desc) : resourceService.createWithoutFlush(desc);
+    }
+
+    /**
+     * Updates a resource, flushing it only if requested.
+     *
+     * @param resourceId The id of the resource.
+     * @param desc       The new resource description.
+     * @param flush      Whether the resource should be flushed immediately.
+     * @return The updated resource.
+     */
+    protected T updateResource(final UUID resourceId, final D desc, final boolean flush) {
+        return flush ? resourceService.update(resourceId, desc)
+                : resourceService.updateWithoutFlush(resourceId, desc);
+    }
 
     /**
      * Build a representation and dependencies from template.
@@ -198,6 +276,120 @@ public abstract class TemplateBuilder<T extends Resource, D extends ResourceDesc
         return ruleService.create(template.getDesc());
     }
 
+    /**
+     * Build a representation and its artifacts from a template without flushing.
+     *
+     * @param template          The representation template.
+     * @param representationIds The known representations by remote id.
+     * @param artifactIds       The known artifacts by remote id.
+     * @return The representation.
+     */
+    private Representation buildInBulk(final RepresentationTemplate template,
+                                       final Map<URI, UUID> representationIds,
+                                       final Map<URI, UUID> artifactIds) {
+        Utils.requireNonNull(template, ErrorMessages.ENTITY_NULL);
+
+        final var artifacts = Utils.toStream(template.getArtifacts())
+                .map(x -> buildInBulk(x, artifactIds)).collect(Collectors.toList());
+        Representation representation;
+        final var remoteId = template.getDesc().getRemoteId();
+        final var repId = representationIds.get(remoteId);
+        if (repId != null) {
+            representation = representationService.updateWithoutFlush(repId, template.getDesc());
+        } else {
+            representation = representationService.createWithoutFlush(template.getDesc());
+            remember(representationIds, remoteId, representation.getId());
+        }
+
+        addAllIfAbsent(representation.getArtifacts(), artifacts);
+
+        return representation;
+    }
+
+    /**
+     * Build a contract and its rules from a template without flushing.
+     *
+     * @param template The contract template.
+     * @return The contract.
+     */
+    private Contract buildInBulk(final ContractTemplate template) {
+        Utils.requireNonNull(template, ErrorMessages.ENTITY_NULL);
+
+        final var rules = Utils.toStream(template.getRules())
+                .map(x -> ruleService.createWithoutFlush(
+                        Utils.requireNonNull(x, ErrorMessages.ENTITY_NULL).getDesc()))
+                .collect(Collectors.toList());
+        final var contract = contractService.createWithoutFlush(template.getDesc());
+        addAllIfAbsent(contract.getRules(), rules);
+
+        return contract;
+    }
+
+    /**
+     * Build an artifact from a template without flushing.
+     *
+     * @param template    The artifact template.
+     * @param artifactIds The known artifacts by remote id.
+     * @return The artifact.
+     */
+    private Artifact buildInBulk(final ArtifactTemplate template,
+                                 final Map<URI, UUID> artifactIds) {
+        Utils.requireNonNull(template, ErrorMessages.ENTITY_NULL);
+
+        final var remoteId = template.getDesc().getRemoteId();
+        final var artifactId = artifactIds.get(remoteId);
+        if (artifactId != null) {
+            return artifactService.updateWithoutFlush(artifactId, template.getDesc());
+        }
+
+        final var artifact = artifactService.createWithoutFlush(template.getDesc());
+        remember(artifactIds, remoteId, artifact.getId());
+        return artifact;
+    }
+
+    /**
+     * Collects the remote ids that have to be resolved.
+     *
+     * @param remoteIds The remote ids of the templates, null if not set.
+     * @return The set remote ids.
+     */
+    private static Set<URI> toRemoteIds(final Stream<URI> remoteIds) {
+        return remoteIds.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    /**
+     * Remembers a new entity, so that later templates with the same remote id update it
+     * instead of creating another one.
+     *
+     * @param entityIds The known entities by remote id.
+     * @param remoteId  The remote id of the new entity, null if not set.
+     * @param entityId  The id of the new entity.
+     */
+    private static void remember(final Map<URI, UUID> entityIds, final URI remoteId,
+                                 final UUID entityId) {
+        if (remoteId != null) {
+            entityIds.put(remoteId, entityId);
+        }
+    }
+
+    /**
+     * Adds all entities to a relation that are not yet part of it.
+     *
+     * @param relation The entities already in the relation.
+     * @param entities The entities to add.
+     * @param <X>      The entity type.
+     */
+    private static <X extends AbstractEntity> void addAllIfAbsent(final List<X> relation,
+                                                                  final List<X> entities) {
+        final var existingIds =
+                relation.stream().map(AbstractEntity::getId).collect(Collectors.toSet());
+        for (final var entity : entities) {
+            if (existingIds.add(entity.getId())) {
+                relation.add(entity);
+            }
+        }
+    }
+
     /**
      * Return the resource service for subclasses.
      * @return The resource service.
@@ -212,7 +404,7 @@ public abstract class TemplateBuilder<T extends Resource, D extends ResourceDesc
  * Template builder for offered resources.
  */
 @Service
-final class TemplateBuilderOfferedResource
+class TemplateBuilderOfferedResource
         extends TemplateBuilder<OfferedResource, OfferedResourceDesc> {
     /**
      * Default constructor.
@@ -240,8 +432,9 @@ final class TemplateBuilderOfferedResource
     }
 
     @Override
-    protected OfferedResource buildResource(final ResourceTemplate<OfferedResourceDesc> template) {
-        return getResourceService().create(template.getDesc());
+    protected final OfferedResource buildResource(
+            final ResourceTemplate<OfferedResourceDesc> template, final boolean flush) {
+        return createResource(template.getDesc(), flush);
     }
 }
 
@@ -250,7 +443,7 @@ final class TemplateBuilderOfferedResource
  * Template builder for requested resources.
  */
 @Service
-final class TemplateBuilderRequestedResource
+class TemplateBuilderRequestedResource
         extends TemplateBuilder<RequestedResource, RequestedResourceDesc> {
     /**
      * Default constructor.
@@ -278,8 +471,8 @@ final class TemplateBuilderRequestedResource
     }
 
     @Override
-    protected RequestedResource buildResource(
-            final ResourceTemplate<RequestedResourceDesc> template) {
+    protected final RequestedResource buildResource(
+            final ResourceTemplate<RequestedResourceDesc> template, final boolean flush) {
         final var resourceService = getResourceService();
 
         RequestedResource resource;
@@ -288,22 +481,22 @@ final class TemplateBuilderRequestedResource
                     .identifyByRemoteId(template.getOldRemoteId());
             if (resourceId.isPresent()) {
                 if (template.getOldRemoteId().equals(template.getDesc().getRemoteId())) {
-                    resource = resourceService.update(resourceId.get(), template.getDesc());
+                    resource = updateResource(resourceId.get(), template.getDesc(), flush);
                 } else {
                     final var doesExist = ((RemoteResolver) resourceService)
                             .identifyByRemoteId(template.getDesc().getRemoteId()).isPresent();
                     if (doesExist) {
                         throw new IllegalStateException();
                     } else {
-                        resource = resourceService.update(resourceId.get(), template.getDesc());
+                        resource = updateResource(resourceId.get(), template.getDesc(), flush);
                     }
                 }
 
             } else {
-                resource = resourceService.create(template.getDesc());
+                resource = createResource(template.getDesc(), flush);
             }
         } else {
-            resource = resourceService.create(template.getDesc());
+            resource = createResource(template.getDesc(), flush);
         }
 
         return resource;
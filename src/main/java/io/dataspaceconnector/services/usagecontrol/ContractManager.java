@@ -17,6 +17,7 @@ package io.dataspaceconnector.services.usagecontrol;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import de.fraunhofer.iais.eis.ContractAgreement;
@@ -42,6 +43,7 @@ import io.dataspaceconnector.services.ids.DeserializationService;
 import io.dataspaceconnector.services.resources.EntityDependencyResolver;
 import io.dataspaceconnector.utils.ContractUtils;
 import io.dataspaceconnector.utils.RuleUtils;
+import io.dataspaceconnector.utils.SelfLinkHelper;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -106,6 +108,43 @@ public class ContractManager {
         return deserializationService.getContractAgreement(agreement.getValue());
     }
 
+    /**
+     * Check if the transfer contract is valid for all requested artifacts. The agreement is
+     * loaded and deserialized once for all artifacts.
+     *
+     * @param agreementId        The id of the contract.
+     * @param requestedArtifacts The ids of the artifacts.
+     * @return The contract agreement on successful validation.
+     * @throws IllegalArgumentException  if contract agreement deserialization fails.
+     * @throws ResourceNotFoundException if agreement could not be found.
+     * @throws ContractException         if the contract agreement does not match one of the
+     *                                   requested artifacts or is not confirmed.
+     */
+    public ContractAgreement validateTransferContract(
+            final URI agreementId, final List<URI> requestedArtifacts)
+            throws IllegalArgumentException, ResourceNotFoundException, ContractException {
+        final var agreement = entityResolver.getAgreementByUri(agreementId);
+
+        final var endpoints = new HashSet<URI>();
+        for (final var artifact : dependencyResolver.getArtifactsByAgreement(agreement)) {
+            endpoints.add(SelfLinkHelper.getSelfLink(artifact));
+        }
+
+        if (!endpoints.containsAll(requestedArtifacts)) {
+            // If a requested artifact does not match the agreement, send rejection message.
+            throw new ContractException("Transfer contract does not match the requested "
+                    + "artifacts.");
+        }
+
+        // Negotiation has to be finished to make the agreement valid.
+        if (!agreement.isConfirmed()) {
+            throw new ContractException("Contract agreement has not been confirmed. Send contract "
+                    + "agreement message to finish the negotiation sequence.");
+        }
+
+        return deserializationService.getContractAgreement(agreement.getValue());
+    }
+
     /**
      * Read and validate ids contract agreement from ids response message.
      *
@@ -108,7 +108,8 @@ public final class EndpointUtils {
         try {
             final var endpoint = EndpointUtils.getEndpointIdFromPath(url);
             return endpoint.getResourceId();
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // NOTE: IndexOutOfBoundsException is thrown if the path contains no uuid.
             if (log.isDebugEnabled()) {
                 log.debug("Could not retrieve uuid from path. [exception=({})]", e.getMessage());
             }
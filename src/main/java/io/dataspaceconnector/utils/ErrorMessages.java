@@ -75,6 +75,11 @@ public enum ErrorMessages {
      */
     LIST_NULL("The passed list may not be null."),
 
+    /**
+     * The passed map may not be null.
+     */
+    MAP_NULL("The passed map may not be null."),
+
     /**
      * The passed uri may not be null.
      */
@@ -145,6 +150,11 @@ public enum ErrorMessages {
      */
     MISSING_PAYLOAD("Missing message payload."),
 
+    /**
+     * Payload of multipart message exceeds the maximum size.
+     */
+    PAYLOAD_TOO_LARGE("Message payload exceeds the maximum size."),
+
     /**
      * Entity is null.
      */
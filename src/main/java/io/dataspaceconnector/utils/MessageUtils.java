@@ -24,6 +24,7 @@ import de.fraunhofer.iais.eis.ResourceUpdateMessage;
 import io.dataspaceconnector.exceptions.MessageBuilderException;
 import io.dataspaceconnector.exceptions.MessageEmptyException;
 import io.dataspaceconnector.exceptions.MessageRequestException;
+import io.dataspaceconnector.exceptions.PayloadTooLargeException;
 import io.dataspaceconnector.exceptions.VersionNotSupportedException;
 import de.fraunhofer.isst.ids.framework.communication.http.InfomodelMessageBuilder;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayload;
@@ -31,7 +32,9 @@ import lombok.extern.log4j.Log4j2;
 import okhttp3.MultipartBody;
 import org.apache.commons.io.IOUtils;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -227,17 +230,48 @@ public final class MessageUtils {
     }
 
     /**
-     * Read string from stream.
+     * Get the payload's input stream as string.
      *
-     * @param payload The message payload as stream.
-     * @return The stream's content.
+     * @param payload The message's payload.
+     * @return The input stream as string.
      * @throws IllegalArgumentException if the payload is null.
      * @throws IOException              If the stream could not be read.
      */
     public static String getStreamAsString(final MessagePayload payload) throws IOException {
+        return getStreamAsString(payload, Long.MAX_VALUE);
+    }
+
+    /**
+     * Get the payload's input stream as string. Reading is aborted as soon as the payload
+     * exceeds the maximum size.
+     *
+     * @param payload The message's payload.
+     * @param maxSize The maximum size of the payload in bytes.
+     * @return The input stream as string.
+     * @throws IllegalArgumentException if the payload is null.
+     * @throws PayloadTooLargeException If the payload exceeds the maximum size.
+     * @throws IOException              If the stream could not be read.
+     */
+    public static String getStreamAsString(final MessagePayload payload, final long maxSize)
+            throws IOException {
+        return IOUtils.toString(getPayloadAsStream(payload, maxSize), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the payload's input stream limited to a maximum size. Reading from the returned stream
+     * fails with a {@link PayloadTooLargeException} as soon as the maximum size is exceeded, so
+     * the payload can be deserialized directly from the stream.
+     *
+     * @param payload The message's payload.
+     * @param maxSize The maximum size of the payload in bytes.
+     * @return The limited input stream.
+     * @throws IllegalArgumentException if the payload is null.
+     */
+    public static InputStream getPayloadAsStream(final MessagePayload payload,
+                                                 final long maxSize) {
         Utils.requireNonNull(payload, ErrorMessages.MISSING_PAYLOAD);
         Utils.requireNonNull(payload.getUnderlyingInputStream(), ErrorMessages.MISSING_PAYLOAD);
-        return IOUtils.toString(payload.getUnderlyingInputStream(), StandardCharsets.UTF_8);
+        return new LimitedInputStream(payload.getUnderlyingInputStream(), maxSize);
     }
 
     /**
@@ -249,13 +283,29 @@ public final class MessageUtils {
      */
     public static String getPayloadAsString(final MessagePayload payload)
             throws MessageRequestException {
+        return getPayloadAsString(payload, Long.MAX_VALUE);
+    }
+
+    /**
+     * Get the payload as string. Reading is aborted as soon as the payload exceeds the maximum
+     * size.
+     *
+     * @param payload The message's payload.
+     * @param maxSize The maximum size of the payload in bytes.
+     * @return The payload as string.
+     * @throws MessageRequestException If the payload could not be processed or is too large.
+     */
+    public static String getPayloadAsString(final MessagePayload payload, final long maxSize)
+            throws MessageRequestException {
         if (payload == null) {
             throw new MessageRequestException(ErrorMessages.MISSING_PAYLOAD.toString());
         }
 
         String content;
         try {
-            content = MessageUtils.getStreamAsString(payload);
+            content = MessageUtils.getStreamAsString(payload, maxSize);
+        } catch (PayloadTooLargeException e) {
+            throw new MessageRequestException(e.getMessage(), e);
         } catch (IOException e) {
             throw new MessageRequestException(ErrorMessages.MALFORMED_PAYLOAD.toString(), e);
         }
@@ -267,4 +317,71 @@ public final class MessageUtils {
 
         return content;
     }
+
+    /**
+     * Input stream failing as soon as more than the maximum number of bytes has been read.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+        /**
+         * The maximum number of bytes.
+         */
+        private final long maxSize;
+
+        /**
+         * The number of bytes read so far.
+         */
+        private long count;
+
+        /**
+         * Constructor for LimitedInputStream.
+         *
+         * @param in    The underlying stream.
+         * @param limit The maximum number of bytes.
+         */
+        LimitedInputStream(final InputStream in, final long limit) {
+            super(in);
+            this.maxSize = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var value = super.read();
+            if (value != -1) {
+                count(1);
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length)
+                throws IOException {
+            final var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(final long length) throws IOException {
+            final var skipped = super.skip(length);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(final long read) throws PayloadTooLargeException {
+            count += read;
+            if (count > maxSize) {
+                throw new PayloadTooLargeException(ErrorMessages.PAYLOAD_TOO_LARGE
+                        + " [maxSize=(" + maxSize + ")]");
+            }
+        }
+    }
 }
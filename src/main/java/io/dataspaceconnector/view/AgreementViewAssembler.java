@@ -20,12 +20,12 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resources.RelationControllers;
 import io.dataspaceconnector.controller.resources.ResourceControllers.AgreementController;
 import io.dataspaceconnector.model.Agreement;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -34,16 +34,25 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Component
 public class AgreementViewAssembler
         implements RepresentationModelAssembler<Agreement, AgreementView>, SelfLinking {
+    /**
+     * The mapping from agreements to their views.
+     */
+    private static final TypeMap<Agreement, AgreementView> MAPPING =
+            ViewMapper.createTypeMap(Agreement.class, AgreementView.class);
+
+    /**
+     * The link to the artifacts.
+     */
+    private static final LinkFactory.Template ARTIFACTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.AgreementsToArtifacts.class)
+                    .getResource(id, null, null)), "artifacts");
+
     @Override
     public final AgreementView toModel(final Agreement agreement) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(agreement, AgreementView.class);
+        final var view = MAPPING.map(agreement);
         view.add(getSelfLink(agreement.getId()));
 
-        final var artifactLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.AgreementsToArtifacts.class)
-                .getResource(agreement.getId(), null, null))
-                .withRel("artifacts");
+        final var artifactLink = ARTIFACTS_LINK.expand(agreement.getId());
         view.add(artifactLink);
 
         return view;
@@ -22,11 +22,9 @@ import io.dataspaceconnector.controller.resources.ResourceControllers.ArtifactCo
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.QueryInput;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -39,35 +37,51 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @NoArgsConstructor
 public class ArtifactViewAssembler
         implements RepresentationModelAssembler<Artifact, ArtifactView>, SelfLinking {
+    /**
+     * The mapping from artifacts to their views.
+     */
+    private static final TypeMap<Artifact, ArtifactView> MAPPING =
+            ViewMapper.createTypeMap(Artifact.class, ArtifactView.class);
+
+    /**
+     * The link to the data of the artifact.
+     */
+    private static final LinkFactory.Template DATA_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(ArtifactController.class)
+                    .getData(id, new QueryInput())), "data");
+
+    /**
+     * The link to the representations.
+     */
+    private static final LinkFactory.Template REPRESENTATIONS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.ArtifactsToRepresentations.class)
+                    .getResource(id, null, null)), "representations");
+
+    /**
+     * The link to the agreements.
+     */
+    private static final LinkFactory.Template AGREEMENTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.ArtifactsToAgreements.class)
+                    .getResource(id, null, null)), "agreements");
+
     /**
      * Construct the ArtifactView from an Artifact.
      *
      * @param artifact The artifact.
      * @return The new view.
      */
-    @SneakyThrows
     @Override
     public ArtifactView toModel(final Artifact artifact) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(artifact, ArtifactView.class);
+        final var view = MAPPING.map(artifact);
         view.add(getSelfLink(artifact.getId()));
 
-        final var dataLink = linkTo(methodOn(ArtifactController.class)
-                .getData(artifact.getId(), new QueryInput()))
-                .withRel("data");
+        final var dataLink = DATA_LINK.expand(artifact.getId());
         view.add(dataLink);
 
-        final var repLink =
-                WebMvcLinkBuilder.linkTo(
-                        methodOn(RelationControllers.ArtifactsToRepresentations.class)
-                                .getResource(artifact.getId(), null, null))
-                                 .withRel("representations");
+        final var repLink = REPRESENTATIONS_LINK.expand(artifact.getId());
         view.add(repLink);
 
-        final var agreementLink =
-                linkTo(methodOn(RelationControllers.ArtifactsToAgreements.class)
-                        .getResource(artifact.getId(), null, null))
-                        .withRel("agreements");
+        final var agreementLink = AGREEMENTS_LINK.expand(artifact.getId());
         view.add(agreementLink);
 
         return view;
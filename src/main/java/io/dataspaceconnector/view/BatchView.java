@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.view;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * A DTO for reporting the outcome of batch operations in API responses. Every element of the
+ * request is identified by its position in the request list (create) or by its id (update).
+ */
+@Data
+public class BatchView {
+    /**
+     * The self-links of all created or updated elements.
+     */
+    private Map<String, URI> succeeded = new LinkedHashMap<>();
+
+    /**
+     * The failure reasons of all elements that could not be processed.
+     */
+    private Map<String, String> failed = new LinkedHashMap<>();
+
+    /**
+     * The reason the request could not be read to its end. Elements following the reported
+     * ones have not been processed.
+     */
+    private String error;
+}
@@ -21,12 +21,12 @@ import io.dataspaceconnector.controller.resources.RelationControllers;
 import io.dataspaceconnector.controller.resources.ResourceControllers.CatalogController;
 import io.dataspaceconnector.model.Catalog;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -36,6 +36,19 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @NoArgsConstructor
 public class CatalogViewAssembler
         implements RepresentationModelAssembler<Catalog, CatalogView>, SelfLinking {
+    /**
+     * The mapping from catalogs to their views.
+     */
+    private static final TypeMap<Catalog, CatalogView> MAPPING =
+            ViewMapper.createTypeMap(Catalog.class, CatalogView.class);
+
+    /**
+     * The link to the offers.
+     */
+    private static final LinkFactory.Template OFFERS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.CatalogsToOfferedResources.class)
+                    .getResource(id, null, null)), "offers");
+
     /**
      * Construct the CatalogView from a Catalog.
      * @param catalog The catalog.
@@ -43,14 +56,10 @@ public class CatalogViewAssembler
      */
     @Override
     public CatalogView toModel(final Catalog catalog) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(catalog, CatalogView.class);
+        final var view = MAPPING.map(catalog);
         view.add(getSelfLink(catalog.getId()));
 
-        final var offeredResLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.CatalogsToOfferedResources.class)
-                .getResource(catalog.getId(), null, null))
-                .withRel("offers");
+        final var offeredResLink = OFFERS_LINK.expand(catalog.getId());
         view.add(offeredResLink);
 
         return view;
@@ -21,12 +21,12 @@ import io.dataspaceconnector.controller.resources.RelationControllers;
 import io.dataspaceconnector.controller.resources.ResourceControllers.RuleController;
 import io.dataspaceconnector.model.ContractRule;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
@@ -36,6 +36,19 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @NoArgsConstructor
 public class ContractRuleViewAssembler
         implements RepresentationModelAssembler<ContractRule, ContractRuleView>, SelfLinking {
+    /**
+     * The mapping from contract rules to their views.
+     */
+    private static final TypeMap<ContractRule, ContractRuleView> MAPPING =
+            ViewMapper.createTypeMap(ContractRule.class, ContractRuleView.class);
+
+    /**
+     * The link to the contracts.
+     */
+    private static final LinkFactory.Template CONTRACTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RulesToContracts.class)
+                    .getResource(id, null, null)), "contracts");
+
     /**
      * Construct the ContractRuleView from a ContractRule.
      * @param rule The contract rule.
@@ -43,14 +56,10 @@ public class ContractRuleViewAssembler
      */
     @Override
     public ContractRuleView toModel(final ContractRule rule) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(rule, ContractRuleView.class);
+        final var view = MAPPING.map(rule);
         view.add(getSelfLink(rule.getId()));
 
-        final var contractLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.RulesToContracts.class)
-                .getResource(rule.getId(), null, null))
-                .withRel("contracts");
+        final var contractLink = CONTRACTS_LINK.expand(rule.getId());
         view.add(contractLink);
 
         return view;
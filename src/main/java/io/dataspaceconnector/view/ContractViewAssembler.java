@@ -25,14 +25,13 @@ import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.RequestedResource;
 import io.dataspaceconnector.utils.ErrorMessages;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
  * Assembles the REST resource for a contracts.
@@ -41,6 +40,33 @@ import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.met
 @NoArgsConstructor
 public class ContractViewAssembler
         implements RepresentationModelAssembler<Contract, ContractView>, SelfLinking {
+    /**
+     * The mapping from contracts to their views.
+     */
+    private static final TypeMap<Contract, ContractView> MAPPING =
+            ViewMapper.createTypeMap(Contract.class, ContractView.class);
+
+    /**
+     * The link to the rules.
+     */
+    private static final LinkFactory.Template RULES_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.ContractsToRules.class)
+                    .getResource(id, null, null)), "rules");
+
+    /**
+     * The link to the offers.
+     */
+    private static final LinkFactory.Template OFFERS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.ContractsToOfferedResources.class)
+                    .getResource(id, null, null)), "offers");
+
+    /**
+     * The link to the requests.
+     */
+    private static final LinkFactory.Template REQUESTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.ContractsToRequestedResources.class)
+                    .getResource(id, null, null)), "requests");
+
     /**
      * Construct the ContractView from a Contract.
      *
@@ -49,35 +75,23 @@ public class ContractViewAssembler
      */
     @Override
     public ContractView toModel(final Contract contract) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(contract, ContractView.class);
+        final var view = MAPPING.map(contract);
         view.add(getSelfLink(contract.getId()));
 
-        final var rulesLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.ContractsToRules.class)
-                .getResource(contract.getId(), null, null))
-                .withRel("rules");
+        final var rulesLink = RULES_LINK.expand(contract.getId());
         view.add(rulesLink);
 
         final var resourceType = contract.getResources();
         Link resourceLinker;
         if (resourceType.isEmpty()) {
             // No elements found, default to offered resources
-            resourceLinker = linkTo(methodOn(RelationControllers.ContractsToOfferedResources.class)
-                    .getResource(contract.getId(), null, null))
-                    .withRel("offers");
+            resourceLinker = OFFERS_LINK.expand(contract.getId());
         } else {
             // Construct the link for the right resource type.
             if (resourceType.get(0) instanceof OfferedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.ContractsToOfferedResources.class)
-                                .getResource(contract.getId(), null, null))
-                                .withRel("offers");
+                resourceLinker = OFFERS_LINK.expand(contract.getId());
             } else if (resourceType.get(0) instanceof RequestedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.ContractsToRequestedResources.class)
-                                .getResource(contract.getId(), null, null))
-                                .withRel("requests");
+                resourceLinker = REQUESTS_LINK.expand(contract.getId());
             } else {
                 throw new UnreachableLineException(ErrorMessages.UNKNOWN_TYPE);
             }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.view;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * Builds the links of the views from templates. Every link is built once through the
+ * {@link WebMvcLinkBuilder} with a placeholder id. The resulting path is kept as template and
+ * later links are created by replacing the placeholder with the entity id and prepending the
+ * base url of the current request, which is resolved only once per request.
+ */
+public final class LinkFactory {
+    /**
+     * The id used for building the templates.
+     */
+    private static final UUID PLACEHOLDER_ID = new UUID(0, 0);
+
+    /**
+     * The placeholder id as it appears in the templates.
+     */
+    private static final String PLACEHOLDER = PLACEHOLDER_ID.toString();
+
+    /**
+     * The request attribute holding the base url of the current request.
+     */
+    private static final String BASE_URL_ATTRIBUTE = LinkFactory.class.getName() + ".BASE_URL";
+
+    /**
+     * The templates of the self-links, per controller.
+     */
+    private static final Map<Class<?>, String> SELF_TEMPLATES = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    private LinkFactory() {
+        // Nothing to do here. Intentionally empty.
+    }
+
+    /**
+     * Build the self-link of an entity.
+     *
+     * @param entityId   The entity id. If null, the link points to the controller.
+     * @param controller The controller managing the entity.
+     * @return The self-link of the entity.
+     * @throws IllegalArgumentException if the controller is null.
+     */
+    public static Link getSelfLink(final UUID entityId, final Class<?> controller) {
+        Assert.notNull(controller, "Controller must not be null!");
+
+        final var baseUrl = getBaseUrl();
+        final var path = SELF_TEMPLATES.computeIfAbsent(controller,
+                x -> relativize(linkTo(x).toString(), baseUrl));
+        if (path == null) {
+            return linkTo(controller).slash(entityId).withSelfRel();
+        }
+
+        final var href = entityId == null ? path : path + "/" + entityId;
+        return Link.of(baseUrl + href);
+    }
+
+    /**
+     * Create a link template.
+     *
+     * @param invocation Builds the link for an id, e.g. via {@code linkTo(methodOn(...))}.
+     * @param rel        The relation of the link.
+     * @return The link template.
+     */
+    public static Template template(final Invocation invocation, final String rel) {
+        return new Template(invocation, rel);
+    }
+
+    /**
+     * Builds a link for an entity id.
+     */
+    @FunctionalInterface
+    public interface Invocation {
+        /**
+         * Build the link.
+         *
+         * @param entityId The entity id.
+         * @return The link builder.
+         * @throws Exception if the controller method declares exceptions.
+         */
+        WebMvcLinkBuilder apply(UUID entityId) throws Exception;
+    }
+
+    /**
+     * A link whose path only depends on an entity id.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Template {
+        /**
+         * Builds the link.
+         */
+        private final Invocation invocation;
+
+        /**
+         * The relation of the link.
+         */
+        private final String rel;
+
+        /**
+         * The path of the link containing the placeholder. Null until first use.
+         */
+        private volatile String path;
+
+        /**
+         * Build the link for an entity.
+         *
+         * @param entityId The entity id.
+         * @return The link.
+         */
+        public Link expand(final UUID entityId) {
+            final var baseUrl = getBaseUrl();
+            if (path == null) {
+                final var template = relativize(build(PLACEHOLDER_ID), baseUrl);
+                if (template == null) {
+                    return Link.of(build(entityId), rel);
+                }
+
+                path = template;
+            }
+
+            return Link.of(baseUrl + path.replace(PLACEHOLDER, String.valueOf(entityId)), rel);
+        }
+
+        private String build(final UUID entityId) {
+            try {
+                return invocation.apply(entityId).withSelfRel().getHref();
+            } catch (Exception exception) {
+                throw new IllegalStateException("Failed to build link.", exception);
+            }
+        }
+    }
+
+    private static String relativize(final String href, final String baseUrl) {
+        // NOTE: Links that do not start with the base url (e.g. because of forwarded headers)
+        // are not cached, they are built without template instead.
+        return href.startsWith(baseUrl) ? href.substring(baseUrl.length()) : null;
+    }
+
+    /**
+     * Get the base url of the current request. It is resolved only once per request.
+     *
+     * @return The base url or an empty string if there is no request.
+     */
+    public static String getBaseUrl() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            // Without request the link builder creates relative links as well.
+            return "";
+        }
+
+        var baseUrl = (String) attributes.getAttribute(BASE_URL_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (baseUrl == null) {
+            baseUrl = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URL_ATTRIBUTE, baseUrl, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return baseUrl;
+    }
+}
@@ -21,14 +21,13 @@ import io.dataspaceconnector.controller.resources.RelationControllers;
 import io.dataspaceconnector.controller.resources.ResourceControllers.OfferedResourceController;
 import io.dataspaceconnector.model.OfferedResource;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
  * Assembles the REST resource for an offered resource.
@@ -37,6 +36,33 @@ import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.met
 @NoArgsConstructor
 public class OfferedResourceViewAssembler
         implements RepresentationModelAssembler<OfferedResource, OfferedResourceView>, SelfLinking {
+    /**
+     * The mapping from offered resources to their views.
+     */
+    private static final TypeMap<OfferedResource, OfferedResourceView> MAPPING =
+            ViewMapper.createTypeMap(OfferedResource.class, OfferedResourceView.class);
+
+    /**
+     * The link to the contracts.
+     */
+    private static final LinkFactory.Template CONTRACTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.OfferedResourcesToContracts.class)
+                    .getResource(id, null, null)), "contracts");
+
+    /**
+     * The link to the representations.
+     */
+    private static final LinkFactory.Template REPRESENTATIONS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.OfferedResourcesToRepresentations.class)
+                    .getResource(id, null, null)), "representations");
+
+    /**
+     * The link to the catalogs.
+     */
+    private static final LinkFactory.Template CATALOGS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.OfferedResourcesToCatalogs.class)
+                    .getResource(id, null, null)), "catalogs");
+
     /**
      * Construct the OfferedResourceView from an OfferedResource.
      *
@@ -45,27 +71,16 @@ public class OfferedResourceViewAssembler
      */
     @Override
     public OfferedResourceView toModel(final OfferedResource resource) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(resource, OfferedResourceView.class);
+        final var view = MAPPING.map(resource);
         view.add(getSelfLink(resource.getId()));
 
-        final var contractsLink =
-                WebMvcLinkBuilder
-                        .linkTo(methodOn(RelationControllers.OfferedResourcesToContracts.class)
-                                        .getResource(resource.getId(), null, null))
-                        .withRel("contracts");
+        final var contractsLink = CONTRACTS_LINK.expand(resource.getId());
         view.add(contractsLink);
 
-        final var repLink =
-                linkTo(methodOn(RelationControllers.OfferedResourcesToRepresentations.class)
-                        .getResource(resource.getId(), null, null))
-                        .withRel("representations");
+        final var repLink = REPRESENTATIONS_LINK.expand(resource.getId());
         view.add(repLink);
 
-        final var catalogLink =
-                linkTo(methodOn(RelationControllers.OfferedResourcesToCatalogs.class)
-                        .getResource(resource.getId(), null, null))
-                        .withRel("catalogs");
+        final var catalogLink = CATALOGS_LINK.expand(resource.getId());
         view.add(catalogLink);
 
         return view;
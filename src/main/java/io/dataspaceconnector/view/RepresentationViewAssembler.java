@@ -25,14 +25,13 @@ import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RequestedResource;
 import io.dataspaceconnector.utils.ErrorMessages;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
  * Assembles the REST resource for an representation.
@@ -41,6 +40,33 @@ import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.met
 @NoArgsConstructor
 public class RepresentationViewAssembler
         implements RepresentationModelAssembler<Representation, RepresentationView>, SelfLinking {
+    /**
+     * The mapping from representations to their views.
+     */
+    private static final TypeMap<Representation, RepresentationView> MAPPING =
+            ViewMapper.createTypeMap(Representation.class, RepresentationView.class);
+
+    /**
+     * The link to the artifacts.
+     */
+    private static final LinkFactory.Template ARTIFACTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RepresentationsToArtifacts.class)
+                    .getResource(id, null, null)), "artifacts");
+
+    /**
+     * The link to the offers.
+     */
+    private static final LinkFactory.Template OFFERS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RepresentationsToOfferedResources.class)
+                    .getResource(id, null, null)), "offers");
+
+    /**
+     * The link to the requests.
+     */
+    private static final LinkFactory.Template REQUESTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RepresentationsToRequestedResources.class)
+                    .getResource(id, null, null)), "requests");
+
     /**
      * Construct the RepresentationView from an Representation.
      *
@@ -49,38 +75,23 @@ public class RepresentationViewAssembler
      */
     @Override
     public RepresentationView toModel(final Representation representation) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(representation, RepresentationView.class);
+        final var view = MAPPING.map(representation);
         view.add(getSelfLink(representation.getId()));
 
-        final var artifactsLink =
-                WebMvcLinkBuilder
-                        .linkTo(methodOn(RelationControllers.RepresentationsToArtifacts.class)
-                                        .getResource(representation.getId(), null, null))
-                        .withRel("artifacts");
+        final var artifactsLink = ARTIFACTS_LINK.expand(representation.getId());
         view.add(artifactsLink);
 
         final var resourceType = representation.getResources();
         Link resourceLinker;
         if (resourceType.isEmpty()) {
             // No elements found, default to offered resources
-            resourceLinker =
-                    linkTo(methodOn(RelationControllers.RepresentationsToOfferedResources.class)
-                                   .getResource(representation.getId(), null, null))
-                            .withRel("offers");
+            resourceLinker = OFFERS_LINK.expand(representation.getId());
         } else {
             // Construct the link for the right resource type.
             if (resourceType.get(0) instanceof OfferedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.RepresentationsToOfferedResources.class)
-                                       .getResource(representation.getId(), null, null))
-                                .withRel("offers");
+                resourceLinker = OFFERS_LINK.expand(representation.getId());
             } else if (resourceType.get(0) instanceof RequestedResource) {
-                resourceLinker =
-                        linkTo(methodOn(
-                                RelationControllers.RepresentationsToRequestedResources.class)
-                                       .getResource(representation.getId(), null, null))
-                                .withRel("requests");
+                resourceLinker = REQUESTS_LINK.expand(representation.getId());
             } else {
                 throw new UnreachableLineException(ErrorMessages.UNKNOWN_TYPE);
             }
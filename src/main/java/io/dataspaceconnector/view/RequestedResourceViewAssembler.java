@@ -21,14 +21,13 @@ import io.dataspaceconnector.controller.resources.RelationControllers;
 import io.dataspaceconnector.controller.resources.ResourceControllers.RequestedResourceController;
 import io.dataspaceconnector.model.RequestedResource;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 /**
  * Assembles the REST resource for a requested resource.
@@ -38,6 +37,33 @@ import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.met
 public class RequestedResourceViewAssembler
         implements RepresentationModelAssembler<RequestedResource, RequestedResourceView>,
         SelfLinking {
+    /**
+     * The mapping from requested resources to their views.
+     */
+    private static final TypeMap<RequestedResource, RequestedResourceView> MAPPING =
+            ViewMapper.createTypeMap(RequestedResource.class, RequestedResourceView.class);
+
+    /**
+     * The link to the contracts.
+     */
+    private static final LinkFactory.Template CONTRACTS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RequestedResourcesToContracts.class)
+                    .getResource(id, null, null)), "contracts");
+
+    /**
+     * The link to the representations.
+     */
+    private static final LinkFactory.Template REPRESENTATIONS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RequestedResourcesToRepresentations.class)
+                    .getResource(id, null, null)), "representations");
+
+    /**
+     * The link to the catalogs.
+     */
+    private static final LinkFactory.Template CATALOGS_LINK = LinkFactory.template(
+            id -> linkTo(methodOn(RelationControllers.RequestedResourcesToCatalogs.class)
+                    .getResource(id, null, null)), "catalogs");
+
     /**
      * Construct the RequestedResourceView from a RequestedResource.
      *
@@ -46,27 +72,16 @@ public class RequestedResourceViewAssembler
      */
     @Override
     public RequestedResourceView toModel(final RequestedResource resource) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(resource, RequestedResourceView.class);
+        final var view = MAPPING.map(resource);
         view.add(getSelfLink(resource.getId()));
 
-        final var contractsLink =
-                WebMvcLinkBuilder
-                        .linkTo(methodOn(RelationControllers.RequestedResourcesToContracts.class)
-                                        .getResource(resource.getId(), null, null))
-                        .withRel("contracts");
+        final var contractsLink = CONTRACTS_LINK.expand(resource.getId());
         view.add(contractsLink);
 
-        final var representationLink =
-                linkTo(methodOn(RelationControllers.RequestedResourcesToRepresentations.class)
-                               .getResource(resource.getId(), null, null))
-                        .withRel("representations");
+        final var representationLink = REPRESENTATIONS_LINK.expand(resource.getId());
         view.add(representationLink);
 
-        final var catalogLink =
-                linkTo(methodOn(RelationControllers.RequestedResourcesToCatalogs.class)
-                               .getResource(resource.getId(), null, null))
-                        .withRel("catalogs");
+        final var catalogLink = CATALOGS_LINK.expand(resource.getId());
         view.add(catalogLink);
 
         return view;
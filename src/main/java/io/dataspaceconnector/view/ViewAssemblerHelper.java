@@ -19,8 +19,6 @@ import java.util.UUID;
 
 import org.springframework.hateoas.Link;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-
 /**
  * Helper for building self-links.
  */
@@ -42,6 +40,6 @@ public final class ViewAssemblerHelper {
      * @throws IllegalArgumentException if the class is null.
      */
     public static <T> Link getSelfLink(final UUID entityId, final Class<T> tClass) {
-        return linkTo(tClass).slash(entityId).withSelfRel();
+        return LinkFactory.getSelfLink(entityId, tClass);
     }
 }
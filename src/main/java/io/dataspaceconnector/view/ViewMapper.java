@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.view;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+
+/**
+ * Holds the mappings from entities to views. The mappings are built and validated once and
+ * shared by all view assemblers, instead of being rebuilt by reflection for every entity.
+ */
+final class ViewMapper {
+    /**
+     * The mapper owning all type maps. ModelMapper is thread-safe once configured.
+     */
+    private static final ModelMapper MAPPER = new ModelMapper();
+
+    /**
+     * Default constructor.
+     */
+    private ViewMapper() {
+        // Nothing to do here. Intentionally empty.
+    }
+
+    /**
+     * Create and validate the mapping from an entity class to a view class. Call this once per
+     * pair and keep the result, e.g. in a static field of the assembler.
+     *
+     * @param source      The entity class.
+     * @param destination The view class.
+     * @param <S>         The type of the entity.
+     * @param <D>         The type of the view.
+     * @return The type map.
+     * @throws org.modelmapper.ValidationException if a view property is not mapped.
+     * @throws IllegalStateException               if the mapping already exists.
+     */
+    static synchronized <S, D> TypeMap<S, D> createTypeMap(final Class<S> source,
+                                                          final Class<D> destination) {
+        final var typeMap = MAPPER.createTypeMap(source, destination);
+        typeMap.validate();
+        return typeMap;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.services.resources.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+class SecondLevelCacheConfigurationTest {
+
+    private static final String ROLE = "io.dataspaceconnector.model.Catalog.offeredResources";
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void get_secondTime_cacheHit() {
+        /* ARRANGE */
+        final var catalogId = createCatalog();
+        final var statistics = getSessionFactory().getStatistics();
+        countResources(catalogId);
+        statistics.clear();
+
+        /* ACT */
+        countResources(catalogId);
+
+        /* ASSERT */
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void delete_resourceOfCachedCatalog_evictCollection() {
+        /* ARRANGE */
+        final var catalogId = createCatalog();
+        final var resourceId = createResource(catalogId);
+        countResources(catalogId);
+        assertTrue(getSessionFactory().getCache().containsCollection(ROLE, catalogId));
+
+        /* ACT */
+        resourceService.delete(resourceId);
+
+        /* ASSERT */
+        assertFalse(getSessionFactory().getCache().containsCollection(ROLE, catalogId));
+    }
+
+    @Test
+    public void add_resourceToCachedCatalog_evictCollection() {
+        /* ARRANGE */
+        final var catalogId = createCatalog();
+        createResource(catalogId);
+        countResources(catalogId);
+        assertTrue(getSessionFactory().getCache().containsCollection(ROLE, catalogId));
+
+        /* ACT */
+        createResource(catalogId);
+
+        /* ASSERT */
+        assertFalse(getSessionFactory().getCache().containsCollection(ROLE, catalogId));
+        assertEquals(2, countResources(catalogId));
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private SessionFactory getSessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    private int countResources(final UUID catalogId) {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status ->
+                catalogService.get(catalogId).getOfferedResources().size());
+    }
+
+    private UUID createCatalog() {
+        return catalogService.create(new CatalogDesc()).getId();
+    }
+
+    private UUID createResource(final UUID catalogId) {
+        final var desc = new OfferedResourceDesc();
+        desc.setTitle("resource");
+        desc.setLanguage("EN");
+        final var resource = resourceService.create(desc);
+        catalogResourceLinker.add(catalogId, Set.of(resource.getId()));
+        return resource.getId();
+    }
+}
@@ -15,14 +15,25 @@
  */
 package io.dataspaceconnector.controller;
 
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
 import javax.validation.ConstraintViolationException;
 
 import de.fraunhofer.iais.eis.BaseConnectorBuilder;
 import de.fraunhofer.iais.eis.SecurityProfile;
+import io.dataspaceconnector.exceptions.ResourceNotFoundException;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.CatalogFactory;
+import io.dataspaceconnector.services.EntityResolver;
+import io.dataspaceconnector.services.ids.CatalogStreamWriter;
 import io.dataspaceconnector.services.ids.ConnectorService;
+import io.dataspaceconnector.services.ids.ElementDescriptionCache;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +54,15 @@ public class MainControllerTest {
     @MockBean
     private ConnectorService connectorService;
 
+    @MockBean
+    private EntityResolver entityResolver;
+
+    @MockBean
+    private ElementDescriptionCache descriptionCache;
+
+    @MockBean
+    private CatalogStreamWriter catalogWriter;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -165,4 +185,97 @@ public class MainControllerTest {
                      + "\"templated\":true}}}", result.getResponse().getContentAsString());
         assertEquals("application/hal+json", result.getResponse().getContentType());
     }
+
+    /**
+     * getElementDescription
+     */
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getElementDescription_validId_returnDescriptionWithETag() throws Exception {
+        /* ARRANGE */
+        final var elementId = URI.create("https://localhost/api/catalogs/"
+                + "550e8400-e29b-11d4-a716-446655440000");
+        final var catalog = new CatalogFactory().create(new CatalogDesc());
+        Mockito.doReturn(catalog).when(entityResolver).getEntityById(elementId);
+        Mockito.doReturn(getDescription()).when(descriptionCache).get(catalog);
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector/description")
+                .param("elementId", elementId.toString()))
+                .andExpect(status().isOk()).andReturn();
+
+        /* ASSERT */
+        assertEquals("rdf", result.getResponse().getContentAsString());
+        assertEquals("\"hash\"", result.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getElementDescription_matchingETag_returnNotModified() throws Exception {
+        /* ARRANGE */
+        final var elementId = URI.create("https://localhost/api/catalogs/"
+                + "550e8400-e29b-11d4-a716-446655440000");
+        final var catalog = new CatalogFactory().create(new CatalogDesc());
+        Mockito.doReturn(catalog).when(entityResolver).getEntityById(elementId);
+        Mockito.doReturn(getDescription()).when(descriptionCache).get(catalog);
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector/description")
+                .param("elementId", elementId.toString())
+                .header("If-None-Match", "\"hash\""))
+                .andExpect(status().isNotModified()).andReturn();
+
+        /* ASSERT */
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    /**
+     * getCatalog
+     */
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getCatalog_knownId_returnStreamedCatalog() throws Exception {
+        /* ARRANGE */
+        final var catalogId = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class)
+                    .write("{\"@type\":\"ids:ResourceCatalog\"}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(catalogWriter).write(Mockito.eq(catalogId), Mockito.any());
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector/catalogs/" + catalogId))
+                .andExpect(status().isOk()).andReturn();
+
+        /* ASSERT */
+        assertEquals("application/ld+json", result.getResponse().getContentType());
+        assertEquals("{\"@type\":\"ids:ResourceCatalog\"}", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getCatalog_unknownId_returnNotFound() throws Exception {
+        /* ARRANGE */
+        final var catalogId = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        Mockito.doThrow(new ResourceNotFoundException("Not found."))
+                .when(catalogWriter).write(Mockito.eq(catalogId), Mockito.any());
+
+        /* ACT && ASSERT */
+        mockMvc.perform(get("/api/connector/catalogs/" + catalogId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void getCatalog_nothing_accessRestriction() throws Exception {
+        /* ACT && ASSERT */
+        mockMvc.perform(get("/api/connector/catalogs/550e8400-e29b-11d4-a716-446655440000"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ElementDescriptionCache.Description getDescription() {
+        return new ElementDescriptionCache.Description(UUID.randomUUID(), Catalog.class,
+                URI.create("https://localhost"), "rdf", "hash", Set.of());
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.messages;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ContractRequest;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import io.dataspaceconnector.services.ContractNegotiationJob;
+import io.dataspaceconnector.services.ContractNegotiationJobService;
+import io.dataspaceconnector.services.ids.DapsTokenCache;
+import io.dataspaceconnector.services.usagecontrol.ContractManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContractRequestMessageControllerTest {
+
+    private static final UUID JOB_ID = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+
+    private static final String RECIPIENT = "https://localhost:8080/api/ids/data";
+
+    @MockBean
+    private ContractNegotiationJobService jobService;
+
+    @MockBean
+    private ContractManager contractManager;
+
+    @MockBean
+    private DapsTokenCache tokenCache;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void init() {
+        Mockito.doReturn(Mockito.mock(DynamicAttributeToken.class)).when(tokenCache).getDat();
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void sendContractRequestMessage_async_returnAcceptedWithJobLocation()
+            throws Exception {
+        /* ARRANGE */
+        final var job = getJob();
+        final var request = Mockito.mock(ContractRequest.class);
+        Mockito.doReturn(request).when(contractManager).buildContractRequest(Mockito.any());
+        Mockito.doReturn(job).when(jobService).submit(Mockito.eq(URI.create(RECIPIENT)),
+                Mockito.eq(request), Mockito.any(), Mockito.any(), Mockito.eq(true));
+
+        /* ACT */
+        final var result = mockMvc.perform(post("/api/ids/contract")
+                .param("recipient", RECIPIENT)
+                .param("resourceIds", "https://localhost:8080/api/offers/1")
+                .param("artifactIds", "https://localhost:8080/api/artifacts/1")
+                .param("download", "true")
+                .param("async", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isAccepted()).andReturn();
+
+        /* ASSERT */
+        final var location = result.getResponse().getHeader("Location");
+        assertTrue(location.endsWith("/api/ids/contract/jobs/" + JOB_ID));
+        assertTrue(result.getResponse().getContentAsString().contains(location));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getContractJob_knownJob_returnJob() throws Exception {
+        /* ARRANGE */
+        final var job = getJob();
+        Mockito.doReturn(Optional.of(job)).when(jobService).get(JOB_ID);
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/ids/contract/jobs/" + JOB_ID))
+                .andExpect(status().isOk()).andReturn();
+
+        /* ASSERT */
+        final var body = result.getResponse().getContentAsString();
+        assertTrue(body.contains(JOB_ID.toString()));
+        assertTrue(body.contains("RUNNING"));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getContractJob_unknownJob_returnNotFound() throws Exception {
+        /* ARRANGE */
+        Mockito.doReturn(Optional.empty()).when(jobService).get(JOB_ID);
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/ids/contract/jobs/" + JOB_ID))
+                .andExpect(status().isNotFound()).andReturn();
+
+        /* ASSERT */
+        assertTrue(result.getResponse().getContentAsString().contains("Resource not found."));
+    }
+
+    @Test
+    public void getContractJob_unauthorized_returnUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/ids/contract/jobs/" + JOB_ID))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private ContractNegotiationJob getJob() {
+        final var job = Mockito.mock(ContractNegotiationJob.class);
+        Mockito.doReturn(JOB_ID).when(job).getId();
+        Mockito.doReturn(URI.create(RECIPIENT)).when(job).getRecipient();
+        Mockito.doReturn(ContractNegotiationJob.Status.RUNNING).when(job).getStatus();
+        return job;
+    }
+}
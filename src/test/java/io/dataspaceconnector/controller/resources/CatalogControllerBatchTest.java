@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.services.resources.BatchResult;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.view.CatalogViewAssembler;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {ResourceControllers.CatalogController.class,
+        JacksonAutoConfiguration.class},
+        properties = "spring.jpa.properties.hibernate.jdbc.batch_size=1")
+class CatalogControllerBatchTest {
+    @MockBean
+    private CatalogService service;
+
+    @SpyBean
+    private CatalogViewAssembler assembler;
+
+    @SpyBean
+    private PagedResourcesAssembler<Catalog> pagedAssembler;
+
+    @Autowired
+    private ResourceControllers.CatalogController controller;
+
+    private final UUID catalogId = UUID.fromString("554ed409-03e9-4b41-a45a-4b7a8c0aa499");
+
+    /**
+     * Setup
+     */
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        Mockito.when(service.createAll(Mockito.any())).thenAnswer(invocation -> {
+            final var descs = (List<CatalogDesc>) invocation.getArgument(0);
+            final var succeeded = new LinkedHashMap<Integer, Catalog>();
+            for (int i = 0; i < descs.size(); i++) {
+                succeeded.put(i, getCatalog(UUID.randomUUID()));
+            }
+            return getResult(succeeded);
+        });
+        Mockito.when(service.updateAll(Mockito.any())).thenAnswer(invocation -> {
+            final var descs = (Map<UUID, CatalogDesc>) invocation.getArgument(0);
+            final var succeeded = new LinkedHashMap<UUID, Catalog>();
+            descs.keySet().forEach(x -> succeeded.put(x, getCatalog(x)));
+            return getResult(succeeded);
+        });
+    }
+
+    /**
+     * createAll
+     */
+
+    @Test
+    @SneakyThrows
+    public void createAll_validDescs_returnStatusCode201() {
+        /* ARRANGE */
+        final var body = getBody("[{\"title\":\"a\"},{\"title\":\"b\"}]");
+
+        /* ACT */
+        final var result = controller.createAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(2, result.getBody().getSucceeded().size());
+        assertTrue(result.getBody().getFailed().isEmpty());
+        assertNull(result.getBody().getError());
+    }
+
+    @Test
+    @SneakyThrows
+    public void createAll_invalidElement_returnStatusCode207() {
+        /* ARRANGE */
+        final var body = getBody("[{\"title\":\"a\"},[\"no description\"]]");
+
+        /* ACT */
+        final var result = controller.createAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        assertTrue(result.getBody().getSucceeded().containsKey("0"));
+        assertTrue(result.getBody().getFailed().containsKey("1"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void createAll_malformedAfterFirstChunk_returnStatusCode207WithError() {
+        /* ARRANGE */
+        final var body = getBody("[{\"title\":\"a\"},{\"title\":");
+
+        /* ACT */
+        final var result = controller.createAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        assertEquals(1, result.getBody().getSucceeded().size());
+        assertTrue(result.getBody().getSucceeded().containsKey("0"));
+        assertNotNull(result.getBody().getError());
+    }
+
+    @Test
+    public void createAll_malformedBeforeFirstChunk_throwJsonProcessingException() {
+        /* ARRANGE */
+        final var body = getBody("[{\"title\":");
+
+        /* ACT && ASSERT */
+        assertThrows(JsonProcessingException.class, () -> controller.createAll(body));
+        Mockito.verify(service, Mockito.never()).createAll(Mockito.any());
+    }
+
+    /**
+     * updateAll
+     */
+
+    @Test
+    @SneakyThrows
+    public void updateAll_validDescs_returnStatusCode200() {
+        /* ARRANGE */
+        final var body = getBody("{\"" + catalogId + "\":{\"title\":\"a\"}}");
+
+        /* ACT */
+        final var result = controller.updateAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody().getSucceeded().containsKey(catalogId.toString()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void updateAll_invalidId_returnStatusCode207() {
+        /* ARRANGE */
+        final var body = getBody("{\"" + catalogId + "\":{\"title\":\"a\"},"
+                + "\"no-id\":{\"title\":\"b\"}}");
+
+        /* ACT */
+        final var result = controller.updateAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        assertTrue(result.getBody().getSucceeded().containsKey(catalogId.toString()));
+        assertEquals("Invalid id.", result.getBody().getFailed().get("no-id"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void updateAll_malformedAfterFirstChunk_returnStatusCode207WithError() {
+        /* ARRANGE */
+        final var body = getBody("{\"" + catalogId + "\":{\"title\":\"a\"},\"" + UUID.randomUUID()
+                + "\":{\"title\"");
+
+        /* ACT */
+        final var result = controller.updateAll(body);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.MULTI_STATUS, result.getStatusCode());
+        assertEquals(1, result.getBody().getSucceeded().size());
+        assertNotNull(result.getBody().getError());
+    }
+
+    @Test
+    public void updateAll_noObject_throwJsonProcessingException() {
+        /* ARRANGE */
+        final var body = getBody("[]");
+
+        /* ACT && ASSERT */
+        assertThrows(JsonProcessingException.class, () -> controller.updateAll(body));
+    }
+
+    /**
+     * Utilities
+     */
+
+    private InputStream getBody(final String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <K> BatchResult<K, Catalog> getResult(final Map<K, Catalog> succeeded) {
+        final var result = new BatchResult<K, Catalog>();
+        result.getSucceeded().putAll(succeeded);
+        return result;
+    }
+
+    @SneakyThrows
+    private Catalog getCatalog(final UUID id) {
+        final var constructor = Catalog.class.getConstructor();
+        constructor.setAccessible(true);
+
+        final var catalog = constructor.newInstance();
+        ReflectionTestUtils.setField(catalog, "id", id);
+
+        return catalog;
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.web.PagedResourcesAssembler;
@@ -31,7 +32,7 @@ import org.springframework.http.HttpStatus;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
-@SpringBootTest(classes = {ResourceControllers.RequestedResourceController.class})
+@SpringBootTest(classes = {ResourceControllers.RequestedResourceController.class, JacksonAutoConfiguration.class})
 class RequestedResourceControllerTest {
     @MockBean
     private ResourceService<RequestedResource, RequestedResourceDesc> service;
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.fraunhofer.iais.eis.RejectionReason;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.util.Base64Utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ArtifactBatchReceiver.class, JsonPayloadMapper.class})
+class ArtifactBatchReceiverTest {
+
+    private static final URI RECIPIENT = URI.create("https://recipient.com/api/ids/data");
+
+    private static final URI TRANSFER_CONTRACT = URI.create("https://contract.com");
+
+    private static final URI FIRST = URI.create("https://provider.com/artifacts/1");
+
+    private static final URI SECOND = URI.create("https://provider.com/artifacts/2");
+
+    @MockBean
+    private ArtifactRequestService messageService;
+
+    @Autowired
+    private ArtifactBatchReceiver batchReceiver;
+
+    @Test
+    public void isApplicable_singleArtifact_returnFalse() {
+        /* ACT && ASSERT */
+        assertFalse(batchReceiver.isApplicable(URI.create("https://single.com"), List.of(FIRST)));
+    }
+
+    @Test
+    public void retrieve_batchResponse_returnDataOfProvidedArtifacts() {
+        /* ARRANGE */
+        final var artifacts = List.of(FIRST, SECOND);
+        final var response = new HashMap<String, String>();
+        response.put("payload", "{\"data\":{\"" + FIRST + "\":\""
+                + Base64Utils.encodeToString("DATA".getBytes()) + "\"},\"errors\":{\""
+                + SECOND + "\":\"Policy restriction detected.\"}}");
+
+        when(messageService.sendBatchMessage(RECIPIENT, artifacts, TRANSFER_CONTRACT, null))
+                .thenReturn(response);
+        when(messageService.validateResponse(response)).thenReturn(true);
+
+        /* ACT */
+        final var result = batchReceiver.retrieve(RECIPIENT, artifacts, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertEquals(1, result.size());
+        assertArrayEquals("DATA".getBytes(), result.get(FIRST));
+        assertTrue(batchReceiver.isApplicable(RECIPIENT, artifacts));
+    }
+
+    @Test
+    public void retrieve_skippedArtifacts_requestWithAnotherMessage() {
+        /* ARRANGE */
+        final var artifacts = List.of(FIRST, SECOND);
+        final var firstResponse = new HashMap<String, String>();
+        firstResponse.put("payload", "{\"data\":{\"" + FIRST + "\":\""
+                + Base64Utils.encodeToString("ONE".getBytes()) + "\"},\"skipped\":[\""
+                + SECOND + "\"]}");
+        final var secondResponse = new HashMap<String, String>();
+        secondResponse.put("payload", "{\"data\":{\"" + SECOND + "\":\""
+                + Base64Utils.encodeToString("TWO".getBytes()) + "\"}}");
+
+        when(messageService.sendBatchMessage(RECIPIENT, artifacts, TRANSFER_CONTRACT, null))
+                .thenReturn(firstResponse);
+        when(messageService.sendBatchMessage(RECIPIENT, List.of(SECOND), TRANSFER_CONTRACT, null))
+                .thenReturn(secondResponse);
+        when(messageService.validateResponse(firstResponse)).thenReturn(true);
+        when(messageService.validateResponse(secondResponse)).thenReturn(true);
+
+        /* ACT */
+        final var result = batchReceiver.retrieve(RECIPIENT, artifacts, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertEquals(2, result.size());
+        assertArrayEquals("ONE".getBytes(), result.get(FIRST));
+        assertArrayEquals("TWO".getBytes(), result.get(SECOND));
+    }
+
+    @Test
+    public void retrieve_payloadRejected_returnNullAndFallBackForPeer() {
+        /* ARRANGE */
+        final var recipient = URI.create("https://old-provider.com/api/ids/data");
+        final var artifacts = List.of(FIRST, SECOND);
+        final var response = new HashMap<String, String>();
+
+        when(messageService.sendBatchMessage(recipient, artifacts, TRANSFER_CONTRACT, null))
+                .thenReturn(response);
+        when(messageService.validateResponse(response)).thenReturn(false);
+        when(messageService.getResponseContent(response))
+                .thenReturn(Map.of("reason", RejectionReason.BAD_PARAMETERS));
+
+        /* ACT */
+        final var result = batchReceiver.retrieve(recipient, artifacts, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertNull(result);
+        assertFalse(batchReceiver.isApplicable(recipient, artifacts));
+    }
+
+    @Test
+    public void retrieve_notAuthorized_returnNoDataAndKeepBatchesForPeer() {
+        /* ARRANGE */
+        final var recipient = URI.create("https://strict-provider.com/api/ids/data");
+        final var artifacts = List.of(FIRST, SECOND);
+        final var response = new HashMap<String, String>();
+
+        when(messageService.sendBatchMessage(recipient, artifacts, TRANSFER_CONTRACT, null))
+                .thenReturn(response);
+        when(messageService.validateResponse(response)).thenReturn(false);
+        when(messageService.getResponseContent(response))
+                .thenReturn(Map.of("reason", RejectionReason.NOT_AUTHORIZED));
+
+        /* ACT */
+        final var result = batchReceiver.retrieve(recipient, artifacts, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        assertTrue(batchReceiver.isApplicable(recipient, artifacts));
+    }
+
+    @Test
+    public void retrieve_singleArtifactResponse_returnNull() {
+        /* ARRANGE */
+        final var recipient = URI.create("https://legacy-provider.com/api/ids/data");
+        final var artifacts = List.of(FIRST, SECOND);
+        final var response = new HashMap<String, String>();
+        response.put("payload", Base64Utils.encodeToString("DATA".getBytes()));
+
+        when(messageService.sendBatchMessage(recipient, artifacts, TRANSFER_CONTRACT, null))
+                .thenReturn(response);
+        when(messageService.validateResponse(response)).thenReturn(true);
+
+        /* ACT */
+        final var result = batchReceiver.retrieve(recipient, artifacts, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertNull(result);
+        assertFalse(batchReceiver.isApplicable(recipient, artifacts));
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.Permission;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.isst.ids.framework.util.IDSUtils;
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.services.ids.DeserializationService;
+import io.dataspaceconnector.services.messages.ConnectionProfileRegistry;
+import io.dataspaceconnector.services.messages.ProviderRequestExecutor;
+import io.dataspaceconnector.services.resources.AgreementService;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ArtifactPrefetchScheduler.class, ProviderRequestExecutor.class},
+        properties = {"artifact.prefetch.enabled=true", "artifact.prefetch.max-age=PT1H"})
+class ArtifactPrefetchSchedulerTest {
+
+    private static final URI REMOTE_ID = URI.create("https://provider/api/artifacts/1");
+
+    private static final URI REMOTE_ADDRESS = URI.create("https://provider/api/ids/data");
+
+    private static final URI AGREEMENT_ID = URI.create("https://provider/api/agreements/1");
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @MockBean
+    private AgreementService agreementService;
+
+    @MockBean
+    private DeserializationService deserializationService;
+
+    @MockBean
+    private BlockingArtifactReceiver artifactReceiver;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private ConnectionProfileRegistry profileRegistry;
+
+    @Autowired
+    private ArtifactPrefetchScheduler scheduler;
+
+    private Artifact artifact;
+
+    private Agreement agreement;
+
+    @BeforeEach
+    public void init() {
+        artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "remoteId", REMOTE_ID);
+        ReflectionTestUtils.setField(artifact, "remoteAddress", REMOTE_ADDRESS);
+        ReflectionTestUtils.setField(artifact, "automatedDownload", true);
+
+        agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(agreement, "remoteId", AGREEMENT_ID);
+        ReflectionTestUtils.setField(agreement, "confirmed", true);
+        ReflectionTestUtils.setField(agreement, "value", "agreement");
+        ReflectionTestUtils.setField(agreement, "artifacts", new ArrayList<>(List.of(artifact)));
+
+        when(agreementService.getAll(Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(agreement)));
+        when(profileRegistry.getProfile(any())).thenReturn(new ConnectionProfile());
+    }
+
+    @Test
+    @SneakyThrows
+    public void prefetch_withinUsageInterval_refreshData() {
+        /* ARRANGE */
+        final InputStream data = new ByteArrayInputStream(new byte[]{1});
+        when(deserializationService.getContractAgreement("agreement"))
+                .thenReturn(getContractAgreement("2999-01-01T00:00:00Z"));
+        when(artifactReceiver.retrieve(artifact.getId(), REMOTE_ADDRESS, AGREEMENT_ID))
+                .thenReturn(data);
+
+        /* ACT */
+        final var before = ZonedDateTime.now();
+        final var result = scheduler.prefetch();
+
+        /* ASSERT */
+        assertEquals(1, result);
+        verify(artifactService).setData(eq(artifact.getId()), eq(data),
+                argThat(x -> !x.isBefore(before.plus(Duration.ofHours(1)))));
+        verify(profileRegistry).getProfile(REMOTE_ADDRESS);
+    }
+
+    @Test
+    @SneakyThrows
+    public void prefetch_usageIntervalExpired_skipArtifact() {
+        /* ARRANGE */
+        when(deserializationService.getContractAgreement("agreement"))
+                .thenReturn(getContractAgreement("2020-07-12T00:00:00Z"));
+
+        /* ACT */
+        final var result = scheduler.prefetch();
+
+        /* ASSERT */
+        assertEquals(0, result);
+        verify(artifactReceiver, never()).retrieve(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void prefetch_dataStillUpToDate_skipArtifact() {
+        /* ARRANGE */
+        when(deserializationService.getContractAgreement("agreement"))
+                .thenReturn(getContractAgreement("2999-01-01T00:00:00Z"));
+        when(artifactService.isPrefetched(artifact.getId())).thenReturn(true);
+
+        /* ACT */
+        final var result = scheduler.prefetch();
+
+        /* ASSERT */
+        assertEquals(0, result);
+        verify(artifactReceiver, never()).retrieve(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void prefetch_agreementNotConfirmed_skipArtifact() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(agreement, "confirmed", false);
+
+        /* ACT */
+        final var result = scheduler.prefetch();
+
+        /* ASSERT */
+        assertEquals(0, result);
+        verify(deserializationService, never()).getContractAgreement(any());
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private ContractAgreement getContractAgreement(final String end) {
+        return new ContractAgreementBuilder(AGREEMENT_ID)
+                ._contractStart_(IDSUtils.getGregorianNow())
+                ._permission_(Util.asList(getPermission(end)))
+                .build();
+    }
+
+    private Permission getPermission(final String end) {
+        return new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.AFTER)
+                        ._rightOperand_(new RdfResource("2020-07-11T00:00:00Z",
+                                URI.create("xsd:dateTimeStamp")))
+                        .build(), new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                        ._operator_(BinaryOperator.BEFORE)
+                        ._rightOperand_(new RdfResource(end,
+                                URI.create("xsd:dateTimeStamp")))
+                        .build()))
+                ._target_(REMOTE_ID)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+
+import io.dataspaceconnector.config.ConnectorConfiguration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {BaseUriService.class})
+class BaseUriServiceTest {
+
+    @MockBean
+    private ConnectorConfiguration connectorConfig;
+
+    @Autowired
+    private BaseUriService baseUriService;
+
+    @Test
+    public void getBaseUri_configuredWithTrailingSlash_returnWithoutSlash() {
+        /* ARRANGE */
+        Mockito.doReturn(URI.create("https://connector.com/")).when(connectorConfig).getBaseUri();
+
+        /* ACT */
+        final var result = baseUriService.getBaseUri();
+
+        /* ASSERT */
+        assertEquals(URI.create("https://connector.com"), result);
+    }
+
+    @Test
+    public void getBaseUri_notConfigured_returnRequestContextPath() {
+        /* ARRANGE */
+        Mockito.doReturn(null).when(connectorConfig).getBaseUri();
+
+        /* ACT */
+        final var result = baseUriService.getBaseUri();
+
+        /* ASSERT */
+        assertEquals(ServletUriComponentsBuilder.fromCurrentContextPath().toUriString(),
+                result.toString());
+    }
+
+    @Test
+    public void getBaseUri_emptyProperty_returnRequestContextPath() {
+        /* ARRANGE */
+        final var runner = getContextRunner().withPropertyValues("connector.base-uri=");
+
+        /* ACT && ASSERT */
+        runner.run(context -> {
+            final var service = context.getBean(BaseUriService.class);
+            assertFalse(service.isConfigured());
+            assertEquals(ServletUriComponentsBuilder.fromCurrentContextPath().toUriString(),
+                    service.getBaseUri().toString());
+        });
+    }
+
+    @Test
+    public void getBaseUri_setProperty_returnConfiguredUri() {
+        /* ARRANGE */
+        final var runner = getContextRunner()
+                .withPropertyValues("connector.base-uri=https://connector.com/");
+
+        /* ACT && ASSERT */
+        runner.run(context -> {
+            final var service = context.getBean(BaseUriService.class);
+            assertTrue(service.isConfigured());
+            assertEquals(URI.create("https://connector.com"), service.getBaseUri());
+        });
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private ApplicationContextRunner getContextRunner() {
+        return new ApplicationContextRunner()
+                .withUserConfiguration(ConnectorConfiguration.class, BaseUriService.class)
+                .withPropertyValues("policy.negotiation=true",
+                        "policy.allow-unsupported-patterns=false", "policy.framework=INTERNAL");
+    }
+}
@@ -46,6 +46,9 @@ public class BlockingArtifactReceiverTest {
     @MockBean
     private ArtifactService artifactService;
 
+    @MockBean
+    private ChunkedArtifactReceiver chunkedReceiver;
+
     @Autowired
     private BlockingArtifactReceiver blockingArtifactReceiver;
 
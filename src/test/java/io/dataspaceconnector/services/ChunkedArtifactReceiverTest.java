@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import io.dataspaceconnector.config.ChunkedTransferConfiguration;
+import io.dataspaceconnector.model.ArtifactChunkRequest;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.dataspaceconnector.services.messages.types.ArtifactRequestService;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.Base64Utils;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ChunkedArtifactReceiver.class, ChunkedTransferConfiguration.class,
+        JsonPayloadMapper.class})
+class ChunkedArtifactReceiverTest {
+
+    private static final URI RECIPIENT = URI.create("https://recipient.com/api/ids/data");
+
+    private static final URI TRANSFER_CONTRACT = URI.create("https://contract.com");
+
+    private static final URI REMOTE_ID = URI.create("https://provider.com/artifacts/1");
+
+    private static final byte[] DATA = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @MockBean
+    private ArtifactRequestService messageService;
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ChunkedTransferConfiguration config;
+
+    @Autowired
+    private ChunkedArtifactReceiver receiver;
+
+    @TempDir
+    Path directory;
+
+    private final List<Long> requestedOffsets = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        config.setDirectory(directory);
+        config.setSize(DataSize.ofBytes(4));
+        ReflectionTestUtils.setField(receiver, "unsupported", new HashMap<>());
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_validChunks_returnData() {
+        /* ARRANGE */
+        mockArtifact(checksum(DATA));
+        mockProvider(DATA);
+
+        /* ACT */
+        final byte[] result;
+        try (var data = receiver.retrieve(RECIPIENT, REMOTE_ID, TRANSFER_CONTRACT, null)) {
+            result = data.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertArrayEquals(DATA, result);
+        assertEquals(List.of(0L, 4L, 8L), requestedOffsets);
+        assertEquals(0, Files.list(directory).count());
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_receivedChunksBefore_continueAtEndOfChunks() {
+        /* ARRANGE */
+        mockArtifact(checksum(DATA));
+        mockProvider(DATA);
+
+        // Receive the first chunk, then the provider fails.
+        when(messageService.validateResponse(any())).thenReturn(true, false);
+        when(messageService.getResponseContent(any())).thenReturn(new HashMap<>());
+        assertThrows(IOException.class,
+                () -> receiver.retrieve(RECIPIENT, REMOTE_ID, TRANSFER_CONTRACT, null));
+        when(messageService.validateResponse(any())).thenReturn(true);
+        requestedOffsets.clear();
+
+        /* ACT */
+        final byte[] result;
+        try (var data = receiver.retrieve(RECIPIENT, REMOTE_ID, TRANSFER_CONTRACT, null)) {
+            result = data.readAllBytes();
+        }
+
+        /* ASSERT */
+        assertArrayEquals(DATA, result);
+        assertEquals(List.of(4L, 8L), requestedOffsets);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_checksumMismatch_throwIOExceptionAndDiscardChunks() {
+        /* ARRANGE */
+        mockArtifact(checksum(DATA) + 1);
+        mockProvider(DATA);
+
+        /* ACT && ASSERT */
+        assertThrows(IOException.class,
+                () -> receiver.retrieve(RECIPIENT, REMOTE_ID, TRANSFER_CONTRACT, null));
+        assertEquals(0, Files.list(directory).count());
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_rejected_returnNullAndFallBackForPeer() {
+        /* ARRANGE */
+        mockArtifact(checksum(DATA));
+        mockProvider(DATA);
+        when(messageService.validateResponse(any())).thenReturn(false);
+        when(messageService.getResponseContent(any())).thenReturn(new HashMap<>());
+        assertTrue(receiver.isApplicable(RECIPIENT, REMOTE_ID));
+
+        /* ACT */
+        final var result = receiver.retrieve(RECIPIENT, REMOTE_ID, TRANSFER_CONTRACT, null);
+
+        /* ASSERT */
+        assertNull(result);
+        assertFalse(receiver.isApplicable(RECIPIENT, REMOTE_ID));
+    }
+
+    @Test
+    public void isApplicable_smallArtifact_returnFalse() {
+        /* ARRANGE */
+        mockArtifact(checksum(DATA));
+        config.setSize(DataSize.ofBytes(DATA.length));
+
+        /* ACT && ASSERT */
+        assertFalse(receiver.isApplicable(RECIPIENT, REMOTE_ID));
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private void mockArtifact(final long checksum) {
+        final var artifactId = UUID.randomUUID();
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "remoteId", REMOTE_ID);
+        ReflectionTestUtils.setField(artifact, "additional", new HashMap<>(Map.of(
+                "ids:byteSize", String.valueOf(DATA.length),
+                "ids:checkSum", String.valueOf(checksum))));
+
+        when(artifactService.identifyByRemoteId(REMOTE_ID)).thenReturn(Optional.of(artifactId));
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+    }
+
+    private void mockProvider(final byte[] data) {
+        when(messageService.sendChunkMessage(eq(RECIPIENT), eq(REMOTE_ID), eq(TRANSFER_CONTRACT),
+                any())).thenAnswer(invocation -> {
+                    final ArtifactChunkRequest request = invocation.getArgument(3);
+                    requestedOffsets.add(request.getOffset());
+
+                    final var from = (int) Math.min(request.getOffset(), data.length);
+                    final var to = (int) Math.min(from + request.getLength(), data.length);
+                    final var chunk = Base64Utils.encodeToString(
+                            Arrays.copyOfRange(data, from, to));
+
+                    final var response = new HashMap<String, String>();
+                    response.put("payload", "{\"offset\":" + request.getOffset() + ",\"total\":"
+                            + data.length + ",\"data\":\"" + chunk + "\"}");
+                    return response;
+                });
+        when(messageService.validateResponse(any())).thenReturn(true);
+    }
+
+    private static long checksum(final byte[] data) {
+        final var checksum = new CRC32C();
+        checksum.update(data, 0, data.length);
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ContractRequest;
+import de.fraunhofer.iais.eis.ContractRequestBuilder;
+import io.dataspaceconnector.exceptions.UnexpectedResponseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import static de.fraunhofer.isst.ids.framework.util.IDSUtils.getGregorianNow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ContractNegotiationJobService.class},
+        properties = "ids.contract.jobs.retry-delay=0s")
+class ContractNegotiationJobServiceTest {
+
+    private static final URI RECIPIENT = URI.create("https://localhost:8080/api/ids/data");
+
+    private static final URI ARTIFACT = URI.create("https://localhost:8080/api/artifacts/1");
+
+    private static final URI TRANSFER_CONTRACT =
+            URI.create("https://localhost:8080/api/agreements/1");
+
+    @MockBean
+    private ContractNegotiationService negotiationService;
+
+    @Autowired
+    private ContractNegotiationJobService jobService;
+
+    @Test
+    public void submit_downloadFailsOnce_retryAndComplete() throws InterruptedException {
+        /* ARRANGE */
+        final var request = getContractRequest();
+        final var agreementId = UUID.randomUUID();
+        when(negotiationService.negotiate(RECIPIENT, request)).thenReturn(
+                new ContractNegotiationService.Negotiation(agreementId, TRANSFER_CONTRACT));
+        when(negotiationService.downloadData(RECIPIENT, List.of(ARTIFACT), TRANSFER_CONTRACT))
+                .thenReturn(List.of(ARTIFACT))
+                .thenReturn(List.of());
+
+        /* ACT */
+        final var job = jobService.submit(RECIPIENT, request, List.of(), List.of(ARTIFACT), true);
+        awaitFinished(job);
+
+        /* ASSERT */
+        assertEquals(ContractNegotiationJob.Status.COMPLETED, job.getStatus());
+        assertEquals(agreementId, job.getAgreementId());
+        assertEquals(3, job.getCompletedSteps());
+        assertEquals(2, job.getDownloadAttempts());
+        assertTrue(job.getFailedArtifacts().isEmpty());
+        assertEquals(job, jobService.get(job.getId()).orElseThrow());
+        verify(negotiationService, times(2))
+                .downloadData(RECIPIENT, List.of(ARTIFACT), TRANSFER_CONTRACT);
+    }
+
+    @Test
+    public void submit_unexpectedResponse_failWithResponseContent() throws InterruptedException {
+        /* ARRANGE */
+        final var request = getContractRequest();
+        final Map<String, Object> content = Map.of("reason", "rejected");
+        when(negotiationService.negotiate(RECIPIENT, request))
+                .thenThrow(new UnexpectedResponseException(content));
+
+        /* ACT */
+        final var job = jobService.submit(RECIPIENT, request, List.of(), List.of(ARTIFACT), true);
+        awaitFinished(job);
+
+        /* ASSERT */
+        assertEquals(ContractNegotiationJob.Status.FAILED, job.getStatus());
+        assertEquals(content, job.getError());
+        assertEquals(1, job.getSteps().size());
+        verify(negotiationService, never())
+                .requestMetadata(any(), any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    public void get_unknownJob_returnEmpty() {
+        /* ACT && ASSERT */
+        assertTrue(jobService.get(UUID.randomUUID()).isEmpty());
+    }
+
+    private static ContractRequest getContractRequest() {
+        return new ContractRequestBuilder()
+                ._contractStart_(getGregorianNow())
+                .build();
+    }
+
+    private static void awaitFinished(final ContractNegotiationJob job)
+            throws InterruptedException {
+        for (int i = 0; i < 500 && job.getFinishDate() == null; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -29,11 +29,7 @@ import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.services.ids.DeserializationService;
-import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsRepresentationBuilder;
-import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.services.ids.ElementDescriptionCache;
 import io.dataspaceconnector.services.resources.AgreementService;
 import io.dataspaceconnector.services.resources.ArtifactService;
 import io.dataspaceconnector.services.resources.CatalogService;
@@ -78,19 +74,7 @@ public class EntityResolverTest {
     private  AgreementService agreementService;
 
     @MockBean
-    private IdsCatalogBuilder catalogBuilder;
-
-    @MockBean
-    private IdsResourceBuilder<OfferedResource> offerBuilder;
-
-    @MockBean
-    private IdsArtifactBuilder artifactBuilder;
-
-    @MockBean
-    private IdsRepresentationBuilder representationBuilder;
-
-    @MockBean
-    private IdsContractBuilder contractBuilder;
+    private ElementDescriptionCache descriptionCache;
 
     @MockBean
     private AllowAccessVerifier allowAccessVerifier;
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services;
+
+import java.util.Set;
+import java.util.UUID;
+
+import io.dataspaceconnector.model.ArtifactDesc;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.resources.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class SoftDeletePurgeServiceTest {
+
+    @Autowired
+    private SoftDeletePurgeService purgeService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Object retentionDays;
+
+    private Object archive;
+
+    @BeforeEach
+    public void init() {
+        retentionDays = ReflectionTestUtils.getField(purgeService, "retentionDays");
+        archive = ReflectionTestUtils.getField(purgeService, "archive");
+    }
+
+    @AfterEach
+    public void reset() {
+        ReflectionTestUtils.setField(purgeService, "retentionDays", retentionDays);
+        ReflectionTestUtils.setField(purgeService, "archive", archive);
+    }
+
+    @Test
+    public void purge_softDeletedCatalog_removeRow() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        catalogService.delete(catalog.getId());
+        ReflectionTestUtils.setField(purgeService, "retentionDays", -1L);
+
+        /* ACT */
+        final var report = purgeService.purge();
+
+        /* ASSERT */
+        assertTrue(report.getRows().get("catalog") >= 1L);
+        assertFalse(report.isArchived());
+    }
+
+    @Test
+    public void purge_catalogWithinRetention_keepRow() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        catalogService.delete(catalog.getId());
+        ReflectionTestUtils.setField(purgeService, "retentionDays", 30L);
+
+        /* ACT */
+        final var report = purgeService.purge();
+
+        /* ASSERT */
+        assertFalse(report.getRows().containsKey("catalog"));
+    }
+
+    @Test
+    public void purge_softDeletedCatalog_removeJoinTableRows() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        final var desc = new OfferedResourceDesc();
+        desc.setTitle("resource");
+        desc.setLanguage("EN");
+        final var resource = resourceService.create(desc);
+        catalogResourceLinker.add(catalog.getId(), Set.of(resource.getId()));
+        catalogService.delete(catalog.getId());
+        ReflectionTestUtils.setField(purgeService, "retentionDays", -1L);
+
+        /* ACT */
+        final var report = purgeService.purge();
+
+        /* ASSERT */
+        assertTrue(report.getRows().get("catalog_offered_resources") >= 1L);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM catalog_offered_resources WHERE catalog_id = ?",
+                Integer.class, catalog.getId()));
+        assertTrue(resourceService.doesExist(resource.getId()));
+    }
+
+    @Test
+    public void purge_softDeletedArtifact_reportPayloadBytes() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        desc.setValue("value");
+        final var artifact = artifactService.create(desc);
+        artifactService.delete(artifact.getId());
+        ReflectionTestUtils.setField(purgeService, "retentionDays", -1L);
+
+        /* ACT */
+        final var report = purgeService.purge();
+
+        /* ASSERT */
+        assertTrue(report.getRows().get("artifact") >= 1L);
+        assertTrue(report.getPayloadBytes() >= "value".length());
+    }
+
+    @Test
+    public void purge_archiveEnabled_copyRowToArchive() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        catalogService.delete(catalog.getId());
+        ReflectionTestUtils.setField(purgeService, "retentionDays", -1L);
+        ReflectionTestUtils.setField(purgeService, "archive", true);
+
+        /* ACT */
+        final var report = purgeService.purge();
+
+        /* ASSERT */
+        assertTrue(report.isArchived());
+        assertEquals(1, countArchived(catalog.getId()));
+    }
+
+    @Test
+    public void purge_columnAddedAfterArchive_addColumnToArchive() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(purgeService, "retentionDays", -1L);
+        ReflectionTestUtils.setField(purgeService, "archive", true);
+        purgeService.purge();
+
+        final var catalog = catalogService.create(new CatalogDesc());
+        catalogService.delete(catalog.getId());
+        jdbcTemplate.execute("ALTER TABLE catalog ADD COLUMN purge_test VARCHAR(16)");
+
+        try {
+            jdbcTemplate.update("UPDATE catalog SET purge_test = 'archived' WHERE id = ?",
+                    catalog.getId());
+
+            /* ACT */
+            purgeService.purge();
+
+            /* ASSERT */
+            assertEquals("archived", jdbcTemplate.queryForObject(
+                    "SELECT purge_test FROM catalog_archive WHERE id = ?", String.class,
+                    catalog.getId()));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE catalog DROP COLUMN purge_test");
+            jdbcTemplate.execute("ALTER TABLE catalog_archive DROP COLUMN purge_test");
+        }
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private int countArchived(final UUID catalogId) {
+        final var count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM catalog_archive WHERE id = ?", Integer.class, catalogId);
+        return count == null ? 0 : count;
+    }
+}
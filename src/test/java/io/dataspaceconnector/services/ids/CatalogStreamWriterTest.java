@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dataspaceconnector.model.ArtifactDesc;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.ContractDesc;
+import io.dataspaceconnector.model.ContractRuleDesc;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.RepresentationDesc;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.resources.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.ContractService;
+import io.dataspaceconnector.services.resources.OfferedResourceContractLinker;
+import io.dataspaceconnector.services.resources.OfferedResourceRepresentation;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import io.dataspaceconnector.services.resources.RelationServices;
+import io.dataspaceconnector.services.resources.RepresentationService;
+import io.dataspaceconnector.services.resources.RuleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CatalogStreamWriterTest {
+
+    private static final String PERMISSION = "{\n"
+            + "    \"@type\" : \"ids:Permission\",\n"
+            + "    \"@id\" : \"https://w3id.org/idsa/autogen/permission/ae138d4f-f01d-4358"
+            + "-89a7-73e7c560f3de\",\n"
+            + "    \"ids:action\" : [ {\n"
+            + "      \"@id\" : \"idsc:USE\"\n"
+            + "    } ]\n"
+            + "  }";
+
+    @Autowired
+    private CatalogStreamWriter writer;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private RuleService ruleService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private OfferedResourceRepresentation resourceRepresentationLinker;
+
+    @Autowired
+    private OfferedResourceContractLinker resourceContractLinker;
+
+    @Autowired
+    private RelationServices.RepresentationArtifactLinker representationArtifactLinker;
+
+    @Autowired
+    private RelationServices.ContractRuleLinker contractRuleLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void write_catalogWithResources_writeAllResources() throws Exception {
+        /* ARRANGE */
+        final var catalogId = createCatalog(3);
+        final var out = new ByteArrayOutputStream();
+
+        /* ACT */
+        writer.write(catalogId, out);
+
+        /* ASSERT */
+        final var catalog = new ObjectMapper().readTree(out.toByteArray());
+        assertEquals("ids:ResourceCatalog", catalog.get("@type").asText());
+        assertEquals(3, catalog.get("ids:offeredResource").size());
+    }
+
+    @Test
+    public void write_requestEntityManagerBound_keepRequestEntityManager() throws Exception {
+        /* ARRANGE */
+        final var catalogId = createCatalog(1);
+        final var entityManager = entityManagerFactory.createEntityManager();
+        final var holder = new EntityManagerHolder(entityManager);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+
+        try {
+            final var catalog = entityManager.find(Catalog.class, catalogId);
+
+            /* ACT */
+            writer.write(catalogId, OutputStream.nullOutputStream());
+
+            /* ASSERT */
+            assertSame(holder, TransactionSynchronizationManager.getResource(entityManagerFactory));
+            assertTrue(entityManager.contains(catalog));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private UUID createCatalog(final int numResources) {
+        final var catalog = catalogService.create(new CatalogDesc());
+        for (int i = 0; i < numResources; i++) {
+            final var resourceDesc = new OfferedResourceDesc();
+            resourceDesc.setTitle("resource " + i);
+            resourceDesc.setLanguage("EN");
+            final var resource = resourceService.create(resourceDesc);
+            catalogResourceLinker.add(catalog.getId(), Set.of(resource.getId()));
+
+            final var representationDesc = new RepresentationDesc();
+            representationDesc.setLanguage("EN");
+            representationDesc.setMediaType("text/plain");
+            representationDesc.setStandard("http://standard.com");
+            final var representation = representationService.create(representationDesc);
+            resourceRepresentationLinker.add(resource.getId(), Set.of(representation.getId()));
+
+            final var artifactDesc = new ArtifactDesc();
+            artifactDesc.setValue("value");
+            final var artifact = artifactService.create(artifactDesc);
+            representationArtifactLinker.add(representation.getId(), Set.of(artifact.getId()));
+
+            final var contract = contractService.create(new ContractDesc());
+            resourceContractLinker.add(resource.getId(), Set.of(contract.getId()));
+
+            final var ruleDesc = new ContractRuleDesc();
+            ruleDesc.setValue(PERMISSION);
+            final var rule = ruleService.create(ruleDesc);
+            contractRuleLinker.add(contract.getId(), Set.of(rule.getId()));
+        }
+
+        return catalog.getId();
+    }
+}
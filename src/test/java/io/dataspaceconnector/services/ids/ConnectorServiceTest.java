@@ -17,6 +17,7 @@ package io.dataspaceconnector.services.ids;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import de.fraunhofer.iais.eis.BaseConnectorBuilder;
@@ -35,10 +36,11 @@ import de.fraunhofer.iais.eis.ResourceBuilder;
 import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
 import de.fraunhofer.iais.eis.SecurityProfile;
+import de.fraunhofer.iais.eis.ids.jsonld.Serializer;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import de.fraunhofer.isst.ids.framework.configuration.ConfigurationContainer;
-import de.fraunhofer.isst.ids.framework.daps.DapsTokenProvider;
+import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
 import io.dataspaceconnector.model.Catalog;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
@@ -46,6 +48,7 @@ import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.services.resources.CatalogService;
 import io.dataspaceconnector.services.resources.OfferedResourceService;
 import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -53,6 +56,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -61,18 +65,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {ConnectorService.class})
+@SpringBootTest(classes = {ConnectorService.class, SelfDescriptionCache.class})
 public class ConnectorServiceTest {
 
     @MockBean
     private ConfigurationContainer configContainer;
 
     @MockBean
-    private DapsTokenProvider tokenProvider;
+    private DapsTokenCache tokenCache;
 
     @MockBean
     private CatalogService catalogService;
@@ -86,9 +91,20 @@ public class ConnectorServiceTest {
     @MockBean
     private OfferedResourceService offeredResourceService;
 
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private SerializerProvider serializerProvider;
+
     @Autowired
     private ConnectorService connectorService;
 
+    @BeforeEach
+    public void init() {
+        when(serializerProvider.getSerializer()).thenReturn(new Serializer());
+    }
+
     @Test
     public void getConnectorWithOfferedResources_returnConnectorWithCatalog() {
         /* ARRANGE */
@@ -147,6 +163,27 @@ public class ConnectorServiceTest {
         assertNull(result.getResourceCatalog());
     }
 
+    @Test
+    public void getConnectorWithOfferedResources_sharedConnector_doNotModifyConfiguration() {
+        /* ARRANGE */
+        final var connector = getConnector();
+        final var catalog = getCatalog();
+
+        when(configContainer.getConnector()).thenReturn(connector);
+        when(catalogService.getAll(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(catalog)));
+        when(catalogBuilder.create(catalog, 0)).thenReturn(getIdsCatalog());
+
+        /* ACT */
+        final var withResources = connectorService.getConnectorWithOfferedResources();
+        final var withoutResources = connectorService.getConnectorWithoutResources();
+
+        /* ASSERT */
+        assertEquals(1, withResources.getResourceCatalog().size());
+        assertNull(withoutResources.getResourceCatalog());
+        assertTrue(connector.getResourceCatalog() == null
+                || connector.getResourceCatalog().isEmpty());
+    }
+
     @Test
     @SneakyThrows
     public void updateConfigModel_noErrorDuringUpdate_updateConfiguration() {
@@ -187,8 +224,7 @@ public class ConnectorServiceTest {
         final var resource = getOfferedResource(uuid);
         final var idsResource = getIdsResource();
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(offeredResourceService.find(uuid)).thenReturn(Optional.of(resource));
         when(resourceBuilder.create(resource)).thenReturn(idsResource);
 
         /* ACT */
@@ -204,16 +240,26 @@ public class ConnectorServiceTest {
         /* ARRANGE */
         final var uuid = UUID.randomUUID();
         final var uri = URI.create("https://resource-id.com/" + uuid);
-        final var resource = getOfferedResource(UUID.randomUUID());
+        when(offeredResourceService.find(uuid)).thenReturn(Optional.empty());
+
+        /* ACT */
+        final var result = connectorService.getOfferedResourceById(uri);
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void getOfferedResourceById_noUuidInUri_returnEmptyOptional() {
+        /* ARRANGE */
+        final var uri = URI.create("https://resource-id.com/resource");
 
         /* ACT */
         final var result = connectorService.getOfferedResourceById(uri);
 
         /* ASSERT */
         assertTrue(result.isEmpty());
+        verify(offeredResourceService, never()).find(any());
     }
 
     /**************************************************************************
@@ -243,7 +289,9 @@ public class ConnectorServiceTest {
     }
 
     private Catalog getCatalog() {
-        return new Catalog();
+        final var catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+        return catalog;
     }
 
     private ResourceCatalog getIdsCatalog() {
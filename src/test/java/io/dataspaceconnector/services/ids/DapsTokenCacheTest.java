@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.isst.ids.framework.daps.DapsTokenProvider;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {DapsTokenCache.class, JsonPayloadMapper.class,
+        SimpleMeterRegistry.class},
+        properties = {"daps.token.cache.refresh-before=PT1M",
+                "daps.token.cache.min-validity=PT10S"})
+class DapsTokenCacheTest {
+
+    @MockBean
+    private DapsTokenProvider tokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DapsTokenCache tokenCache;
+
+    @BeforeEach
+    public void init() {
+        ReflectionTestUtils.setField(tokenCache, "cached", null);
+        ReflectionTestUtils.setField(tokenCache, "retryAfter", null);
+    }
+
+    @Test
+    public void getDat_validToken_requestTokenOnce() {
+        /* ARRANGE */
+        final var token = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        final var first = tokenCache.getDat();
+        final var second = tokenCache.getDat();
+
+        /* ASSERT */
+        assertEquals(token, first);
+        assertEquals(token, second);
+        verify(tokenProvider, times(1)).getDAT();
+        assertNotNull(meterRegistry.find("ids.dat.refresh").tag("result", "success").timer());
+        assertFalse(Double.isNaN(meterRegistry.get("ids.dat.age").gauge().value()));
+    }
+
+    @Test
+    public void getDat_tokenWithinRefreshMargin_returnCachedAndRefreshInBackground() {
+        /* ARRANGE */
+        final var expiring = getToken(Instant.now().plusSeconds(30));
+        final var renewed = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(expiring).thenReturn(renewed);
+
+        /* ACT */
+        final var first = tokenCache.getDat();
+        final var second = tokenCache.getDat();
+
+        /* ASSERT */
+        assertEquals(expiring, first);
+        assertEquals(expiring, second);
+        verify(tokenProvider, timeout(1000).times(2)).getDAT();
+    }
+
+    @Test
+    public void getDat_expiredToken_requestNewToken() {
+        /* ARRANGE */
+        final var expired = getToken(Instant.now().minusSeconds(1));
+        final var renewed = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(expired).thenReturn(renewed);
+
+        /* ACT */
+        tokenCache.getDat();
+        final var result = tokenCache.getDat();
+
+        /* ASSERT */
+        assertEquals(renewed, result);
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    public void getDat_noJwt_cacheForDefaultTtl() {
+        /* ARRANGE */
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.OTHER)._tokenValue_("token").build();
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        tokenCache.getDat();
+        final var result = tokenCache.getDat();
+
+        /* ASSERT */
+        assertEquals(token, result);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    public void getDat_noToken_doNotRequestAgainWithinBackoff() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenReturn(null);
+
+        /* ACT */
+        final var first = tokenCache.getDat();
+        final var second = tokenCache.getDat();
+
+        /* ASSERT */
+        assertNull(first);
+        assertNull(second);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    public void getDat_noTokenAndBackoffPassed_requestNewToken() {
+        /* ARRANGE */
+        final var token = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(null).thenReturn(token);
+        tokenCache.getDat();
+        ReflectionTestUtils.setField(tokenCache, "retryAfter", Instant.now().minusSeconds(1));
+
+        /* ACT */
+        final var result = tokenCache.getDat();
+
+        /* ASSERT */
+        assertEquals(token, result);
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getDat_concurrentCalls_requestTokenOnce() {
+        /* ARRANGE */
+        final var token = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return token;
+        });
+
+        final var tasks = new ArrayList<Callable<DynamicAttributeToken>>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(tokenCache::getDat);
+        }
+
+        /* ACT */
+        final var executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for (final var result : executor.invokeAll(tasks)) {
+                assertEquals(token, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        /* ASSERT */
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private DynamicAttributeToken getToken(final Instant expiry) {
+        final var encoder = Base64.getUrlEncoder().withoutPadding();
+        final var header = encoder.encodeToString(
+                "{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        final var payload = encoder.encodeToString(
+                ("{\"exp\":" + expiry.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_(header + "." + payload + ".signature")
+                .build();
+    }
+}
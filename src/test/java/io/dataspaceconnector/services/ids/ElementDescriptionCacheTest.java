@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.ContractRuleDesc;
+import io.dataspaceconnector.model.ContractRuleFactory;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.OfferedResourceFactory;
+import io.dataspaceconnector.services.BaseUriService;
+import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsRepresentationBuilder;
+import io.dataspaceconnector.services.ids.builder.IdsResourceBuilder;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.ContractService;
+import io.dataspaceconnector.services.resources.EntityChangedEvent;
+import io.dataspaceconnector.services.resources.RepresentationService;
+import io.dataspaceconnector.services.resources.ResourceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {ElementDescriptionCache.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ElementDescriptionCacheTest {
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @MockBean
+    private RepresentationService representationService;
+
+    @MockBean
+    private ResourceService<OfferedResource, OfferedResourceDesc> offerService;
+
+    @MockBean
+    private CatalogService catalogService;
+
+    @MockBean
+    private ContractService contractService;
+
+    @MockBean
+    private IdsCatalogBuilder catalogBuilder;
+
+    @MockBean
+    private IdsResourceBuilder<OfferedResource> offerBuilder;
+
+    @MockBean
+    private IdsArtifactBuilder artifactBuilder;
+
+    @MockBean
+    private IdsRepresentationBuilder representationBuilder;
+
+    @MockBean
+    private IdsContractBuilder contractBuilder;
+
+    @MockBean
+    private BaseUriService baseUriService;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ElementDescriptionCache cache;
+
+    private Catalog catalog;
+
+    private OfferedResource resource;
+
+    @BeforeEach
+    public void init() {
+        resource = new OfferedResourceFactory().create(new OfferedResourceDesc());
+        ReflectionTestUtils.setField(resource, "id", UUID.randomUUID());
+
+        catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(catalog, "offeredResources",
+                new ArrayList<>(List.of(resource)));
+
+        when(baseUriService.getBaseUri()).thenReturn(URI.create("https://localhost"));
+        when(catalogBuilder.create(catalog)).thenReturn(new ResourceCatalogBuilder().build());
+    }
+
+    @Test
+    public void get_calledTwice_renderOnce() {
+        /* ACT */
+        final var first = cache.get(catalog);
+        final var second = cache.get(catalog);
+
+        /* ASSERT */
+        assertSame(first, second);
+        assertEquals(64, first.getHash().length());
+        verify(catalogBuilder, times(1)).create(catalog);
+    }
+
+    @Test
+    public void get_childChanged_renderAgain() {
+        /* ARRANGE */
+        cache.get(catalog);
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(this, OfferedResource.class,
+                resource.getId()));
+        cache.get(catalog);
+
+        /* ASSERT */
+        verify(catalogBuilder, times(2)).create(catalog);
+    }
+
+    @Test
+    public void get_unrelatedEntityChanged_keepDescription() {
+        /* ARRANGE */
+        cache.get(catalog);
+
+        /* ACT */
+        cache.onEntityChanged(
+                new EntityChangedEvent(this, OfferedResource.class, UUID.randomUUID()));
+        cache.get(catalog);
+
+        /* ASSERT */
+        verify(catalogBuilder, times(1)).create(catalog);
+    }
+
+    @Test
+    public void get_otherBaseUri_renderAgain() {
+        /* ARRANGE */
+        final var first = cache.get(catalog);
+        when(baseUriService.getBaseUri()).thenReturn(URI.create("https://example.com"));
+
+        /* ACT */
+        final var second = cache.get(catalog);
+
+        /* ASSERT */
+        assertNotEquals(first.getBaseUri(), second.getBaseUri());
+        verify(catalogBuilder, times(2)).create(catalog);
+    }
+
+    @Test
+    public void onEntityChanged_baseUriConfigured_renderInBackground() {
+        /* ARRANGE */
+        when(baseUriService.isConfigured()).thenReturn(true);
+        when(catalogService.find(catalog.getId())).thenReturn(Optional.of(catalog));
+        cache.get(catalog);
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(this, OfferedResource.class,
+                resource.getId()));
+
+        /* ASSERT */
+        verify(catalogBuilder, timeout(1000).times(2)).create(catalog);
+    }
+
+    @Test
+    public void onEntityChanged_baseUriNotConfigured_renderOnNextRequest() {
+        /* ARRANGE */
+        when(baseUriService.isConfigured()).thenReturn(false);
+        when(catalogService.find(catalog.getId())).thenReturn(Optional.of(catalog));
+        cache.get(catalog);
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(this, OfferedResource.class,
+                resource.getId()));
+
+        /* ASSERT */
+        verify(catalogService, after(200).never()).find(catalog.getId());
+        verify(catalogBuilder, times(1)).create(catalog);
+    }
+
+    @Test
+    public void get_rule_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.get(new ContractRuleFactory().create(new ContractRuleDesc())));
+    }
+}
@@ -20,10 +20,12 @@ import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.UUID;
 
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
 import io.dataspaceconnector.model.ArtifactFactory;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.utils.IdsUtils;
 import lombok.SneakyThrows;
@@ -37,7 +39,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = { ArtifactFactory.class, IdsArtifactBuilder.class})
+@SpringBootTest(classes = { ArtifactFactory.class, IdsArtifactBuilder.class, BaseUriService.class,
+        ConnectorConfiguration.class})
 public class IdsArtifactBuilderTest {
 
     @Autowired
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import io.dataspaceconnector.model.ArtifactDesc;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.ContractDesc;
+import io.dataspaceconnector.model.ContractRuleDesc;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.RepresentationDesc;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.resources.ArtifactService;
+import io.dataspaceconnector.services.resources.CatalogOfferedResourceLinker;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.ContractService;
+import io.dataspaceconnector.services.resources.OfferedResourceContractLinker;
+import io.dataspaceconnector.services.resources.OfferedResourceRepresentation;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import io.dataspaceconnector.services.resources.RelationServices;
+import io.dataspaceconnector.services.resources.RepresentationService;
+import io.dataspaceconnector.services.resources.RuleService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class IdsCatalogBuilderFetchTest {
+
+    private static final String PERMISSION = "{\n"
+            + "    \"@type\" : \"ids:Permission\",\n"
+            + "    \"@id\" : \"https://w3id.org/idsa/autogen/permission/ae138d4f-f01d-4358"
+            + "-89a7-73e7c560f3de\",\n"
+            + "    \"ids:action\" : [ {\n"
+            + "      \"@id\" : \"idsc:USE\"\n"
+            + "    } ]\n"
+            + "  }";
+
+    @Autowired
+    private IdsCatalogBuilder idsCatalogBuilder;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private RuleService ruleService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker catalogResourceLinker;
+
+    @Autowired
+    private OfferedResourceRepresentation resourceRepresentationLinker;
+
+    @Autowired
+    private OfferedResourceContractLinker resourceContractLinker;
+
+    @Autowired
+    private RelationServices.RepresentationArtifactLinker representationArtifactLinker;
+
+    @Autowired
+    private RelationServices.ContractRuleLinker contractRuleLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void create_moreResources_sameNumberOfQueries() {
+        /* ARRANGE */
+        final var smallCatalog = createCatalog(2);
+        final var largeCatalog = createCatalog(6);
+
+        /* ACT */
+        final var smallQueries = countQueries(smallCatalog);
+        final var largeQueries = countQueries(largeCatalog);
+
+        /* ASSERT */
+        assertTrue(smallQueries > 0);
+        assertEquals(smallQueries, largeQueries);
+    }
+
+    @Test
+    public void create_maxDepth0_loadNoResources() {
+        /* ARRANGE */
+        final var catalogId = createCatalog(2);
+        final var statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        /* ACT */
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+            final var catalog = catalogService.get(catalogId);
+            statistics.clear();
+            assertNotNull(idsCatalogBuilder.create(catalog, 0));
+        });
+
+        /* ASSERT */
+        final var role = "io.dataspaceconnector.model.Catalog.offeredResources";
+        assertEquals(0, statistics.getCollectionStatistics(role).getFetchCount());
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private long countQueries(final UUID catalogId) {
+        final var statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        return template.execute(status -> {
+            final var catalog = catalogService.get(catalogId);
+            statistics.clear();
+
+            final var idsCatalog = idsCatalogBuilder.create(catalog);
+            assertNotNull(idsCatalog.getOfferedResource());
+            assertEquals(catalog.getOfferedResources().size(),
+                    idsCatalog.getOfferedResource().size());
+
+            return statistics.getPrepareStatementCount();
+        });
+    }
+
+    private UUID createCatalog(final int numResources) {
+        final var catalog = catalogService.create(new CatalogDesc());
+        for (int i = 0; i < numResources; i++) {
+            final var resourceDesc = new OfferedResourceDesc();
+            resourceDesc.setTitle("resource " + i);
+            resourceDesc.setLanguage("EN");
+            final var resource = resourceService.create(resourceDesc);
+            catalogResourceLinker.add(catalog.getId(), Set.of(resource.getId()));
+
+            for (int j = 0; j < 2; j++) {
+                final var representationDesc = new RepresentationDesc();
+                representationDesc.setLanguage("EN");
+                representationDesc.setMediaType("text/plain");
+                representationDesc.setStandard("http://standard.com");
+                final var representation = representationService.create(representationDesc);
+                resourceRepresentationLinker.add(resource.getId(),
+                        Set.of(representation.getId()));
+
+                for (int k = 0; k < 2; k++) {
+                    final var artifactDesc = new ArtifactDesc();
+                    artifactDesc.setValue("value");
+                    final var artifact = artifactService.create(artifactDesc);
+                    representationArtifactLinker.add(representation.getId(),
+                            Set.of(artifact.getId()));
+                }
+            }
+
+            final var contract = contractService.create(new ContractDesc());
+            resourceContractLinker.add(resource.getId(), Set.of(contract.getId()));
+
+            final var ruleDesc = new ContractRuleDesc();
+            ruleDesc.setValue(PERMISSION);
+            final var rule = ruleService.create(ruleDesc);
+            contractRuleLinker.add(contract.getId(), Set.of(rule.getId()));
+        }
+
+        return catalog.getId();
+    }
+}
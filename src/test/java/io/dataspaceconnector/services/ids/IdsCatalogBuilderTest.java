@@ -15,7 +15,9 @@
  */
 package io.dataspaceconnector.services.ids;
 
+import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
@@ -36,6 +38,7 @@ import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RepresentationDesc;
 import io.dataspaceconnector.model.RepresentationFactory;
 import io.dataspaceconnector.model.Resource;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
@@ -48,12 +51,14 @@ import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.net.URI;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -67,7 +72,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
         ContractRuleFactory.class, IdsCatalogBuilder.class, IdsResourceBuilder.class,
         IdsRepresentationBuilder.class, IdsArtifactBuilder.class, IdsContractBuilder.class,
         IdsPermissionBuilder.class, IdsProhibitionBuilder.class, IdsDutyBuilder.class,
-        DeserializationService.class, SerializerProvider.class})
+        DeserializationService.class, SerializerProvider.class, BaseUriService.class,
+        ConnectorConfiguration.class})
 public class IdsCatalogBuilderTest {
 
     @Autowired
@@ -248,6 +254,39 @@ public class IdsCatalogBuilderTest {
         assertTrue(contracts.get(0).getObligation().isEmpty());
     }
 
+    @Test
+    @SneakyThrows
+    public void create_parallelThresholdReached_returnCompleteCatalogInOrder() {
+        /* ARRANGE */
+        final var catalog = getCatalog();
+        final var resources = List.of(getOfferedResource(), getOfferedResource(),
+                getOfferedResource());
+
+        final var offeredResourcesField = Catalog.class.getDeclaredField("offeredResources");
+        offeredResourcesField.setAccessible(true);
+        offeredResourcesField.set(catalog, resources);
+
+        ReflectionTestUtils.setField(idsCatalogBuilder, "parallelThreshold", 2);
+
+        /* ACT */
+        final ResourceCatalog idsCatalog;
+        try {
+            idsCatalog = idsCatalogBuilder.create(catalog);
+        } finally {
+            ReflectionTestUtils.setField(idsCatalogBuilder, "parallelThreshold", 0);
+        }
+
+        /* ASSERT */
+        final var offeredResources = idsCatalog.getOfferedResource();
+        assertEquals(resources.size(), offeredResources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            assertTrue(offeredResources.get(i).getId().toString()
+                    .endsWith(resources.get(i).getId().toString()));
+            assertEquals(1, offeredResources.get(i).getRepresentation().size());
+            assertEquals(1, offeredResources.get(i).getContractOffer().size());
+        }
+    }
+
     /**************************************************************************
      * Utilities.
      *************************************************************************/
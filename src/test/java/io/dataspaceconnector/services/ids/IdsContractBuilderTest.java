@@ -17,6 +17,7 @@ package io.dataspaceconnector.services.ids;
 
 import de.fraunhofer.iais.eis.Action;
 import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractDesc;
@@ -24,6 +25,7 @@ import io.dataspaceconnector.model.ContractFactory;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.ContractRuleDesc;
 import io.dataspaceconnector.model.ContractRuleFactory;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsDutyBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsPermissionBuilder;
@@ -49,7 +51,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ContractFactory.class, ContractRuleFactory.class,
         IdsContractBuilder.class, IdsPermissionBuilder.class, IdsProhibitionBuilder.class,
-        IdsDutyBuilder.class, DeserializationService.class, SerializerProvider.class})
+        IdsDutyBuilder.class, DeserializationService.class, SerializerProvider.class,
+        BaseUriService.class, ConnectorConfiguration.class})
 public class IdsContractBuilderTest {
 
     @Autowired
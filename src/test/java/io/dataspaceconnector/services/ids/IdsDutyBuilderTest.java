@@ -24,10 +24,12 @@ import de.fraunhofer.iais.eis.BinaryOperator;
 import de.fraunhofer.iais.eis.Constraint;
 import de.fraunhofer.iais.eis.DutyImpl;
 import de.fraunhofer.iais.eis.LeftOperand;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.ContractRuleDesc;
 import io.dataspaceconnector.model.ContractRuleFactory;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsDutyBuilder;
 import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
 import lombok.SneakyThrows;
@@ -41,7 +43,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ContractRuleFactory.class, IdsDutyBuilder.class,
-        DeserializationService.class, SerializerProvider.class})
+        DeserializationService.class, SerializerProvider.class, BaseUriService.class,
+        ConnectorConfiguration.class})
 public class IdsDutyBuilderTest {
 
     @Autowired
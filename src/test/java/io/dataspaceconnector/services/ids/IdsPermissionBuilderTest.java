@@ -21,10 +21,12 @@ import java.util.UUID;
 
 import de.fraunhofer.iais.eis.Action;
 import de.fraunhofer.iais.eis.PermissionImpl;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.ContractRuleDesc;
 import io.dataspaceconnector.model.ContractRuleFactory;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsPermissionBuilder;
 import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
 import lombok.SneakyThrows;
@@ -38,7 +40,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ContractRuleFactory.class, IdsPermissionBuilder.class,
-        DeserializationService.class, SerializerProvider.class})
+        DeserializationService.class, SerializerProvider.class, BaseUriService.class,
+        ConnectorConfiguration.class})
 public class IdsPermissionBuilderTest {
 
     @Autowired
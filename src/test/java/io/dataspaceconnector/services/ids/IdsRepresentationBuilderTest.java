@@ -16,6 +16,7 @@
 package io.dataspaceconnector.services.ids;
 
 import de.fraunhofer.iais.eis.Language;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
@@ -23,6 +24,7 @@ import io.dataspaceconnector.model.ArtifactFactory;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RepresentationDesc;
 import io.dataspaceconnector.model.RepresentationFactory;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsRepresentationBuilder;
 import io.dataspaceconnector.utils.IdsUtils;
@@ -45,7 +47,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {RepresentationFactory.class, ArtifactFactory.class,
-        IdsRepresentationBuilder.class, IdsArtifactBuilder.class})
+        IdsRepresentationBuilder.class, IdsArtifactBuilder.class, BaseUriService.class,
+        ConnectorConfiguration.class})
 public class IdsRepresentationBuilderTest {
 
     @Autowired
@@ -17,6 +17,7 @@ package io.dataspaceconnector.services.ids;
 
 import de.fraunhofer.iais.eis.Language;
 import de.fraunhofer.isst.ids.framework.configuration.SerializerProvider;
+import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.model.AbstractEntity;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
@@ -34,6 +35,7 @@ import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RepresentationDesc;
 import io.dataspaceconnector.model.RepresentationFactory;
 import io.dataspaceconnector.model.Resource;
+import io.dataspaceconnector.services.BaseUriService;
 import io.dataspaceconnector.services.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsContractBuilder;
 import io.dataspaceconnector.services.ids.builder.IdsDutyBuilder;
@@ -63,7 +65,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
         ArtifactFactory.class, ContractFactory.class, ContractRuleFactory.class,
         IdsResourceBuilder.class, IdsRepresentationBuilder.class, IdsArtifactBuilder.class,
         IdsContractBuilder.class, IdsPermissionBuilder.class, IdsProhibitionBuilder.class,
-        IdsDutyBuilder.class, DeserializationService.class, SerializerProvider.class})
+        IdsDutyBuilder.class, DeserializationService.class, SerializerProvider.class,
+        BaseUriService.class, ConnectorConfiguration.class})
 public class IdsResourceBuilderTest {
 
     @Autowired
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.ids;
+
+import java.util.List;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.resources.CatalogService;
+import io.dataspaceconnector.services.resources.EntityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {SelfDescriptionCache.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SelfDescriptionCacheTest {
+
+    @MockBean
+    private CatalogService catalogService;
+
+    @MockBean
+    private IdsCatalogBuilder catalogBuilder;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SelfDescriptionCache cache;
+
+    private Catalog catalog;
+
+    @BeforeEach
+    public void init() {
+        catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+
+        when(catalogService.getAll(Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(List.of(catalog)));
+        when(catalogBuilder.create(catalog, SelfDescriptionCache.CATALOG_DEPTH))
+                .thenReturn(new ResourceCatalogBuilder().build());
+    }
+
+    @Test
+    public void getCatalogs_calledTwice_buildCatalogOnce() {
+        /* ACT */
+        cache.getCatalogs();
+        final var result = cache.getCatalogs();
+
+        /* ASSERT */
+        assertEquals(1, result.size());
+        verify(catalogBuilder, times(1)).create(catalog, SelfDescriptionCache.CATALOG_DEPTH);
+    }
+
+    @Test
+    public void getCatalogs_catalogChanged_rebuildCatalog() {
+        /* ARRANGE */
+        cache.getCatalogs();
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(this, Catalog.class, catalog.getId()));
+        cache.getCatalogs();
+
+        /* ASSERT */
+        verify(catalogBuilder, times(2)).create(catalog, SelfDescriptionCache.CATALOG_DEPTH);
+    }
+
+    @Test
+    public void getCatalogs_unrelatedEntityChanged_keepCatalog() {
+        /* ARRANGE */
+        cache.getCatalogs();
+
+        /* ACT */
+        cache.onEntityChanged(
+                new EntityChangedEvent(this, OfferedResource.class, UUID.randomUUID()));
+        cache.getCatalogs();
+
+        /* ASSERT */
+        verify(catalogBuilder, times(1)).create(catalog, SelfDescriptionCache.CATALOG_DEPTH);
+    }
+
+    @Test
+    public void getRendered_entityChanged_renderAgain() {
+        /* ARRANGE */
+        final var key = new Object();
+        cache.getRendered(key, () -> "first");
+
+        /* ACT */
+        final var cached = cache.getRendered(key, () -> "second");
+        cache.onEntityChanged(
+                new EntityChangedEvent(this, OfferedResource.class, UUID.randomUUID()));
+        final var rendered = cache.getRendered(key, () -> "third");
+
+        /* ASSERT */
+        assertEquals("first", cached);
+        assertEquals("third", rendered);
+    }
+}
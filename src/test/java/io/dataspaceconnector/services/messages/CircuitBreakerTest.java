@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.time.Duration;
+
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private ConnectionProfile profile;
+
+    @BeforeEach
+    public void init() {
+        profile = new ConnectionProfile();
+        profile.setSlidingWindowSize(4);
+        profile.setMinimumRequests(4);
+        profile.setFailureRateThreshold(50);
+        profile.setHalfOpenRequests(1);
+        profile.setOpenDuration(Duration.ofHours(1));
+    }
+
+    @Test
+    public void onFailure_belowMinimumRequests_stayClosed() {
+        /* ARRANGE */
+        final var breaker = new CircuitBreaker(profile);
+
+        /* ACT */
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+
+        /* ASSERT */
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void onFailure_failureRateReached_openAndRejectRequests() {
+        /* ARRANGE */
+        final var breaker = new CircuitBreaker(profile);
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        /* ACT */
+        breaker.onFailure();
+
+        /* ASSERT */
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(50.0, breaker.getFailureRate());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void onFailure_oldFailuresOutsideWindow_stayClosed() {
+        /* ARRANGE */
+        final var breaker = new CircuitBreaker(profile);
+        breaker.onFailure();
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess();
+        }
+
+        /* ACT */
+        breaker.onFailure();
+
+        /* ASSERT */
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(25.0, breaker.getFailureRate());
+    }
+
+    @Test
+    public void tryAcquire_openDurationPassed_letProbeThroughAndCloseOnSuccess() {
+        /* ARRANGE */
+        profile.setOpenDuration(Duration.ZERO);
+        final var breaker = new CircuitBreaker(profile);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        /* ACT */
+        final var probe = breaker.tryAcquire();
+        final var second = breaker.tryAcquire();
+        breaker.onSuccess();
+
+        /* ASSERT */
+        assertTrue(probe);
+        assertFalse(second);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    public void onFailure_probeFailed_openAgain() {
+        /* ARRANGE */
+        final var breaker = new CircuitBreaker(profile);
+        profile.setOpenDuration(Duration.ZERO);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertTrue(breaker.tryAcquire());
+        profile.setOpenDuration(Duration.ofHours(1));
+
+        /* ACT */
+        breaker.onFailure();
+
+        /* ASSERT */
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void tryAcquire_disabled_alwaysPermit() {
+        /* ARRANGE */
+        profile.setCircuitBreaker(false);
+        final var breaker = new CircuitBreaker(profile);
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        /* ACT && ASSERT */
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
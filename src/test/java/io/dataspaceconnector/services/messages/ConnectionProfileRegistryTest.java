@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+
+import io.dataspaceconnector.config.ConnectionProfileConfiguration;
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+import io.dataspaceconnector.exceptions.CircuitBreakerOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConnectionProfileRegistryTest {
+
+    private static final URI RECIPIENT = URI.create("https://provider:8080/api/ids/data");
+
+    private ConnectionProfileConfiguration profileConfig;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConnectionProfileRegistry registry;
+
+    @BeforeEach
+    public void init() {
+        profileConfig = new ConnectionProfileConfiguration();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ConnectionProfileRegistry(profileConfig, meterRegistry);
+    }
+
+    @Test
+    public void getProfile_noPeerProfile_returnDefaults() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT */
+        final var result = registry.getProfile(RECIPIENT);
+
+        /* ASSERT */
+        assertEquals(profileConfig.getDefaults(), result);
+    }
+
+    @Test
+    public void getProfile_hostAndHostPortProfiles_preferHostPort() {
+        /* ARRANGE */
+        final var hostProfile = getProfile(2);
+        final var hostPortProfile = getProfile(3);
+        profileConfig.getPeers().put("provider", hostProfile);
+        profileConfig.getPeers().put("provider:8080", hostPortProfile);
+
+        /* ACT */
+        final var result = registry.getProfile(RECIPIENT);
+        final var otherPort = registry.getProfile(URI.create("https://provider:9090/api"));
+
+        /* ASSERT */
+        assertEquals(hostPortProfile, result);
+        assertEquals(hostProfile, otherPort);
+    }
+
+    @Test
+    public void acquire_allSlotsInUse_throwIOException() throws IOException {
+        /* ARRANGE */
+        profileConfig.getPeers().put("provider", getProfile(1));
+        final var lease = registry.acquire(RECIPIENT);
+
+        /* ACT & ASSERT */
+        assertThrows(IOException.class, () -> registry.acquire(RECIPIENT));
+        lease.close();
+    }
+
+    @Test
+    public void acquire_slotReleased_acquireAgainAndRecordMetrics() throws IOException {
+        /* ARRANGE */
+        profileConfig.getPeers().put("provider", getProfile(1));
+        registry.acquire(RECIPIENT).close();
+
+        /* ACT */
+        final var lease = registry.acquire(RECIPIENT);
+
+        /* ASSERT */
+        assertNotNull(lease);
+        assertEquals(1.0, meterRegistry.get("ids.connections.in-use")
+                .tag("peer", "provider:8080").gauge().value());
+        lease.close();
+        assertEquals(0.0, meterRegistry.get("ids.connections.in-use")
+                .tag("peer", "provider:8080").gauge().value());
+        assertEquals(1, meterRegistry.get("ids.connections.request")
+                .tag("peer", "provider:8080").timer().count());
+    }
+
+    @Test
+    public void acquire_failedRequests_rejectWithCircuitBreakerOpen() throws IOException {
+        /* ARRANGE */
+        final var profile = getProfile(1);
+        profile.setMinimumRequests(2);
+        profile.setSlidingWindowSize(2);
+        profileConfig.getPeers().put("provider", profile);
+        for (int i = 0; i < 2; i++) {
+            try (var lease = registry.acquire(RECIPIENT)) {
+                lease.markFailed();
+            }
+        }
+
+        /* ACT & ASSERT */
+        assertThrows(CircuitBreakerOpenException.class, () -> registry.acquire(RECIPIENT));
+        assertEquals(1.0, meterRegistry.get("ids.connections.rejected")
+                .tag("peer", "provider:8080").counter().count());
+
+        final var state = registry.getPeerStates().get("provider:8080");
+        assertEquals(CircuitBreaker.State.OPEN, state.getCircuitState());
+        assertEquals(100.0, state.getFailureRate());
+        assertEquals(0, state.getInUse());
+    }
+
+    private ConnectionProfile getProfile(final int maxConcurrentRequests) {
+        final var profile = new ConnectionProfile();
+        profile.setMaxConcurrentRequests(maxConcurrentRequests);
+        profile.setAcquireTimeout(Duration.ZERO);
+        return profile;
+    }
+}
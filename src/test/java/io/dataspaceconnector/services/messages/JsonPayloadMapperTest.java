@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import io.dataspaceconnector.model.QueryInput;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonPayloadMapperTest {
+
+    @Test
+    public void writeQueryInput_readQueryInput_returnEqualQueryInput() throws IOException {
+        /* ARRANGE */
+        final var mapper = getMapper(false);
+        final var queryInput = getQueryInput();
+
+        /* ACT */
+        final var json = mapper.writeQueryInput(queryInput);
+        final var result = mapper.readQueryInput(toStream(json));
+
+        /* ASSERT */
+        assertEquals(queryInput, result);
+    }
+
+    @Test
+    public void writeQueryInput_blackbirdEnabled_returnEqualQueryInput() throws IOException {
+        /* ARRANGE */
+        final var mapper = getMapper(true);
+        final var queryInput = getQueryInput();
+
+        /* ACT */
+        final var json = mapper.writeQueryInput(queryInput);
+        final var result = mapper.readQueryInput(toStream(json));
+
+        /* ASSERT */
+        assertEquals(queryInput, result);
+    }
+
+    @Test
+    public void readQueryInput_unknownProperty_throwIOException() {
+        /* ARRANGE */
+        final var mapper = getMapper(false);
+
+        /* ACT & ASSERT */
+        assertThrows(IOException.class,
+                () -> mapper.readQueryInput(toStream("{\"unknown\": \"value\"}")));
+    }
+
+    @Test
+    public void read_queryInputType_returnQueryInput() throws IOException {
+        /* ARRANGE */
+        final var mapper = getMapper(false);
+
+        /* ACT */
+        final var result = mapper.read(toStream("{\"params\": {\"key\": \"value\"}}"),
+                QueryInput.class);
+
+        /* ASSERT */
+        assertEquals("value", result.getParams().get("key"));
+    }
+
+    private JsonPayloadMapper getMapper(final boolean blackbird) {
+        final var mapper = new JsonPayloadMapper();
+        ReflectionTestUtils.setField(mapper, "blackbird", blackbird);
+        mapper.init();
+        return mapper;
+    }
+
+    private QueryInput getQueryInput() {
+        final var queryInput = new QueryInput();
+        queryInput.getHeaders().put("Accept", "application/json");
+        queryInput.getParams().put("limit", "10");
+        queryInput.getPathVariables().put("id", "1");
+        return queryInput;
+    }
+
+    private ByteArrayInputStream toStream(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.dataspaceconnector.config.ConnectionProfileConfiguration.ConnectionProfile;
+import io.dataspaceconnector.exceptions.MessageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = {ProviderRequestExecutor.class})
+class ProviderRequestExecutorTest {
+
+    private static final URI RECIPIENT = URI.create("https://localhost:8080/api/ids/data");
+
+    @MockBean
+    private ConnectionProfileRegistry profileRegistry;
+
+    @Autowired
+    private ProviderRequestExecutor executor;
+
+    @BeforeEach
+    public void init() {
+        final var profile = new ConnectionProfile();
+        profile.setMaxConcurrentRequests(2);
+        Mockito.doReturn(profile).when(profileRegistry).getProfile(Mockito.any());
+    }
+
+    @Test
+    public void invokeAll_manyTasks_returnResultsInOrder() {
+        /* ARRANGE */
+        final var tasks = IntStream.range(0, 10)
+                .mapToObj(x -> (Callable<Integer>) () -> x)
+                .collect(Collectors.toList());
+
+        /* ACT */
+        final var result = executor.invokeAll(RECIPIENT, tasks).stream()
+                .map(ProviderRequestExecutor::getResult)
+                .collect(Collectors.toList());
+
+        /* ASSERT */
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), result);
+    }
+
+    @Test
+    public void invokeAll_manyTasks_limitConcurrentTasksToConnectionSlots() {
+        /* ARRANGE */
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var tasks = IntStream.range(0, 10)
+                .mapToObj(x -> (Callable<Integer>) () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(10);
+                    running.decrementAndGet();
+                    return x;
+                })
+                .collect(Collectors.toList());
+
+        /* ACT */
+        executor.invokeAll(RECIPIENT, tasks);
+
+        /* ASSERT */
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void getResult_taskFailed_rethrowException() {
+        /* ARRANGE */
+        final List<Callable<Integer>> tasks = List.of(() -> {
+            throw new MessageException("failed", null);
+        });
+
+        /* ACT */
+        final var result = executor.invokeAll(RECIPIENT, tasks);
+
+        /* ASSERT */
+        assertThrows(MessageException.class,
+                () -> ProviderRequestExecutor.getResult(result.get(0)));
+    }
+}
@@ -17,24 +17,44 @@ package io.dataspaceconnector.services.messages.handler;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.Message;
 import de.fraunhofer.iais.eis.RejectionReason;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayloadImpl;
+import de.fraunhofer.isst.ids.framework.messaging.model.responses.BodyResponse;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.ErrorResponse;
+import io.dataspaceconnector.config.ConnectorConfiguration;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
+import io.dataspaceconnector.model.ArtifactBatchResponse;
+import io.dataspaceconnector.model.ArtifactChunkResponse;
+import io.dataspaceconnector.services.EntityResolver;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.util.Base64Utils;
+import org.springframework.util.unit.DataSize;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 class ArtifactRequestHandlerTest {
@@ -42,6 +62,15 @@ class ArtifactRequestHandlerTest {
     @Autowired
     ArtifactRequestHandler handler;
 
+    @Autowired
+    ConnectorConfiguration connectorConfig;
+
+    @Autowired
+    MessagePayloadConfiguration payloadConfig;
+
+    @MockBean
+    EntityResolver entityResolver;
+
     @Test
     public void handleMessage_nullMessage_returnBadParametersResponse() {
         /* ARRANGE */
@@ -128,4 +157,206 @@ class ArtifactRequestHandlerTest {
         /* ASSERT */
         assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
     }
+
+    @Test
+    public void handleMessage_batchRequestWithoutTransferContract_returnBadParametersResponse()
+            throws DatatypeConfigurationException {
+        /* ARRANGE */
+        final var calendar = new GregorianCalendar();
+        calendar.setTime(new Date());
+        final var xmlCalendar = DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar);
+
+        final var message = new ArtifactRequestMessageBuilder()
+                ._senderAgent_(URI.create("https://localhost:8080"))
+                ._issuerConnector_(URI.create("https://localhost:8080"))
+                ._securityToken_(new DynamicAttributeTokenBuilder()._tokenFormat_(TokenFormat.OTHER)._tokenValue_("").build())
+                ._modelVersion_("4.0.0")
+                ._issued_(xmlCalendar)
+                ._correlationMessage_(URI.create("https://somecorrelationMessage"))
+                ._requestedArtifact_(URI.create("https://someArtifact"))
+                .build();
+        final var batch = "{\"artifacts\":[\"https://someArtifact\",\"https://otherArtifact\"]}";
+        final var payload = new MessagePayloadImpl(
+                new ByteArrayInputStream(batch.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper());
+
+        /* ACT */
+        final var result = (ErrorResponse) handler.handleMessage((ArtifactRequestMessageImpl) message, payload);
+
+        /* ASSERT */
+        assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
+    }
+
+    @Test
+    public void handleMessage_chunkRequestWithNegativeOffset_returnBadParametersResponse()
+            throws DatatypeConfigurationException {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        final var payload = getPayload("{\"offset\":-1,\"length\":4}");
+
+        /* ACT */
+        final var result = (ErrorResponse) handler.handleMessage((ArtifactRequestMessageImpl) message, payload);
+
+        /* ASSERT */
+        assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
+    }
+
+    @Test
+    public void handleMessage_queryInputAboveMaxSize_returnBadParametersResponse()
+            throws DatatypeConfigurationException {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        final var payload = getPayload("{\"headers\":{\"key\":\"" + "x".repeat(256) + "\"}}");
+        final var maxSize = payloadConfig.getArtifactRequest();
+        connectorConfig.setPolicyNegotiation(false);
+        payloadConfig.setArtifactRequest(DataSize.ofBytes(64));
+
+        try {
+            /* ACT */
+            final var result = (ErrorResponse) handler.handleMessage((ArtifactRequestMessageImpl) message, payload);
+
+            /* ASSERT */
+            assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
+            verify(entityResolver, never()).getDataByArtifactId(any(), any());
+        } finally {
+            connectorConfig.setPolicyNegotiation(true);
+            payloadConfig.setArtifactRequest(maxSize);
+        }
+    }
+
+    @Test
+    public void handleMessage_chunkRequests_returnRangesAndReadDataOnce() throws Exception {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        final var artifact = URI.create("https://someArtifact");
+        when(entityResolver.getDataByArtifactId(eq(artifact), any())).thenAnswer(
+                invocation -> new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.UTF_8)));
+        connectorConfig.setPolicyNegotiation(false);
+
+        try {
+            /* ACT */
+            final var first = (BodyResponse<?>) handler.handleMessage((ArtifactRequestMessageImpl) message,
+                    getPayload("{\"offset\":0,\"length\":4}"));
+            final var second = (BodyResponse<?>) handler.handleMessage((ArtifactRequestMessageImpl) message,
+                    getPayload("{\"offset\":4,\"length\":4}"));
+
+            /* ASSERT */
+            final var mapper = new ObjectMapper();
+            final var firstChunk = mapper.readValue((String) first.getPayload(), ArtifactChunkResponse.class);
+            final var secondChunk = mapper.readValue((String) second.getPayload(), ArtifactChunkResponse.class);
+            assertEquals(0, firstChunk.getOffset());
+            assertEquals(10, firstChunk.getTotal());
+            assertEquals("0123", new String(Base64Utils.decodeFromString(firstChunk.getData())));
+            assertEquals(4, secondChunk.getOffset());
+            assertEquals("4567", new String(Base64Utils.decodeFromString(secondChunk.getData())));
+            verify(entityResolver, times(1)).getDataByArtifactId(eq(artifact), any());
+        } finally {
+            connectorConfig.setPolicyNegotiation(true);
+        }
+    }
+
+    @Test
+    public void handleMessage_batchRequestAboveMaxArtifacts_skipRemainingArtifacts()
+            throws Exception {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        when(entityResolver.getDataByArtifactId(any(), any())).thenAnswer(
+                invocation -> new ByteArrayInputStream("0123".getBytes(StandardCharsets.UTF_8)));
+        final var maxArtifacts = payloadConfig.getBatchArtifacts();
+        connectorConfig.setPolicyNegotiation(false);
+        payloadConfig.setBatchArtifacts(2);
+
+        try {
+            /* ACT */
+            final var result = (BodyResponse<?>) handler.handleMessage((ArtifactRequestMessageImpl) message,
+                    getPayload("{\"artifacts\":[\"https://a\",\"https://b\",\"https://c\"]}"));
+
+            /* ASSERT */
+            final var batch = new ObjectMapper().readValue((String) result.getPayload(), ArtifactBatchResponse.class);
+            assertEquals(2, batch.getData().size());
+            assertEquals(List.of(URI.create("https://c")), batch.getSkipped());
+            verify(entityResolver, times(2)).getDataByArtifactId(any(), any());
+        } finally {
+            connectorConfig.setPolicyNegotiation(true);
+            payloadConfig.setBatchArtifacts(maxArtifacts);
+        }
+    }
+
+    @Test
+    public void handleMessage_batchRequestAboveMaxSize_skipRemainingArtifacts() throws Exception {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        when(entityResolver.getDataByArtifactId(any(), any())).thenAnswer(
+                invocation -> new ByteArrayInputStream("0123".getBytes(StandardCharsets.UTF_8)));
+        final var maxSize = payloadConfig.getBatchSize();
+        connectorConfig.setPolicyNegotiation(false);
+        payloadConfig.setBatchSize(DataSize.ofBytes(6));
+
+        try {
+            /* ACT */
+            final var result = (BodyResponse<?>) handler.handleMessage((ArtifactRequestMessageImpl) message,
+                    getPayload("{\"artifacts\":[\"https://a\",\"https://b\",\"https://c\"]}"));
+
+            /* ASSERT */
+            final var batch = new ObjectMapper().readValue((String) result.getPayload(), ArtifactBatchResponse.class);
+            assertEquals(List.of(URI.create("https://a")), List.copyOf(batch.getData().keySet()));
+            assertEquals(List.of(URI.create("https://b"), URI.create("https://c")), batch.getSkipped());
+            assertTrue(batch.getErrors().isEmpty());
+        } finally {
+            connectorConfig.setPolicyNegotiation(true);
+            payloadConfig.setBatchSize(maxSize);
+        }
+    }
+
+    @Test
+    public void handleMessage_batchRequestArtifactAboveMaxSize_returnError() throws Exception {
+        /* ARRANGE */
+        final var message = getArtifactRequestMessage();
+        when(entityResolver.getDataByArtifactId(any(), any())).thenAnswer(
+                invocation -> new ByteArrayInputStream("0123".getBytes(StandardCharsets.UTF_8)));
+        final var maxSize = payloadConfig.getBatchSize();
+        connectorConfig.setPolicyNegotiation(false);
+        payloadConfig.setBatchSize(DataSize.ofBytes(2));
+
+        try {
+            /* ACT */
+            final var result = (BodyResponse<?>) handler.handleMessage((ArtifactRequestMessageImpl) message,
+                    getPayload("{\"artifacts\":[\"https://a\",\"https://b\"]}"));
+
+            /* ASSERT */
+            final var batch = new ObjectMapper().readValue((String) result.getPayload(), ArtifactBatchResponse.class);
+            assertTrue(batch.getData().isEmpty());
+            assertEquals(2, batch.getErrors().size());
+            assertTrue(batch.getSkipped().isEmpty());
+        } finally {
+            connectorConfig.setPolicyNegotiation(true);
+            payloadConfig.setBatchSize(maxSize);
+        }
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private Message getArtifactRequestMessage() throws DatatypeConfigurationException {
+        final var calendar = new GregorianCalendar();
+        calendar.setTime(new Date());
+        final var xmlCalendar = DatatypeFactory.newInstance().newXMLGregorianCalendar(calendar);
+
+        return new ArtifactRequestMessageBuilder()
+                ._senderAgent_(URI.create("https://localhost:8080"))
+                ._issuerConnector_(URI.create("https://localhost:8080"))
+                ._securityToken_(new DynamicAttributeTokenBuilder()._tokenFormat_(TokenFormat.OTHER)._tokenValue_("").build())
+                ._modelVersion_("4.0.0")
+                ._issued_(xmlCalendar)
+                ._correlationMessage_(URI.create("https://somecorrelationMessage"))
+                ._requestedArtifact_(URI.create("https://someArtifact"))
+                .build();
+    }
+
+    private MessagePayloadImpl getPayload(final String payload) {
+        return new MessagePayloadImpl(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper());
+    }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.messages.handler;
+
+import java.net.URI;
+import java.util.List;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.isst.ids.framework.messaging.model.responses.BodyResponse;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.CatalogDesc;
+import io.dataspaceconnector.model.CatalogFactory;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.services.EntityResolver;
+import io.dataspaceconnector.services.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.services.resources.OfferedResourceService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class DescriptionRequestHandlerCatalogPageTest {
+
+    private static final URI CATALOG = URI.create("https://localhost/api/catalogs/"
+            + "550e8400-e29b-11d4-a716-446655440000");
+
+    private static final URI ISSUER = URI.create("https://localhost:8080");
+
+    private static final URI MESSAGE = URI.create("https://localhost/messages/1");
+
+    @MockBean
+    private EntityResolver entityResolver;
+
+    @MockBean
+    private OfferedResourceService offerService;
+
+    @MockBean
+    private IdsCatalogBuilder catalogBuilder;
+
+    @Autowired
+    private DescriptionRequestHandler handler;
+
+    @Test
+    public void constructResourceDescription_catalogWithPage_returnCatalogPage() {
+        /* ARRANGE */
+        final var catalog = new CatalogFactory().create(new CatalogDesc());
+        final var page = new PageImpl<OfferedResource>(List.of());
+        final var idsCatalog = Mockito.mock(ResourceCatalog.class);
+        Mockito.when(idsCatalog.toRdf()).thenReturn("page");
+        Mockito.doReturn(catalog).when(entityResolver).getEntityById(Mockito.any());
+        Mockito.doReturn(page).when(offerService).getAllByCatalog(Mockito.any(), Mockito.any());
+        Mockito.doReturn(idsCatalog).when(catalogBuilder).createPage(catalog, page);
+
+        /* ACT */
+        final var result = (BodyResponse<?>) handler.constructResourceDescription(
+                URI.create(CATALOG + "?page=2&size=5"), ISSUER, MESSAGE);
+
+        /* ASSERT */
+        assertEquals("page", result.getPayload());
+        Mockito.verify(offerService).getAllByCatalog(Mockito.eq(catalog.getId()),
+                Mockito.argThat((Pageable x) -> x.getPageNumber() == 2 && x.getPageSize() == 5));
+        Mockito.verify(entityResolver, Mockito.never()).getEntityAsRdfString(Mockito.any());
+    }
+
+    @Test
+    public void constructResourceDescription_catalogWithoutPage_returnWholeCatalog() {
+        /* ARRANGE */
+        final var catalog = new CatalogFactory().create(new CatalogDesc());
+        Mockito.doReturn(catalog).when(entityResolver).getEntityById(CATALOG);
+        Mockito.doReturn("catalog").when(entityResolver).getEntityAsRdfString(catalog);
+
+        /* ACT */
+        final var result = (BodyResponse<?>) handler.constructResourceDescription(
+                CATALOG, ISSUER, MESSAGE);
+
+        /* ASSERT */
+        assertEquals("catalog", result.getPayload());
+        Mockito.verify(offerService, Mockito.never()).getAllByCatalog(Mockito.any(),
+                Mockito.any());
+    }
+
+    @Test
+    public void constructResourceDescription_invalidPageSize_returnDefaultPageSize() {
+        /* ARRANGE */
+        final var catalog = new CatalogFactory().create(new CatalogDesc());
+        final var page = new PageImpl<OfferedResource>(List.of());
+        final var idsCatalog = Mockito.mock(ResourceCatalog.class);
+        Mockito.when(idsCatalog.toRdf()).thenReturn("page");
+        Mockito.doReturn(catalog).when(entityResolver).getEntityById(Mockito.any());
+        Mockito.doReturn(page).when(offerService).getAllByCatalog(Mockito.any(), Mockito.any());
+        Mockito.doReturn(idsCatalog).when(catalogBuilder).createPage(catalog, page);
+
+        /* ACT */
+        handler.constructResourceDescription(URI.create(CATALOG + "?page=0&size=many"),
+                ISSUER, MESSAGE);
+
+        /* ASSERT */
+        Mockito.verify(offerService).getAllByCatalog(Mockito.eq(catalog.getId()),
+                Mockito.argThat((Pageable x) -> x.getPageNumber() == 0 && x.getPageSize() > 0));
+    }
+}
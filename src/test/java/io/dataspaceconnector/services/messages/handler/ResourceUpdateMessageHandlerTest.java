@@ -28,15 +28,18 @@ import de.fraunhofer.iais.eis.ResourceUpdateMessageImpl;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.ids.jsonld.Serializer;
 import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.config.MessagePayloadConfiguration;
 import io.dataspaceconnector.services.EntityUpdateService;
 import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayloadImpl;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.BodyResponse;
 import de.fraunhofer.isst.ids.framework.messaging.model.responses.ErrorResponse;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.util.unit.DataSize;
 
 import javax.xml.datatype.DatatypeFactory;
 import java.io.ByteArrayInputStream;
@@ -59,6 +62,9 @@ class ResourceUpdateMessageHandlerTest {
     @Autowired
     ResourceUpdateMessageHandler handler;
 
+    @Autowired
+    MessagePayloadConfiguration payloadConfig;
+
     @Test
     public void handleMessage_nullMessage_returnBadRequest() {
         /* ARRANGE */
@@ -132,6 +138,28 @@ class ResourceUpdateMessageHandlerTest {
         assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
     }
 
+    @Test
+    public void handleMessage_payloadExceedsMaxSize_returnBadParametersResponse() {
+        /* ARRANGE */
+        final var message = getResourceUpdateMessage();
+        final var stream = new ByteArrayInputStream(new byte[2048]);
+        final var maxSize = payloadConfig.getResourceUpdate();
+        payloadConfig.setResourceUpdate(DataSize.ofKilobytes(1));
+
+        /* ACT */
+        final ErrorResponse result;
+        try {
+            result = (ErrorResponse) handler.handleMessage((ResourceUpdateMessageImpl) message,
+                    new MessagePayloadImpl(stream, new ObjectMapper()));
+        } finally {
+            payloadConfig.setResourceUpdate(maxSize);
+        }
+
+        /* ASSERT */
+        assertEquals(RejectionReason.BAD_PARAMETERS, result.getRejectionMessage().getRejectionReason());
+        Mockito.verify(updateService, Mockito.never()).updateResource(Mockito.any());
+    }
+
     @Test
     public void handleMessage_notIdsInPayload_returnInternalRecipientErrorResponseError() {
         /* ARRANGE */
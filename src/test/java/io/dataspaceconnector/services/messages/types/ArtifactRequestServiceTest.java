@@ -21,6 +21,8 @@ import de.fraunhofer.iais.eis.TokenFormat;
 import io.dataspaceconnector.model.messages.ArtifactRequestMessageDesc;
 import io.dataspaceconnector.services.ids.ConnectorService;
 import io.dataspaceconnector.services.ids.DeserializationService;
+import io.dataspaceconnector.services.messages.ConnectionProfileRegistry;
+import io.dataspaceconnector.services.messages.JsonPayloadMapper;
 import de.fraunhofer.isst.ids.framework.communication.http.IDSHttpService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -33,7 +35,7 @@ import java.net.URI;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest(classes = {ArtifactRequestService.class})
+@SpringBootTest(classes = {ArtifactRequestService.class, JsonPayloadMapper.class})
 class ArtifactRequestServiceTest {
 
     @MockBean
@@ -42,6 +44,9 @@ class ArtifactRequestServiceTest {
     @MockBean
     private IDSHttpService idsHttpService;
 
+    @MockBean
+    private ConnectionProfileRegistry profileRegistry;
+
     @MockBean
     private DeserializationService deserializationService;
 
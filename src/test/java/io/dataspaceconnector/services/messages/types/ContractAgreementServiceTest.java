@@ -21,6 +21,7 @@ import de.fraunhofer.iais.eis.TokenFormat;
 import io.dataspaceconnector.model.messages.ContractAgreementMessageDesc;
 import io.dataspaceconnector.services.ids.ConnectorService;
 import io.dataspaceconnector.services.ids.DeserializationService;
+import io.dataspaceconnector.services.messages.ConnectionProfileRegistry;
 import de.fraunhofer.isst.ids.framework.communication.http.IDSHttpService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -42,6 +43,9 @@ class ContractAgreementServiceTest {
     @MockBean
     private IDSHttpService idsHttpService;
 
+    @MockBean
+    private ConnectionProfileRegistry profileRegistry;
+
     @MockBean
     private DeserializationService deserializationService;
 
@@ -16,6 +16,7 @@
 package io.dataspaceconnector.services.resources;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -201,6 +202,66 @@ class CatalogServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> service.get(unknownUuid));
     }
 
+    /**************************************************************************
+     * createAll
+     *************************************************************************/
+
+    @Test
+    public void createAll_nullList_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> service.createAll(null));
+    }
+
+    @Test
+    public void createAll_validAndNullDesc_reportFailureByPosition() {
+        /* ARRANGE */
+        Mockito.when(repository.save(Mockito.any())).thenAnswer(this::saveAndFlushMock);
+        final var descs = new ArrayList<CatalogDesc>();
+        descs.add(catalogOneDesc);
+        descs.add(null);
+        descs.add(catalogTwoDesc);
+
+        /* ACT */
+        final var result = service.createAll(descs);
+
+        /* ASSERT */
+        assertEquals(2, result.getSucceeded().size());
+        assertEquals(catalogOne, result.getSucceeded().get(0));
+        assertEquals(catalogTwo, result.getSucceeded().get(2));
+        assertTrue(result.hasFailures());
+        assertTrue(result.getFailed().containsKey(1));
+        Mockito.verify(repository, Mockito.never()).saveAndFlush(Mockito.any());
+        Mockito.verify(repository, Mockito.times(1)).flush();
+    }
+
+    /**************************************************************************
+     * updateAll
+     *************************************************************************/
+
+    @Test
+    public void updateAll_nullMap_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> service.updateAll(null));
+    }
+
+    @Test
+    public void updateAll_unknownId_reportFailureById() {
+        /* ARRANGE */
+        final var unknownUuid = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        final var descs = new LinkedHashMap<UUID, CatalogDesc>();
+        descs.put(catalogOne.getId(), catalogOneDesc);
+        descs.put(unknownUuid, catalogTwoDesc);
+
+        /* ACT */
+        final var result = service.updateAll(descs);
+
+        /* ASSERT */
+        assertEquals(1, result.getSucceeded().size());
+        assertEquals(catalogOne, result.getSucceeded().get(catalogOne.getId()));
+        assertTrue(result.getFailed().containsKey(unknownUuid));
+        Mockito.verify(repository, Mockito.times(1)).flush();
+    }
+
     /**************************************************************************
      * get
      *************************************************************************/
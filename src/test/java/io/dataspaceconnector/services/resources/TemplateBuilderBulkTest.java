@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.services.resources;
+
+import io.dataspaceconnector.model.ArtifactDesc;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.RepresentationDesc;
+import io.dataspaceconnector.model.templates.ArtifactTemplate;
+import io.dataspaceconnector.model.templates.RepresentationTemplate;
+import io.dataspaceconnector.model.templates.ResourceTemplate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TemplateBuilderBulkTest {
+
+    @Autowired
+    private TemplateBuilder<OfferedResource, OfferedResourceDesc> builder;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void buildInBulk_moreRepresentationsAndArtifacts_sameNumberOfStatements() {
+        /* ARRANGE */
+        final var smallTemplate = createTemplate(1, 1);
+        final var largeTemplate = createTemplate(3, 3);
+        final var statistics = getStatistics();
+
+        /* ACT */
+        statistics.clear();
+        builder.buildInBulk(smallTemplate);
+        final var smallStatements = statistics.getPrepareStatementCount();
+        final var smallFlushes = statistics.getFlushCount();
+
+        statistics.clear();
+        builder.buildInBulk(largeTemplate);
+        final var largeStatements = statistics.getPrepareStatementCount();
+        final var largeFlushes = statistics.getFlushCount();
+
+        /* ASSERT */
+        assertTrue(smallStatements > 0);
+        assertEquals(smallStatements, largeStatements);
+        assertEquals(smallFlushes, largeFlushes);
+    }
+
+    @Test
+    public void buildInBulk_knownRemoteIds_updateInsteadOfCreate() {
+        /* ARRANGE */
+        final var template = createTemplate(2, 2);
+        final var first = builder.buildInBulk(template);
+        final var representations = countRepresentations();
+        final var artifacts = countArtifacts();
+
+        /* ACT */
+        final var second = builder.buildInBulk(template);
+
+        /* ASSERT */
+        assertEquals(representations, countRepresentations());
+        assertEquals(artifacts, countArtifacts());
+        assertEquals(first.getRepresentations().get(0).getId(),
+                second.getRepresentations().get(0).getId());
+    }
+
+    /**************************************************************************
+     * Utilities.
+     *************************************************************************/
+
+    private Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long countRepresentations() {
+        return representationService.getAll(Pageable.unpaged()).getTotalElements();
+    }
+
+    private long countArtifacts() {
+        return artifactService.getAll(Pageable.unpaged()).getTotalElements();
+    }
+
+    private ResourceTemplate<OfferedResourceDesc> createTemplate(final int numRepresentations,
+                                                                 final int numArtifacts) {
+        final var representations = new ArrayList<RepresentationTemplate>();
+        for (int i = 0; i < numRepresentations; i++) {
+            final var representationDesc = new RepresentationDesc();
+            representationDesc.setRemoteId(createRemoteId());
+            representationDesc.setMediaType("text/plain");
+
+            final var artifacts = new ArrayList<ArtifactTemplate>();
+            for (int j = 0; j < numArtifacts; j++) {
+                final var artifactDesc = new ArtifactDesc();
+                artifactDesc.setRemoteId(createRemoteId());
+                artifactDesc.setValue("value");
+                artifacts.add(new ArtifactTemplate(artifactDesc));
+            }
+
+            final var representation = new RepresentationTemplate(representationDesc);
+            representation.setArtifacts(artifacts);
+            representations.add(representation);
+        }
+
+        final var template = new ResourceTemplate<>(new OfferedResourceDesc());
+        template.setRepresentations(representations);
+        return template;
+    }
+
+    private URI createRemoteId() {
+        return URI.create("https://provider.com/" + UUID.randomUUID());
+    }
+}
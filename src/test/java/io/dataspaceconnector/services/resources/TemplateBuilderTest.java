@@ -15,14 +15,18 @@
  */
 package io.dataspaceconnector.services.resources;
 
+import java.util.List;
+
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
 import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.model.ContractDesc;
 import io.dataspaceconnector.model.ContractRuleDesc;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
 import io.dataspaceconnector.model.RequestedResource;
 import io.dataspaceconnector.model.templates.ArtifactTemplate;
+import io.dataspaceconnector.model.templates.ContractTemplate;
 import io.dataspaceconnector.model.templates.ResourceTemplate;
 import io.dataspaceconnector.model.templates.RuleTemplate;
 import lombok.SneakyThrows;
@@ -78,6 +82,34 @@ class TemplateBuilderTest {
         Mockito.verify(offeredResourceContractLinker, Mockito.atLeastOnce()).add(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    public void buildInBulk_ResourceTemplateNull_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> builder.buildInBulk(( ResourceTemplate<OfferedResourceDesc> ) null));
+    }
+
+    @Test
+    public void buildInBulk_ResourceTemplateWithContract_linkWithoutLinkers() {
+        /* ARRANGE */
+        final var ruleDesc = new ContractRuleDesc();
+        ruleDesc.setTitle("Some title");
+        final var contractTemplate = new ContractTemplate(new ContractDesc());
+        contractTemplate.setRules(List.of(new RuleTemplate(ruleDesc)));
+        final var template = new ResourceTemplate<>(new OfferedResourceDesc());
+        template.setContracts(List.of(contractTemplate));
+
+        /* ACT */
+        final var result = builder.buildInBulk(template);
+
+        /* ASSERT */
+        assertNotNull(result.getId());
+        assertEquals(1, result.getContracts().size());
+        assertEquals(1, result.getContracts().get(0).getRules().size());
+        assertEquals("Some title", result.getContracts().get(0).getRules().get(0).getTitle());
+        Mockito.verify(offeredResourceRepresentationLinker, Mockito.never()).add(Mockito.any(), Mockito.any());
+        Mockito.verify(offeredResourceContractLinker, Mockito.never()).add(Mockito.any(), Mockito.any());
+    }
+
     /**
      * ArtifactTemplate.
      */
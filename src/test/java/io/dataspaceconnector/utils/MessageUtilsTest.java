@@ -17,6 +17,7 @@ package io.dataspaceconnector.utils;
 
 import de.fraunhofer.iais.eis.ArtifactRequestMessage;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.DescriptionRequestMessage;
 import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
@@ -28,11 +29,17 @@ import de.fraunhofer.iais.eis.ResourceUpdateMessage;
 import de.fraunhofer.iais.eis.ResourceUpdateMessageBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.isst.ids.framework.messaging.model.messages.MessagePayloadImpl;
 import io.dataspaceconnector.exceptions.MessageEmptyException;
+import io.dataspaceconnector.exceptions.MessageRequestException;
+import io.dataspaceconnector.exceptions.PayloadTooLargeException;
 import io.dataspaceconnector.exceptions.VersionNotSupportedException;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 
@@ -41,6 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MessageUtilsTest {
 
@@ -360,6 +368,60 @@ class MessageUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> MessageUtils.extractPayloadFromMultipartMessage(null));
     }
 
+    @Test
+    public void getStreamAsString_payloadWithinLimit_returnPayload() throws IOException {
+        /* ARRANGE */
+        final var payload = getPayload("payload");
+
+        /* ACT */
+        final var result = MessageUtils.getStreamAsString(payload, 7);
+
+        /* ASSERT */
+        assertEquals("payload", result);
+    }
+
+    @Test
+    public void getStreamAsString_payloadExceedsLimit_throwPayloadTooLargeException() {
+        /* ARRANGE */
+        final var payload = getPayload("payload");
+
+        /* ACT & ASSERT */
+        assertThrows(PayloadTooLargeException.class,
+                () -> MessageUtils.getStreamAsString(payload, 6));
+    }
+
+    @Test
+    public void getPayloadAsString_payloadExceedsLimit_throwMessageRequestException() {
+        /* ARRANGE */
+        final var payload = getPayload("payload");
+
+        /* ACT */
+        final var result = assertThrows(MessageRequestException.class,
+                () -> MessageUtils.getPayloadAsString(payload, 6));
+
+        /* ASSERT */
+        assertTrue(result.getCause() instanceof PayloadTooLargeException);
+    }
+
+    @Test
+    public void getPayloadAsStream_readPastLimit_throwPayloadTooLargeException() throws IOException {
+        /* ARRANGE */
+        final var stream = MessageUtils.getPayloadAsStream(getPayload("payload"), 3);
+
+        /* ACT */
+        final var buffer = new byte[3];
+        assertEquals(3, stream.read(buffer));
+
+        /* ASSERT */
+        assertThrows(PayloadTooLargeException.class, stream::read);
+    }
+
+    private MessagePayloadImpl getPayload(final String content) {
+        return new MessagePayloadImpl(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper());
+    }
+
     private DescriptionRequestMessage getDescriptionRequestMessageWithRequestedElement() {
         return new DescriptionRequestMessageBuilder(messageId)
                 ._issued_(getGregorianNow())
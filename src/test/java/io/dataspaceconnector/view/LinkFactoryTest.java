@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.view;
+
+import java.util.UUID;
+
+import io.dataspaceconnector.controller.resources.RelationControllers;
+import io.dataspaceconnector.controller.resources.ResourceControllers;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@SpringBootTest(classes = {LinkFactory.class})
+public class LinkFactoryTest {
+
+    @Test
+    public void getSelfLink_controllerNull_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> LinkFactory.getSelfLink(UUID.randomUUID(), null));
+    }
+
+    @Test
+    public void getSelfLink_validInput_returnSameLinkAsLinkBuilder() {
+        /* ARRANGE */
+        final var entityId = UUID.randomUUID();
+        final var expected = linkTo(ResourceControllers.CatalogController.class)
+                .slash(entityId).withSelfRel();
+
+        /* ACT */
+        final var result =
+                LinkFactory.getSelfLink(entityId, ResourceControllers.CatalogController.class);
+
+        /* ASSERT */
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void expand_differentIds_returnSameLinksAsLinkBuilder() {
+        /* ARRANGE */
+        final var template = LinkFactory.template(
+                id -> linkTo(methodOn(RelationControllers.CatalogsToOfferedResources.class)
+                        .getResource(id, null, null)), "offers");
+        final var first = UUID.randomUUID();
+        final var second = UUID.randomUUID();
+
+        /* ACT */
+        final var firstLink = template.expand(first);
+        final var secondLink = template.expand(second);
+
+        /* ASSERT */
+        assertEquals(getOffersLink(first), firstLink.getHref());
+        assertEquals(getOffersLink(second), secondLink.getHref());
+        assertEquals("offers", secondLink.getRel().value());
+    }
+
+    private String getOffersLink(final UUID catalogId) {
+        return linkTo(methodOn(RelationControllers.CatalogsToOfferedResources.class)
+                .getResource(catalogId, null, null)).withSelfRel().getHref();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.view;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ViewMapperTest {
+
+    @Test
+    public void createTypeMap_allPropertiesMapped_mapEntity() {
+        /* ARRANGE */
+        final var entity = new Entity();
+        entity.setTitle("title");
+
+        /* ACT */
+        final var typeMap = ViewMapper.createTypeMap(Entity.class, View.class);
+        final var view = typeMap.map(entity);
+
+        /* ASSERT */
+        assertEquals("title", view.getTitle());
+    }
+
+    @Test
+    public void createTypeMap_unmappedProperty_throwValidationException() {
+        /* ACT && ASSERT */
+        assertThrows(ValidationException.class,
+                () -> ViewMapper.createTypeMap(Entity.class, ExtendedView.class));
+    }
+
+    @Getter
+    @Setter
+    public static class Entity {
+        private String title;
+    }
+
+    @Getter
+    @Setter
+    public static class View {
+        private String title;
+    }
+
+    @Getter
+    @Setter
+    public static class ExtendedView {
+        private String title;
+        private String unknown;
+    }
+}